@@ -0,0 +1,104 @@
+package io.quarkus.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines the classes generated at benchmark setup time (ArC beans, RESTEasy Reactive invokers, ...).
+ * <p>
+ * Generated classes usually live in the package of the application class they were generated for and may rely on
+ * package-private access, so the application packages are loaded child-first, from the bytes of the parent class loader.
+ * Everything else, including the benchmark classes themselves, is delegated to the parent.
+ */
+public final class BenchmarkClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Map<String, byte[]> generatedClasses;
+    private final List<String> applicationPackages;
+    private final Map<String, URL> serviceProviders = new HashMap<>();
+
+    /**
+     * @param parent the parent class loader
+     * @param generatedClasses the generated class bytes, keyed by binary class name
+     * @param applicationPackages the packages that are loaded child-first
+     */
+    public BenchmarkClassLoader(ClassLoader parent, Map<String, byte[]> generatedClasses, List<String> applicationPackages) {
+        super(parent);
+        this.generatedClasses = generatedClasses;
+        this.applicationPackages = applicationPackages;
+    }
+
+    /**
+     * Registers a service provider file, i.e. the content of {@code META-INF/services/<serviceName>}.
+     */
+    public BenchmarkClassLoader addServiceProvider(String serviceName, byte[] content) {
+        try {
+            Path file = Files.createTempFile(serviceName, ".services");
+            file.toFile().deleteOnExit();
+            Files.write(file, content);
+            serviceProviders.put("META-INF/services/" + serviceName, file.toUri().toURL());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                byte[] data = generatedClasses.get(name);
+                if (data == null && isApplicationClass(name)) {
+                    data = readParentClass(name);
+                }
+                if (data == null) {
+                    return super.loadClass(name, resolve);
+                }
+                loaded = defineClass(name, data, 0, data.length);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        URL serviceProvider = serviceProviders.get(name);
+        if (serviceProvider != null) {
+            return Collections.enumeration(List.of(serviceProvider));
+        }
+        return super.getResources(name);
+    }
+
+    private boolean isApplicationClass(String name) {
+        for (String applicationPackage : applicationPackages) {
+            if (name.startsWith(applicationPackage) && name.lastIndexOf('.') == applicationPackage.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] readParentClass(String name) {
+        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
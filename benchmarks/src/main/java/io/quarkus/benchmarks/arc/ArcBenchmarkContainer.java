@@ -0,0 +1,99 @@
+package io.quarkus.benchmarks.arc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import io.quarkus.benchmarks.BenchmarkClassLoader;
+
+/**
+ * Builds a bean deployment for the given classes with the ArC processor and boots the container, in a way similar to what
+ * Quarkus does at build time and at application startup.
+ */
+final class ArcBenchmarkContainer {
+
+    private final ClassLoader oldTccl;
+
+    private ArcBenchmarkContainer(ClassLoader oldTccl) {
+        this.oldTccl = oldTccl;
+    }
+
+    static ArcBenchmarkContainer start(Class<?>... beanClasses) {
+        ClassLoader parent = ArcBenchmarkContainer.class.getClassLoader();
+        Map<String, byte[]> generatedClasses = new HashMap<>();
+        Map<String, byte[]> serviceProviders = new HashMap<>();
+
+        IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(index(parent, beanClasses));
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName("benchmarks")
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(
+                        BeanArchives.buildComputingBeanArchiveIndex(parent, new ConcurrentHashMap<>(), index))
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                generatedClasses.put(resource.getFullyQualifiedName(), resource.getData());
+                                break;
+                            case SERVICE_PROVIDER:
+                                serviceProviders.put(resource.getName(), resource.getData());
+                                break;
+                            default:
+                                throw new IllegalArgumentException(resource.getType().toString());
+                        }
+                    }
+                })
+                .build();
+        try {
+            beanProcessor.process();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Unable to generate the bean deployment", e);
+        }
+
+        BenchmarkClassLoader classLoader = new BenchmarkClassLoader(parent, generatedClasses,
+                List.of(beanClasses[0].getPackageName()));
+        serviceProviders.forEach(classLoader::addServiceProvider);
+
+        ClassLoader oldTccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        Arc.initialize();
+        return new ArcBenchmarkContainer(oldTccl);
+    }
+
+    ArcContainer container() {
+        return Arc.container();
+    }
+
+    void stop() {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+    }
+
+    private static IndexView index(ClassLoader classLoader, Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return indexer.complete();
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.literal.NamedLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.benchmarks.arc.app.ApplicationScopedService;
+import io.quarkus.benchmarks.arc.app.RequestScopedService;
+import io.quarkus.benchmarks.arc.app.SingletonService;
+
+/**
+ * Measures the cost of invoking a normal scoped bean through its client proxy, i.e. the contextual instance lookup done by
+ * {@code ClientProxies}, compared to a {@code @Singleton} bean that is not proxied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ArcBenchmarkContainer container;
+    private ManagedContext requestContext;
+    private Service singleton;
+    private Service applicationScoped;
+    private Service requestScoped;
+
+    private int value = 42;
+
+    @Setup
+    public void start() {
+        container = ArcBenchmarkContainer.start(SingletonService.class, ApplicationScopedService.class,
+                RequestScopedService.class);
+        requestContext = container.container().requestContext();
+        singleton = lookup("singleton");
+        applicationScoped = lookup("application");
+        requestScoped = lookup("request");
+    }
+
+    @TearDown
+    public void stop() {
+        container.stop();
+    }
+
+    @Benchmark
+    public int singleton() {
+        return singleton.compute(value);
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScoped.compute(value);
+    }
+
+    @Benchmark
+    public int requestScoped(ActiveRequestContext activeRequestContext) {
+        return requestScoped.compute(value);
+    }
+
+    /**
+     * What a request pays when the request context is activated for it and a request scoped bean is used once.
+     */
+    @Benchmark
+    public int requestScopedWithActivation() {
+        requestContext.activate();
+        try {
+            return requestScoped.compute(value);
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private Service lookup(String name) {
+        return container.container().instance(Service.class, NamedLiteral.of(name)).get();
+    }
+
+    @State(Scope.Thread)
+    public static class ActiveRequestContext {
+
+        private ManagedContext requestContext;
+
+        @Setup(Level.Iteration)
+        public void activate(ClientProxyBenchmark benchmark) {
+            requestContext = benchmark.requestContext;
+            requestContext.activate();
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminate() {
+            requestContext.terminate();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.literal.NamedLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.benchmarks.arc.app.Logged;
+import io.quarkus.benchmarks.arc.app.LoggedInterceptor;
+import io.quarkus.benchmarks.arc.app.OneInterceptorService;
+import io.quarkus.benchmarks.arc.app.SingletonService;
+import io.quarkus.benchmarks.arc.app.ThreeInterceptorsService;
+import io.quarkus.benchmarks.arc.app.Timed;
+import io.quarkus.benchmarks.arc.app.TimedInterceptor;
+import io.quarkus.benchmarks.arc.app.Traced;
+import io.quarkus.benchmarks.arc.app.TracedInterceptor;
+
+/**
+ * Measures the cost of an intercepted business method invocation, i.e. the generated subclass, the
+ * {@code InterceptorInvocation} chain and the {@code InvocationContext} implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorBenchmark {
+
+    private ArcBenchmarkContainer container;
+    private Service notIntercepted;
+    private Service oneInterceptor;
+    private Service threeInterceptors;
+
+    private int value = 42;
+
+    @Setup
+    public void start() {
+        container = ArcBenchmarkContainer.start(SingletonService.class, OneInterceptorService.class,
+                ThreeInterceptorsService.class, Logged.class, LoggedInterceptor.class, Timed.class, TimedInterceptor.class,
+                Traced.class, TracedInterceptor.class);
+        notIntercepted = lookup("singleton");
+        oneInterceptor = lookup("one-interceptor");
+        threeInterceptors = lookup("three-interceptors");
+    }
+
+    @TearDown
+    public void stop() {
+        container.stop();
+    }
+
+    @Benchmark
+    public int notIntercepted() {
+        return notIntercepted.compute(value);
+    }
+
+    @Benchmark
+    public int oneInterceptor() {
+        return oneInterceptor.compute(value);
+    }
+
+    @Benchmark
+    public int threeInterceptors() {
+        return threeInterceptors.compute(value);
+    }
+
+    private Service lookup(String name) {
+        return container.container().instance(Service.class, NamedLiteral.of(name)).get();
+    }
+}
@@ -0,0 +1,10 @@
+package io.quarkus.benchmarks.arc;
+
+/**
+ * Implemented by the benchmarked beans, which are loaded by the benchmark class loader together with the generated classes.
+ */
+public interface Service {
+
+    int compute(int value);
+
+}
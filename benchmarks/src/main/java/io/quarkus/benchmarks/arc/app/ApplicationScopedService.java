@@ -0,0 +1,17 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+
+import io.quarkus.benchmarks.arc.Service;
+
+@ApplicationScoped
+@Named("application")
+public class ApplicationScopedService implements Service {
+
+    @Override
+    public int compute(int value) {
+        return value + 1;
+    }
+
+}
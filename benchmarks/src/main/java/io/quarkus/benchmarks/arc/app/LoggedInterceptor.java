@@ -0,0 +1,18 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Logged
+@Interceptor
+@Priority(1)
+public class LoggedInterceptor {
+
+    @AroundInvoke
+    Object log(InvocationContext context) throws Exception {
+        return context.proceed();
+    }
+
+}
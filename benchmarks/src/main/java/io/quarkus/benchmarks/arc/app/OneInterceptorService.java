@@ -0,0 +1,18 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import io.quarkus.benchmarks.arc.Service;
+
+@Singleton
+@Named("one-interceptor")
+public class OneInterceptorService implements Service {
+
+    @Logged
+    @Override
+    public int compute(int value) {
+        return value + 1;
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Named;
+
+import io.quarkus.benchmarks.arc.Service;
+
+@RequestScoped
+@Named("request")
+public class RequestScopedService implements Service {
+
+    @Override
+    public int compute(int value) {
+        return value + 1;
+    }
+
+}
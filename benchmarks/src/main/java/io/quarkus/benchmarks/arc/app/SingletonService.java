@@ -0,0 +1,17 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import io.quarkus.benchmarks.arc.Service;
+
+@Singleton
+@Named("singleton")
+public class SingletonService implements Service {
+
+    @Override
+    public int compute(int value) {
+        return value + 1;
+    }
+
+}
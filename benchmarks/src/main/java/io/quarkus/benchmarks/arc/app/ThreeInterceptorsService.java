@@ -0,0 +1,20 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import io.quarkus.benchmarks.arc.Service;
+
+@Singleton
+@Named("three-interceptors")
+public class ThreeInterceptorsService implements Service {
+
+    @Logged
+    @Timed
+    @Traced
+    @Override
+    public int compute(int value) {
+        return value + 1;
+    }
+
+}
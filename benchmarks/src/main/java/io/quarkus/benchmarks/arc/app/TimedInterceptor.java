@@ -0,0 +1,25 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Timed
+@Interceptor
+@Priority(2)
+public class TimedInterceptor {
+
+    long elapsed;
+
+    @AroundInvoke
+    Object time(InvocationContext context) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            elapsed += System.nanoTime() - start;
+        }
+    }
+
+}
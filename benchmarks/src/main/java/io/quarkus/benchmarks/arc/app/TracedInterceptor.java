@@ -0,0 +1,20 @@
+package io.quarkus.benchmarks.arc.app;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Traced
+@Interceptor
+@Priority(3)
+public class TracedInterceptor {
+
+    @AroundInvoke
+    Object trace(InvocationContext context) throws Exception {
+        // tracing interceptors typically name the span after the intercepted method
+        context.getContextData().put("span", context.getMethod().getName());
+        return context.proceed();
+    }
+
+}
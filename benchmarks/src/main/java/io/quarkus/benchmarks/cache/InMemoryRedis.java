@@ -0,0 +1,134 @@
+package io.quarkus.benchmarks.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.RequestImpl;
+import io.vertx.redis.client.impl.types.BulkType;
+import io.vertx.redis.client.impl.types.NumberType;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+/**
+ * A Redis client that answers synchronously from memory, so that the benchmarks measure the client side of the cache
+ * (key and value marshalling, Mutiny pipelines, connection handling) and not the network or the server.
+ * <p>
+ * The requests only expose their keys, so a {@code SET} stores the value given to the constructor. This is fine as long as
+ * the benchmarked cache always stores the same value.
+ */
+final class InMemoryRedis implements Redis {
+
+    private final Map<String, Response> entries = new ConcurrentHashMap<>();
+    private final Response value;
+    private final boolean retainEntries;
+    private final Connection connection = new Connection();
+
+    /**
+     * @param value the encoded value returned for the stored keys
+     * @param retainEntries whether {@code SET} actually stores the entries, use {@code false} to benchmark cache misses
+     */
+    InMemoryRedis(byte[] value, boolean retainEntries) {
+        this.value = BulkType.create(Buffer.buffer(value), false);
+        this.retainEntries = retainEntries;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return Future.succeededFuture(connection);
+    }
+
+    @Override
+    public Future<Response> send(Request request) {
+        Command command = request.command();
+        if (command == Command.GET || command == Command.GETEX) {
+            return Future.succeededFuture(entries.get(key(request)));
+        } else if (command == Command.SET) {
+            if (retainEntries) {
+                entries.put(key(request), value);
+            }
+            return Future.succeededFuture(SimpleStringType.OK);
+        } else if (command == Command.DEL) {
+            return Future.succeededFuture(NumberType.create(entries.remove(key(request)) != null ? 1 : 0));
+        } else if (command == Command.WATCH || command == Command.UNWATCH || command == Command.MULTI
+                || command == Command.EXEC) {
+            return Future.succeededFuture(SimpleStringType.OK);
+        }
+        return Future.failedFuture(new UnsupportedOperationException(command.toString()));
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> requests) {
+        return Future.failedFuture(new UnsupportedOperationException("batch"));
+    }
+
+    @Override
+    public void close() {
+        entries.clear();
+    }
+
+    private static String key(Request request) {
+        return new String(((RequestImpl) request).keys().get(0), StandardCharsets.UTF_8);
+    }
+
+    private final class Connection implements RedisConnection {
+
+        @Override
+        public Future<Response> send(Request request) {
+            return InMemoryRedis.this.send(request);
+        }
+
+        @Override
+        public Future<List<Response>> batch(List<Request> requests) {
+            return InMemoryRedis.this.batch(requests);
+        }
+
+        @Override
+        public Future<Void> close() {
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public boolean pendingQueueFull() {
+            return false;
+        }
+
+        @Override
+        public RedisConnection exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public RedisConnection handler(Handler<Response> handler) {
+            return this;
+        }
+
+        @Override
+        public RedisConnection pause() {
+            return this;
+        }
+
+        @Override
+        public RedisConnection resume() {
+            return this;
+        }
+
+        @Override
+        public RedisConnection fetch(long amount) {
+            return this;
+        }
+
+        @Override
+        public RedisConnection endHandler(Handler<Void> endHandler) {
+            return this;
+        }
+    }
+}
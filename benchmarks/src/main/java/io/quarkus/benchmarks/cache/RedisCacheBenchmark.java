@@ -0,0 +1,98 @@
+package io.quarkus.benchmarks.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+
+/**
+ * Measures the client side cost of the Redis cache for hits and misses, against an {@link InMemoryRedis in-memory} Redis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisCacheBenchmark {
+
+    private static final String KEY = "product-42";
+
+    @Param({ "string", "json" })
+    String valueType;
+
+    private Vertx vertx;
+    private RedisCacheImpl hits;
+    private RedisCacheImpl misses;
+    private Function<String, Object> valueLoader;
+
+    @Setup
+    public void setup() {
+        Object value = "string".equals(valueType) ? "Quarkus T-shirt" : new Product(42, "Quarkus T-shirt", 19.99);
+        valueLoader = new Function<>() {
+            @Override
+            public Object apply(String key) {
+                return value;
+            }
+        };
+
+        RedisCacheInfo cacheInfo = new RedisCacheInfo();
+        cacheInfo.name = "products";
+        cacheInfo.valueType = value.getClass().getName();
+        byte[] encoded = new Marshaller(value.getClass()).encode(value);
+
+        vertx = Vertx.vertx();
+        hits = new RedisCacheImpl(cacheInfo, vertx, Redis.newInstance(new InMemoryRedis(encoded, true)), () -> false);
+        misses = new RedisCacheImpl(cacheInfo, vertx, Redis.newInstance(new InMemoryRedis(encoded, false)), () -> false);
+        // populate the cache used for hits
+        hits.get(KEY, valueLoader).await().indefinitely();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public Object hit() {
+        return hits.get(KEY, valueLoader).await().indefinitely();
+    }
+
+    @Benchmark
+    public Object miss() {
+        return misses.get(KEY, valueLoader).await().indefinitely();
+    }
+
+    public static class Product {
+
+        public long id;
+        public String name;
+        public double price;
+
+        public Product() {
+        }
+
+        public Product(long id, String name, double price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+    }
+}
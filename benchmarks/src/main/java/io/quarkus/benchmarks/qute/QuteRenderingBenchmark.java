@@ -0,0 +1,130 @@
+package io.quarkus.benchmarks.qute;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Measures the rendering of a parsed template with loops, conditions and nested properties.
+ * <p>
+ * The {@code reflection} resolver is what a standalone Qute engine uses, the {@code generated} resolver mimics the value
+ * resolvers generated by the Quarkus extension at build time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuteRenderingBenchmark {
+
+    private static final String TEMPLATE = """
+            <html>
+            <head><title>{title}</title></head>
+            <body>
+            <h1>{title}</h1>
+            <ul>
+            {#for item in items}
+              <li class="{#if item_odd}odd{#else}even{/if}">{item_count}. {item.name} - {item.price}{#if item.price > 50} <b>expensive</b>{/if}</li>
+            {/for}
+            </ul>
+            <p>{items.size} items</p>
+            </body>
+            </html>
+            """;
+
+    @Param({ "10", "100" })
+    int items;
+
+    @Param({ "reflection", "generated" })
+    String valueResolver;
+
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if ("reflection".equals(valueResolver)) {
+            builder.addValueResolver(new ReflectionValueResolver());
+        } else {
+            builder.addValueResolver(new ItemValueResolver());
+        }
+        template = builder.build().parse(TEMPLATE);
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("Item " + i, BigDecimal.valueOf(i)));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("title", "Benchmark").data("items", data).render();
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final BigDecimal price;
+
+        public Item(String name, BigDecimal price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+    }
+
+    /**
+     * Resolves the {@link Item} properties without reflection, like the resolvers generated for template data classes.
+     */
+    static class ItemValueResolver implements ValueResolver {
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            Item item = (Item) context.getBase();
+            switch (context.getName()) {
+                case "name":
+                    return CompletedStage.of(item.getName());
+                case "price":
+                    return CompletedStage.of(item.getPrice());
+                default:
+                    return Results.notFound(context);
+            }
+        }
+    }
+}
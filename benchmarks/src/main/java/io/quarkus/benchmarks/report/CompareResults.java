@@ -0,0 +1,146 @@
+package io.quarkus.benchmarks.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files produced with {@code -rf json} and prints a Markdown table, e.g. to be pasted in a
+ * pull request:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar io.quarkus.benchmarks.report.CompareResults baseline.json candidate.json [threshold%]
+ * </pre>
+ *
+ * A benchmark is flagged as a regression when its score or its normalized allocation rate ({@code gc.alloc.rate.norm},
+ * only present when running with {@code -prof gc}) gets worse by more than the threshold (5% by default). The process
+ * exits with status 1 if at least one regression was found.
+ */
+public final class CompareResults {
+
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+    private static final double DEFAULT_THRESHOLD = 5.0;
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json> [threshold%]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> candidate = read(Path.of(args[1]));
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+        StringBuilder report = new StringBuilder();
+        report.append("| Benchmark | Unit | Baseline | Candidate | Delta ")
+                .append("| Alloc baseline (B/op) | Alloc candidate (B/op) | Alloc delta |  |\n");
+        report.append("|---|---|---:|---:|---:|---:|---:|---:|---|\n");
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result base = baseline.get(entry.getKey());
+            Result current = entry.getValue();
+            if (base == null) {
+                report.append(String.format(Locale.ROOT, "| %s | %s | - | %.3f | new | - | %s | - |  |\n", entry.getKey(),
+                        current.unit, current.score, format(current.allocations)));
+                continue;
+            }
+            double scoreDelta = delta(base.score, current.score);
+            double allocationDelta = delta(base.allocations, current.allocations);
+            // higher is better for throughput modes, lower is better for time based modes
+            boolean slower = current.higherIsBetter() ? -scoreDelta > threshold : scoreDelta > threshold;
+            boolean moreAllocations = allocationDelta > threshold;
+            boolean regression = slower || moreAllocations;
+            if (regression) {
+                regressions++;
+            }
+            report.append(String.format(Locale.ROOT, "| %s | %s | %.3f | %.3f | %s | %s | %s | %s | %s |\n",
+                    entry.getKey(), current.unit, base.score, current.score, formatDelta(scoreDelta),
+                    format(base.allocations), format(current.allocations), formatDelta(allocationDelta),
+                    regression ? ":warning: regression" : ""));
+        }
+        for (String removed : baseline.keySet()) {
+            if (!candidate.containsKey(removed)) {
+                report.append("| ").append(removed).append(" | | | removed | | | | | |\n");
+            }
+        }
+        System.out.print(report);
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%n%d regression(s) above %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode benchmark : new ObjectMapper().readTree(file.toFile())) {
+            JsonNode primary = benchmark.get("primaryMetric");
+            Result result = new Result(benchmark.get("mode").asText(), primary.get("score").asDouble(),
+                    primary.get("scoreUnit").asText(), allocations(benchmark.get("secondaryMetrics")));
+            results.put(key(benchmark), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode benchmark) {
+        String name = benchmark.get("benchmark").asText();
+        // drop the package, the class and method names are unique enough for a report
+        int methodIndex = name.lastIndexOf('.');
+        int classIndex = name.lastIndexOf('.', methodIndex - 1);
+        StringBuilder key = new StringBuilder(name.substring(classIndex + 1));
+        JsonNode params = benchmark.get("params");
+        if (params != null) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> param = it.next();
+                values.put(param.getKey(), param.getValue().asText());
+            }
+            key.append(values);
+        }
+        return key.toString();
+    }
+
+    private static double allocations(JsonNode secondaryMetrics) {
+        if (secondaryMetrics != null) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = secondaryMetrics.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> metric = it.next();
+                // older JMH versions prefix the profiler metrics with a middle dot
+                String name = metric.getKey().startsWith("·") ? metric.getKey().substring(1) : metric.getKey();
+                if (name.equals(ALLOC_RATE_NORM)) {
+                    return metric.getValue().get("score").asDouble();
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double delta(double base, double current) {
+        if (Double.isNaN(base) || Double.isNaN(current) || base == 0) {
+            return Double.NaN;
+        }
+        return (current - base) / base * 100;
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String formatDelta(double delta) {
+        return Double.isNaN(delta) ? "-" : String.format(Locale.ROOT, "%+.1f%%", delta);
+    }
+
+    private record Result(String mode, double score, String unit, double allocations) {
+
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+}
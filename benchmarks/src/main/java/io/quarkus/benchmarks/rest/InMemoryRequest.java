@@ -0,0 +1,76 @@
+package io.quarkus.benchmarks.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An HTTP request that never touches the network; {@link InMemoryRequestContext} serves it to the RESTEasy Reactive
+ * handler chain and records the response.
+ */
+public final class InMemoryRequest {
+
+    final String method;
+    final String path;
+    final String query;
+    final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    final byte[] body;
+
+    int status;
+    final Map<String, List<String>> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    byte[] responseBody;
+
+    private InMemoryRequest(String method, String path, String query, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.body = body;
+    }
+
+    public static InMemoryRequest get(String uri) {
+        return create("GET", uri, null);
+    }
+
+    public static InMemoryRequest post(String uri, String body) {
+        return create("POST", uri, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InMemoryRequest create(String method, String uri, byte[] body) {
+        int queryIndex = uri.indexOf('?');
+        if (queryIndex == -1) {
+            return new InMemoryRequest(method, uri, null, body);
+        }
+        return new InMemoryRequest(method, uri.substring(0, queryIndex), uri.substring(queryIndex + 1), body);
+    }
+
+    public InMemoryRequest header(String name, String value) {
+        headers.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+        return this;
+    }
+
+    /**
+     * Clears the recorded response so that the same request can be dispatched again.
+     */
+    InMemoryRequest reset() {
+        // like an HTTP server response, the status is only set explicitly when it is not 200
+        status = 200;
+        responseHeaders.clear();
+        responseBody = null;
+        return this;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public Map<String, List<String>> responseHeaders() {
+        return Collections.unmodifiableMap(responseHeaders);
+    }
+
+    public byte[] responseBody() {
+        return responseBody;
+    }
+}
@@ -0,0 +1,437 @@
+package io.quarkus.benchmarks.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context that serves an {@link InMemoryRequest}, modelled after the Vert.x request context but without any I/O,
+ * so that a benchmark only measures the handler chain: routing, parameter extraction, invocation and serialization.
+ * Everything runs on the calling thread.
+ */
+final class InMemoryRequestContext extends ResteasyReactiveRequestContext
+        implements ServerHttpRequest, ServerHttpResponse {
+
+    private static final Executor CALLER_RUNS = Runnable::run;
+
+    private final InMemoryRequest request;
+    private Map<String, List<String>> queryParams;
+    private ReadCallback readCallback;
+    private boolean requestEnded;
+    private boolean responseEnded;
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    private ByteArrayOutputStream chunks;
+
+    InMemoryRequestContext(Deployment deployment, InMemoryRequest request, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.request = request.reset();
+        this.requestEnded = request.body == null;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return CALLER_RUNS;
+    }
+
+    @Override
+    public Executor getContextExecutor() {
+        return CALLER_RUNS;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        return () -> {
+        };
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        return false;
+    }
+
+    @Override
+    protected void setQueryParamsFrom(String uri) {
+        int queryIndex = uri.indexOf('?');
+        queryParams = queryIndex == -1 ? Collections.emptyMap() : decodeQuery(uri.substring(queryIndex + 1));
+    }
+
+    // ServerHttpRequest
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        List<String> values = request.headers.get(name.toString());
+        return values != null ? values.get(0) : null;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        List<Map.Entry<String, String>> all = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : request.headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                all.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), value));
+            }
+        }
+        return all;
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        List<String> values = request.headers.get(name);
+        return values != null ? values : Collections.emptyList();
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return request.headers.containsKey(accept.toString());
+    }
+
+    @Override
+    public String getRequestPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return request.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        String uri = "http://localhost" + request.path;
+        return request.query != null ? uri + "?" + request.query : uri;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        return "localhost";
+    }
+
+    @Override
+    public void closeConnection() {
+        responseEnded = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = queryParams().get(name);
+        return values != null ? values.get(0) : null;
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = queryParams().get(name);
+        return values != null ? values : Collections.emptyList();
+    }
+
+    @Override
+    public String query() {
+        return request.query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return queryParams().keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return requestEnded;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(request.body != null ? request.body : new byte[0]);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        if (readCallback != null && !requestEnded) {
+            // the whole body is available at once, deliver it like a single network read
+            requestEnded = true;
+            readCallback.data(ByteBuffer.wrap(request.body));
+            readCallback.done();
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        this.readCallback = callback;
+        return this;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType == InMemoryRequest.class) {
+            return (T) request;
+        } else if (theType == ResteasyReactiveRequestContext.class) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    // ServerHttpResponse
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!responseEnded) {
+            request.status = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        return end((byte[]) null);
+    }
+
+    @Override
+    public boolean headWritten() {
+        return responseEnded || chunks != null;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        if (!responseEnded) {
+            commit();
+            if (chunks != null) {
+                if (data != null) {
+                    chunks.writeBytes(data);
+                }
+                data = chunks.toByteArray();
+            }
+            request.responseBody = data;
+            responseEnded = true;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        request.responseHeaders.computeIfAbsent(name.toString(), k -> new ArrayList<>(1)).add(value.toString());
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value.toString());
+        request.responseHeaders.put(name.toString(), values);
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        List<String> list = new ArrayList<>();
+        for (CharSequence value : values) {
+            list.add(value.toString());
+        }
+        request.responseHeaders.put(name.toString(), list);
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        List<Map.Entry<String, String>> all = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : request.responseHeaders.entrySet()) {
+            for (String value : entry.getValue()) {
+                all.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), value));
+            }
+        }
+        return all;
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        List<String> values = request.responseHeaders.get(name);
+        return values != null ? values.get(0) : null;
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        request.responseHeaders.remove(name);
+    }
+
+    @Override
+    public boolean closed() {
+        return responseEnded;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        write(data);
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        if (chunks == null) {
+            chunks = new ByteArrayOutputStream();
+        }
+        chunks.writeBytes(data);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                InMemoryRequestContext.this.write(new byte[] { (byte) b });
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                InMemoryRequestContext.this.write(Arrays.copyOfRange(b, off, off + len));
+            }
+
+            @Override
+            public void close() {
+                end();
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        this.preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        onDrain.run();
+        return this;
+    }
+
+    private void commit() {
+        if (preCommitTask != null) {
+            Consumer<ResteasyReactiveRequestContext> task = preCommitTask;
+            preCommitTask = null;
+            task.accept(this);
+        }
+    }
+
+    private Map<String, List<String>> queryParams() {
+        if (queryParams == null) {
+            queryParams = request.query == null ? Collections.emptyMap() : decodeQuery(request.query);
+        }
+        return queryParams;
+    }
+
+    private static Map<String, List<String>> decodeQuery(String query) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        int start = 0;
+        while (start < query.length()) {
+            int end = query.indexOf('&', start);
+            if (end == -1) {
+                end = query.length();
+            }
+            int eq = query.indexOf('=', start);
+            String name;
+            String value;
+            if (eq == -1 || eq > end) {
+                name = query.substring(start, end);
+                value = "";
+            } else {
+                name = query.substring(start, eq);
+                value = query.substring(eq + 1, end);
+            }
+            params.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), k -> new ArrayList<>(1))
+                    .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+            start = end + 1;
+        }
+        return params;
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.benchmarks.rest;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+final class InMemoryRequestContextFactory implements RequestContextFactory {
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        return new InMemoryRequestContext(deployment, (InMemoryRequest) context, requestContext, handlerChain,
+                abortHandlerChain);
+    }
+}
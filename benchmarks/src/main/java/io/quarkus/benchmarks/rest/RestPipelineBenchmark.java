@@ -0,0 +1,136 @@
+package io.quarkus.benchmarks.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Indexer;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.util.GeneratedClass;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.benchmarks.BenchmarkClassLoader;
+import io.quarkus.benchmarks.rest.app.GreetingResource;
+
+/**
+ * Measures the RESTEasy Reactive server handler chain (routing, parameter extraction, invocation, message body
+ * writing) for a handful of typical endpoints, without the HTTP layer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestPipelineBenchmark {
+
+    private ResteasyReactiveDeploymentManager.RunnableApplication application;
+    private RestInitialHandler initialHandler;
+    private ClassLoader originalTccl;
+
+    @Setup
+    public void setup() throws Exception {
+        Indexer indexer = new Indexer();
+        index(indexer, GreetingResource.class);
+        ResteasyReactiveDeploymentManager.ScanResult scanned = ResteasyReactiveDeploymentManager.start(indexer.complete())
+                .setSingleDefaultProduces(true)
+                .scan();
+
+        Map<String, byte[]> generatedClasses = new HashMap<>();
+        for (GeneratedClass generatedClass : scanned.getGeneratedClasses()) {
+            generatedClasses.put(generatedClass.getName(), generatedClass.getData());
+        }
+        ClassLoader classLoader = new BenchmarkClassLoader(RestPipelineBenchmark.class.getClassLoader(), generatedClasses,
+                List.of(GreetingResource.class.getPackageName()));
+        originalTccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+
+        ResteasyReactiveDeploymentManager.PreparedApplication prepared = scanned.prepare(classLoader,
+                ReflectiveContextInjectedBeanFactory.STRING_FACTORY);
+        prepared.addScannedSerializers();
+        prepared.addBuiltinSerializers();
+        DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                System.getProperty("java.io.tmpdir"), List.of(), StandardCharsets.UTF_8, Optional.empty(), 2048, 1000);
+        application = prepared.createApplication(runtimeConfiguration, new InMemoryRequestContextFactory(), Runnable::run);
+        initialHandler = application.getInitialHandler();
+
+        // fail fast rather than measuring error handling
+        Requests requests = new Requests();
+        check(plainText(requests), "hello");
+        check(pathAndQueryParams(requests), "hi quarkus");
+        check(postBody(requests), "ping");
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+        Thread.currentThread().setContextClassLoader(originalTccl);
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+
+        final InMemoryRequest plainText = InMemoryRequest.get("/greeting")
+                .header("Accept", "text/plain");
+        final InMemoryRequest pathAndQueryParams = InMemoryRequest.get("/greeting/quarkus?greeting=hi")
+                .header("Accept", "text/plain");
+        final InMemoryRequest postBody = InMemoryRequest.post("/greeting", "ping")
+                .header("Content-Type", "text/plain")
+                .header("Content-Length", "4");
+    }
+
+    @Benchmark
+    public byte[] plainText(Requests requests) {
+        return dispatch(requests.plainText);
+    }
+
+    @Benchmark
+    public byte[] pathAndQueryParams(Requests requests) {
+        return dispatch(requests.pathAndQueryParams);
+    }
+
+    @Benchmark
+    public byte[] postBody(Requests requests) {
+        return dispatch(requests.postBody);
+    }
+
+    private byte[] dispatch(InMemoryRequest request) {
+        initialHandler.beginProcessing(request);
+        if (request.status() != 200) {
+            throw new IllegalStateException("Unexpected status " + request.status());
+        }
+        return request.responseBody();
+    }
+
+    private static void check(byte[] body, String expected) {
+        String actual = body != null ? new String(body, StandardCharsets.UTF_8) : null;
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Expected '" + expected + "' but got '" + actual + "'");
+        }
+    }
+
+    private static void index(Indexer indexer, Class<?> clazz) throws IOException {
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(in);
+        }
+    }
+}
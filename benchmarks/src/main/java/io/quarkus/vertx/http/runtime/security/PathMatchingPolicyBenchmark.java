@@ -0,0 +1,104 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vertx.http.runtime.PolicyConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+
+/**
+ * Measures the resolution of the HTTP security policies configured with {@code quarkus.http.auth.permission.*}
+ * for a request path and method, like a multi-tenant gateway with hundreds of permissions would do.
+ * <p>
+ * The permissions mix exact paths, prefix paths, paths with an inner wildcard, and method specific permissions.
+ * The {@code DELETE} requests are mostly denied because no permission has been declared for the method.
+ * This benchmark lives in the policy package because the path matching policy is not part of the public API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathMatchingPolicyBenchmark {
+
+    @Param({ "500" })
+    int permissions;
+
+    @Param({ "GET", "DELETE" })
+    String method;
+
+    private AbstractPathMatchingHttpSecurityPolicy policy;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Map<String, PolicyMappingConfig> permissionConfig = new HashMap<>();
+        paths = new String[permissions];
+        for (int i = 0; i < permissions; i++) {
+            String tenant = "/tenant" + i;
+            switch (i % 5) {
+                case 0:
+                    permissionConfig.put("p" + i, permission("admin", tenant + "/admin/*"));
+                    paths[i] = tenant + "/admin/users";
+                    break;
+                case 1:
+                    permissionConfig.put("p" + i, permission("authenticated", tenant + "/api/*/orders", "GET"));
+                    paths[i] = tenant + "/api/v1/orders";
+                    break;
+                case 2:
+                    permissionConfig.put("p" + i, permission("authenticated", tenant + "/api/items", "GET", "POST"));
+                    paths[i] = tenant + "/api/items";
+                    break;
+                case 3:
+                    permissionConfig.put("p" + i, permission("permit", tenant + "/public/*"));
+                    paths[i] = tenant + "/public/logo.png";
+                    break;
+                default:
+                    permissionConfig.put("p" + i, permission("authenticated", tenant + "/*", "GET", "PUT"));
+                    paths[i] = tenant + "/profile";
+            }
+        }
+        PolicyConfig admin = new PolicyConfig();
+        admin.rolesAllowed = List.of("admin");
+        admin.roles = Map.of();
+        admin.permissions = Map.of();
+        // no policy bean is installed
+        policy = new AbstractPathMatchingHttpSecurityPolicy(permissionConfig, Map.of("admin", admin), "/", List.of(),
+                PolicyMappingConfig.AppliesTo.ALL);
+    }
+
+    @Benchmark
+    public List<HttpSecurityPolicy> resolvePolicies() {
+        int index = next;
+        next = index + 1 == paths.length ? 0 : index + 1;
+        return policy.getHttpSecurityPolicies(paths[index], method);
+    }
+
+    private static PolicyMappingConfig permission(String policy, String path, String... methods) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.paths = Optional.of(List.of(path));
+        config.methods = methods.length == 0 ? Optional.empty() : Optional.of(List.of(methods));
+        config.authMechanism = Optional.empty();
+        config.appliesTo = PolicyMappingConfig.AppliesTo.ALL;
+        return config;
+    }
+}
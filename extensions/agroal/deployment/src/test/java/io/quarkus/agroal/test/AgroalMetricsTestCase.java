@@ -10,6 +10,7 @@
 import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Assertions;
@@ -44,8 +45,18 @@ public void testMetricsOfDefaultDS() throws SQLException {
         Gauge<?> maxUsed = registry.getGauges()
                 .get(new MetricID("agroal.max.used.count", new Tag("datasource", "default")));
 
+        SimpleTimer acquisitionTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.acquisition.time", new Tag("datasource", "default")));
+        Counter cacheHits = registry.getCounters()
+                .get(new MetricID("agroal.connection.cache.hit.count", new Tag("datasource", "default")));
+        Counter cacheMisses = registry.getCounters()
+                .get(new MetricID("agroal.connection.cache.miss.count", new Tag("datasource", "default")));
+
         Assertions.assertNotNull(acquireCount, "Agroal metrics should be registered eagerly");
         Assertions.assertNotNull(maxUsed, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(acquisitionTime, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(cacheHits, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(cacheMisses, "Agroal metrics should be registered eagerly");
 
         try (Connection connection = defaultDS.getConnection()) {
             try (Statement statement = connection.createStatement()) {
@@ -55,6 +66,10 @@ public void testMetricsOfDefaultDS() throws SQLException {
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+        Assertions.assertEquals(1L, acquisitionTime.getCount());
+        // the first acquisition of a thread cannot be served from the connection cache
+        Assertions.assertEquals(0L, cacheHits.getCount());
+        Assertions.assertEquals(1L, cacheMisses.getCount());
     }
 
     @Test
@@ -0,0 +1,28 @@
+package io.quarkus.agroal.runtime;
+
+/**
+ * How the pool caches the last connection used by a thread, so that acquiring a connection again
+ * does not go through the shared, contended, connection list.
+ */
+public enum ConnectionCacheStrategy {
+
+    /**
+     * Cache a connection per thread for the Vert.x and JBoss threads only, i.e. threads which have a
+     * lifecycle controlled by Quarkus. Virtual threads always go through the shared connection list.
+     * This is the default.
+     */
+    THREAD_LOCAL,
+
+    /**
+     * Same as {@link #THREAD_LOCAL} for platform threads. In addition, connections used by virtual threads
+     * are cached in a fixed number of lock-free slots (a few per CPU core), selected from the thread identity.
+     * As virtual threads are usually short-lived, a connection returned by a virtual thread is reused by the
+     * next virtual threads mapped to the same slot.
+     */
+    STRIPED,
+
+    /**
+     * Do not cache connections; every acquisition goes through the shared connection list.
+     */
+    NONE
+}
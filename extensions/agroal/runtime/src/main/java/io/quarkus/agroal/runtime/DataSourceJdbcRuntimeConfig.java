@@ -131,6 +131,17 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("true")
     boolean poolingEnabled();
 
+    /**
+     * How connections are cached for the threads acquiring them repeatedly, which avoids going through the shared
+     * connection list of the pool.
+     * <p>
+     * By default, only platform threads cache connections. The {@code striped} strategy also caches connections for
+     * virtual threads, e.g. for methods annotated with {@code @RunOnVirtualThread}, using a fixed number of slots shared
+     * by all virtual threads. Use {@code none} to disable caching.
+     */
+    @WithDefault("thread-local")
+    ConnectionCacheStrategy connectionCache();
+
     /**
      * Require an active transaction when acquiring a connection. Recommended for production.
      * WARNING: Some extensions acquire connections without holding a transaction for things like schema updates and schema
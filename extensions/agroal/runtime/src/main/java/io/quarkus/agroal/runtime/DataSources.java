@@ -28,6 +28,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -41,6 +42,7 @@
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AgroalAcquisitionMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -83,6 +85,7 @@ public class DataSources {
     private final Instance<AgroalOpenTelemetryWrapper> agroalOpenTelemetryWrapper;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AgroalAcquisitionMetrics> acquisitionMetrics = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -147,6 +150,13 @@ public AgroalDataSource apply(String s) {
         });
     }
 
+    /**
+     * @return the acquisition metrics of the given datasource, or {@code null} if metrics are disabled for it
+     */
+    public AgroalAcquisitionMetrics getAcquisitionMetrics(String dataSourceName) {
+        return acquisitionMetrics.get(dataSourceName);
+    }
+
     @PostConstruct
     public void start() {
         for (String dataSourceName : agroalDataSourceSupport.entries.keySet()) {
@@ -267,15 +277,14 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
         if (agroalDataSourceSupport.disableSslSupport) {
             agroalConnectionConfigurer.disableSslSupport(resolvedDbKind, dataSourceConfiguration);
         }
-        //we use a custom cache for two reasons:
-        //fast thread local cache should be faster
-        //and it prevents a thread local leak
-        try {
-            Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
-        } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+        AgroalAcquisitionMetrics acquisitionMetrics = isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent)
+                ? new AgroalAcquisitionMetrics()
+                : null;
+        ConnectionCache connectionCache = createConnectionCache(dataSourceJdbcRuntimeConfig.connectionCache());
+        if (acquisitionMetrics != null) {
+            connectionCache = acquisitionMetrics.meter(connectionCache);
         }
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -298,6 +307,11 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
             dataSource.setPoolInterceptors(interceptorList);
         }
 
+        if (acquisitionMetrics != null) {
+            dataSource = acquisitionMetrics.meter(dataSource);
+            this.acquisitionMetrics.put(dataSourceName, acquisitionMetrics);
+        }
+
         if (dataSourceJdbcBuildTimeConfig.telemetry() && dataSourceJdbcRuntimeConfig.telemetry().orElse(true)) {
             // activate OpenTelemetry JDBC instrumentation by wrapping AgroalDatasource
             // use an optional CDI bean as we can't reference optional OpenTelemetry classes here
@@ -307,6 +321,35 @@ public AgroalDataSource doCreateDataSource(String dataSourceName, boolean failIf
         return dataSource;
     }
 
+    private boolean isMetricsEnabled(DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig, boolean mpMetricsPresent) {
+        if (dataSourceJdbcBuildTimeConfig.enableMetrics().isPresent()) {
+            return dataSourceJdbcBuildTimeConfig.enableMetrics().get();
+        }
+        // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
+        return dataSourcesBuildTimeConfig.metricsEnabled() && mpMetricsPresent;
+    }
+
+    private static ConnectionCache createConnectionCache(ConnectionCacheStrategy strategy) {
+        if (strategy == ConnectionCacheStrategy.NONE) {
+            return ConnectionCache.none();
+        }
+        //we use a custom cache for two reasons:
+        //fast thread local cache should be faster
+        //and it prevents a thread local leak
+        ConnectionCache threadLocalCache;
+        try {
+            Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
+            threadLocalCache = new QuarkusNettyConnectionCache();
+        } catch (ClassNotFoundException e) {
+            threadLocalCache = new QuarkusSimpleConnectionCache();
+        }
+        if (strategy == ConnectionCacheStrategy.STRIPED) {
+            //virtual threads never hit the thread local cache, see QuarkusStripedConnectionCache
+            return new QuarkusStripedConnectionCache(threadLocalCache);
+        }
+        return threadLocalCache;
+    }
+
     private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
             AgroalConnectionPoolConfigurationSupplier poolConfiguration,
             AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver, String jdbcUrl,
@@ -345,12 +388,7 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         }
 
         // metrics
-        if (dataSourceJdbcBuildTimeConfig.enableMetrics().isPresent()) {
-            dataSourceConfiguration.metricsEnabled(dataSourceJdbcBuildTimeConfig.enableMetrics().get());
-        } else {
-            // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
-            dataSourceConfiguration.metricsEnabled(dataSourcesBuildTimeConfig.metricsEnabled() && mpMetricsPresent);
-        }
+        dataSourceConfiguration.metricsEnabled(isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent));
 
         // Authentication
         if (dataSourceRuntimeConfig.username().isPresent()) {
@@ -0,0 +1,119 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache that also works for virtual threads.
+ * <p>
+ * Caching per thread does not help virtual threads: they are usually created per task, and there can be
+ * thousands of them, so a thread local would rarely be hit and would retain connections handlers.
+ * Instead, connections returned by virtual threads are kept in a fixed array of slots and the slot is
+ * picked from the thread id. Taking a connection from a slot clears it, and the connection goes back to
+ * the slot when returned to the pool, so a slot behaves like the thread local cache of a platform thread,
+ * but shared by the virtual threads mapped to it.
+ * <p>
+ * All operations are lock-free: a slot is read and cleared with a single atomic swap, and the
+ * {@link Acquirable#acquire()} CAS guarantees that a connection is never handed to two threads, even if it
+ * was concurrently acquired from the shared connection list.
+ * <p>
+ * Platform threads are delegated to the thread local cache.
+ */
+class QuarkusStripedConnectionCache implements ConnectionCache {
+
+    /**
+     * {@code Thread.isVirtual()} only exists on Java 21+, we look it up once to keep supporting older JVMs.
+     */
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    /**
+     * Distance between two used slots in the array, so that two slots never share a cache line.
+     */
+    private static final int STRIDE = 16;
+
+    private final ConnectionCache platformThreadCache;
+    private final Predicate<Thread> stripedThreads;
+    private final AtomicReferenceArray<Acquirable> slots;
+    private final int mask;
+
+    QuarkusStripedConnectionCache(ConnectionCache platformThreadCache) {
+        this(platformThreadCache, Runtime.getRuntime().availableProcessors() * 2, QuarkusStripedConnectionCache::isVirtual);
+    }
+
+    /**
+     * @param platformThreadCache the cache used by the threads not matching {@code stripedThreads}
+     * @param minSlots the minimum number of slots, rounded up to a power of two
+     * @param stripedThreads the threads using the slots
+     */
+    QuarkusStripedConnectionCache(ConnectionCache platformThreadCache, int minSlots, Predicate<Thread> stripedThreads) {
+        this.platformThreadCache = platformThreadCache;
+        this.stripedThreads = stripedThreads;
+        int slotCount = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount * STRIDE);
+        this.mask = slotCount - 1;
+    }
+
+    @Override
+    public Acquirable get() {
+        Thread thread = Thread.currentThread();
+        if (!stripedThreads.test(thread)) {
+            return platformThreadCache.get();
+        }
+        Acquirable acquirable = slots.getAndSet(slot(thread), null);
+        return acquirable != null && acquirable.acquire() ? acquirable : null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        Thread thread = Thread.currentThread();
+        if (!stripedThreads.test(thread)) {
+            platformThreadCache.put(acquirable);
+            return;
+        }
+        slots.set(slot(thread), acquirable);
+    }
+
+    @Override
+    public void reset() {
+        platformThreadCache.reset();
+        for (int i = 0; i < slots.length(); i += STRIDE) {
+            slots.set(i, null);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private int slot(Thread thread) {
+        return slot(thread.getId());
+    }
+
+    int slot(long threadId) {
+        // thread ids are sequential: spread them with the golden ratio multiplier (Fibonacci hashing)
+        int hash = (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32);
+        return (hash & mask) * STRIDE;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ConnectionBuilder;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.ShardingKeyBuilder;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Collects the connection acquisition latency and the connection cache efficiency of a datasource,
+ * which Agroal does not expose: its own metrics only provide the average and maximum blocking time.
+ * <p>
+ * The datasource is created before the metrics are registered, so the timer is attached later on, and
+ * acquisitions happening in between are not recorded.
+ */
+public final class AgroalAcquisitionMetrics {
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder acquisitionTimer;
+
+    /**
+     * @return a datasource recording the time spent in {@link AgroalDataSource#getConnection()} of the given datasource
+     */
+    public AgroalDataSource meter(AgroalDataSource dataSource) {
+        return new MeteredDataSource(dataSource);
+    }
+
+    /**
+     * @return a connection cache counting the hits and misses of the given cache
+     */
+    public ConnectionCache meter(ConnectionCache cache) {
+        return new ConnectionCache() {
+            @Override
+            public Acquirable get() {
+                Acquirable acquirable = cache.get();
+                if (acquirable != null) {
+                    cacheHits.increment();
+                } else {
+                    cacheMisses.increment();
+                }
+                return acquirable;
+            }
+
+            @Override
+            public void put(Acquirable acquirable) {
+                cache.put(acquirable);
+            }
+
+            @Override
+            public void reset() {
+                cache.reset();
+            }
+        };
+    }
+
+    private void recordAcquisition(long startNanos) {
+        MetricsFactory.TimeRecorder timer = acquisitionTimer;
+        if (timer != null && startNanos != 0) {
+            timer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void setAcquisitionTimer(MetricsFactory.TimeRecorder acquisitionTimer) {
+        this.acquisitionTimer = acquisitionTimer;
+    }
+
+    long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Times each acquisition around the call to the pool, so no per-thread state is needed to correlate its start
+     * and end, which would not suit virtual threads.
+     */
+    private final class MeteredDataSource implements AgroalDataSource {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AgroalDataSource delegate;
+
+        MeteredDataSource(AgroalDataSource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            long start = acquisitionTimer != null ? System.nanoTime() : 0;
+            Connection connection = delegate.getConnection();
+            recordAcquisition(start);
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            long start = acquisitionTimer != null ? System.nanoTime() : 0;
+            Connection connection = delegate.getConnection(username, password);
+            recordAcquisition(start);
+            return connection;
+        }
+
+        @Override
+        public AgroalDataSourceConfiguration getConfiguration() {
+            return delegate.getConfiguration();
+        }
+
+        @Override
+        public AgroalDataSourceMetrics getMetrics() {
+            return delegate.getMetrics();
+        }
+
+        @Override
+        public void flush(FlushMode mode) {
+            delegate.flush(mode);
+        }
+
+        @Override
+        public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+            delegate.setPoolInterceptors(interceptors);
+        }
+
+        @Override
+        public List<AgroalPoolInterceptor> getPoolInterceptors() {
+            return delegate.getPoolInterceptors();
+        }
+
+        @Override
+        public boolean isHealthy(boolean newConnection) throws SQLException {
+            return delegate.isHealthy(newConnection);
+        }
+
+        @Override
+        public ConnectionBuilder createConnectionBuilder() throws SQLException {
+            return delegate.createConnectionBuilder();
+        }
+
+        @Override
+        public ShardingKeyBuilder createShardingKeyBuilder() throws SQLException {
+            return delegate.createShardingKeyBuilder();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() throws SQLException {
+            return delegate.getLogWriter();
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) throws SQLException {
+            delegate.setLogWriter(out);
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) throws SQLException {
+            delegate.setLoginTimeout(seconds);
+        }
+
+        @Override
+        public int getLoginTimeout() throws SQLException {
+            return delegate.getLoginTimeout();
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            return delegate.getParentLogger();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return iface.cast(this);
+            }
+            return delegate.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this) || delegate.isWrapperFor(iface);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
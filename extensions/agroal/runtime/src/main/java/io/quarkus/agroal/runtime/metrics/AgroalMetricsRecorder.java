@@ -121,6 +121,23 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                AgroalAcquisitionMetrics acquisitionMetrics = dataSources.getAcquisitionMetrics(dataSourceName);
+                if (acquisitionMetrics != null) {
+                    acquisitionMetrics.setAcquisitionTimer(metricsFactory.builder("agroal.acquisition.time")
+                            .description("Time spent acquiring a connection, including the time waiting for one.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                    metricsFactory.builder("agroal.connection.cache.hit.count")
+                            .description("Number of connections acquired from the connection cache.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(acquisitionMetrics, AgroalAcquisitionMetrics::getCacheHits);
+                    metricsFactory.builder("agroal.connection.cache.miss.count")
+                            .description("Number of connections acquired from the shared connection list of the pool, "
+                                    + "as the connection cache had none available.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(acquisitionMetrics, AgroalAcquisitionMetrics::getCacheMisses);
+                }
             }
         };
     }
@@ -0,0 +1,291 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+class QuarkusStripedConnectionCacheTest {
+
+    @Test
+    void roundsTheSlotCountUpToAPowerOfTwo() {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 5, t -> true);
+
+        Set<Integer> slots = new HashSet<>();
+        for (long id = 0; id < 1024; id++) {
+            slots.add(cache.slot(id));
+        }
+        assertEquals(8, slots.size());
+    }
+
+    @Test
+    void spreadsSequentialThreadIdsOverAllSlots() {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 16, t -> true);
+
+        Map<Integer, Integer> threadsPerSlot = new HashMap<>();
+        for (long id = 1_000; id < 1_000 + 1024; id++) {
+            threadsPerSlot.merge(cache.slot(id), 1, Integer::sum);
+        }
+        assertEquals(16, threadsPerSlot.size());
+        for (int count : threadsPerSlot.values()) {
+            assertTrue(count >= 32 && count <= 96, "Unbalanced slots: " + threadsPerSlot);
+        }
+    }
+
+    @Test
+    void reusesTheConnectionOfTheSlot() {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 4, t -> true);
+        TestConnection connection = new TestConnection();
+
+        cache.put(connection);
+        assertSame(connection, cache.get());
+        // the slot is cleared while the connection is in use
+        assertNull(cache.get());
+
+        connection.release();
+        cache.put(connection);
+        assertSame(connection, cache.get());
+    }
+
+    @Test
+    void doesNotShareConnectionsAcrossSlots() throws Exception {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 4, t -> true);
+        TestConnection connection = new TestConnection();
+        AtomicReference<Acquirable> fromOtherSlot = new AtomicReference<>();
+        AtomicReference<Acquirable> fromSameSlot = new AtomicReference<>();
+
+        Thread putter = new Thread(() -> cache.put(connection));
+        int putterSlot = cache.slot(putter.getId());
+        Thread otherSlotGetter = newThread(cache, slot -> slot != putterSlot, () -> fromOtherSlot.set(cache.get()));
+        Thread sameSlotGetter = newThread(cache, slot -> slot == putterSlot, () -> fromSameSlot.set(cache.get()));
+        runAndJoin(putter);
+        runAndJoin(otherSlotGetter);
+        runAndJoin(sameSlotGetter);
+
+        assertNull(fromOtherSlot.get());
+        assertSame(connection, fromSameSlot.get());
+    }
+
+    @Test
+    void delegatesOtherThreadsToThePlatformThreadCache() {
+        RecordingCache platformCache = new RecordingCache();
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(platformCache, 4, t -> false);
+        TestConnection connection = new TestConnection();
+
+        cache.put(connection);
+        assertSame(connection, cache.get());
+        cache.reset();
+
+        assertEquals(1, platformCache.puts.get());
+        assertEquals(1, platformCache.gets.get());
+        assertEquals(1, platformCache.resets.get());
+    }
+
+    @Test
+    void dropsTheConnectionsClosedByThePool() {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 4, t -> true);
+        TestConnection connection = new TestConnection();
+
+        cache.put(connection);
+        connection.close();
+        assertNull(cache.get());
+
+        // the slot was cleared, so the closed connection is not retained
+        assertNull(cache.get());
+        assertEquals(1, connection.acquireAttempts.get());
+
+        TestConnection other = new TestConnection();
+        cache.put(other);
+        assertSame(other, cache.get());
+    }
+
+    @Test
+    void resetClearsEverySlot() throws Exception {
+        RecordingCache platformCache = new RecordingCache();
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(platformCache, 4, t -> true);
+
+        List<TestConnection> connections = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                TestConnection connection = new TestConnection();
+                connections.add(connection);
+                futures.add(executor.submit(() -> cache.put(connection)));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            cache.reset();
+
+            assertEquals(1, platformCache.resets.get());
+            futures.clear();
+            AtomicInteger hits = new AtomicInteger();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    if (cache.get() != null) {
+                        hits.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(0, hits.get());
+            for (TestConnection connection : connections) {
+                assertEquals(0, connection.acquireAttempts.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void neverHandsAConnectionToTwoThreadsDuringConcurrentResets() throws Exception {
+        QuarkusStripedConnectionCache cache = new QuarkusStripedConnectionCache(ConnectionCache.none(), 4, t -> true);
+        int threads = 16;
+        int iterations = 20_000;
+        AtomicInteger violations = new AtomicInteger();
+        AtomicInteger hits = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        TestConnection connection = (TestConnection) cache.get();
+                        if (connection == null) {
+                            connection = new TestConnection();
+                            connection.acquire();
+                        } else {
+                            hits.incrementAndGet();
+                        }
+                        if (connection.users.incrementAndGet() != 1) {
+                            violations.incrementAndGet();
+                        }
+                        connection.users.decrementAndGet();
+                        connection.release();
+                        cache.put(connection);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> resetter = executor.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    cache.reset();
+                    Thread.yield();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            resetter.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, violations.get());
+        assertTrue(hits.get() > 0, "The slots should be hit between the resets");
+        cache.reset();
+        assertNull(cache.get());
+    }
+
+    private static Thread newThread(QuarkusStripedConnectionCache cache, IntPredicate slot, Runnable task) {
+        Thread thread;
+        do {
+            thread = new Thread(task);
+        } while (!slot.test(cache.slot(thread.getId())));
+        return thread;
+    }
+
+    private static void runAndJoin(Thread thread) throws InterruptedException {
+        thread.start();
+        thread.join();
+    }
+
+    static class TestConnection implements Acquirable {
+
+        final AtomicBoolean inUse = new AtomicBoolean();
+        final AtomicInteger acquireAttempts = new AtomicInteger();
+        final AtomicInteger users = new AtomicInteger();
+        volatile boolean closed;
+
+        @Override
+        public boolean acquire() {
+            acquireAttempts.incrementAndGet();
+            return !closed && inUse.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isAcquirable() {
+            return !closed && !inUse.get();
+        }
+
+        void release() {
+            inUse.set(false);
+        }
+
+        void close() {
+            closed = true;
+        }
+    }
+
+    static class RecordingCache implements ConnectionCache {
+
+        final AtomicInteger gets = new AtomicInteger();
+        final AtomicInteger puts = new AtomicInteger();
+        final AtomicInteger resets = new AtomicInteger();
+        private Acquirable cached;
+
+        @Override
+        public Acquirable get() {
+            gets.incrementAndGet();
+            Acquirable acquirable = cached;
+            cached = null;
+            return acquirable != null && acquirable.acquire() ? acquirable : null;
+        }
+
+        @Override
+        public void put(Acquirable acquirable) {
+            puts.incrementAndGet();
+            cached = acquirable;
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+            cached = null;
+        }
+    }
+}
@@ -225,11 +225,11 @@ public class ArcConfig {
 
     /**
      * If set to {@code true}, the container should try to optimize the contexts for some of the scopes. If set to {@code auto}
-     * then optimize the contexts if there's less than 1000 beans in the application. If set to {@code false} do not optimize
-     * the contexts.
+     * then optimize the context of a scope if there's less than 1000 beans with the scope in the application. If set to
+     * {@code false} do not optimize the contexts.
      * <p>
-     * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} could be
-     * pregenerated during build.
+     * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} and
+     * {@link jakarta.enterprise.context.RequestScoped} could be pregenerated during build.
      */
     @ConfigItem(defaultValue = "auto", generateDocumentation = false)
     public OptimizeContexts optimizeContexts;
@@ -1,8 +1,16 @@
 package io.quarkus.grpc.deployment;
 
+import java.util.Optional;
+
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.grpc.runtime.StreamFlowControlRecorder;
+import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 
 /**
  * A processor used for both client and server
@@ -20,4 +28,15 @@ public class GrpcCommonProcessor {
     void indexGrpcStub(BuildProducer<IndexDependencyBuildItem> index) {
         index.produce(new IndexDependencyBuildItem("io.quarkus", "quarkus-grpc-stubs"));
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureStreamFlowControl(StreamFlowControlRecorder recorder, GrpcConfiguration configuration,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        recorder.configure(configuration);
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
 }
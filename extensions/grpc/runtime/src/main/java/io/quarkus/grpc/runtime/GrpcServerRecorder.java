@@ -52,6 +52,7 @@
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.ZeroCopyMarshaller;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
 import io.quarkus.runtime.LaunchMode;
@@ -163,7 +164,7 @@ private void buildGrpcServer(Vertx vertx, GrpcServerConfiguration configuration,
         for (GrpcServiceDefinition service : toBeRegistered) {
             ServerServiceDefinition serviceDefinition = serviceWithInterceptors(
                     vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService, compressionInterceptor,
-                    globalInterceptors, service,
+                    configuration.zeroCopyMarshalling, globalInterceptors, service,
                     launchMode == LaunchMode.DEVELOPMENT);
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             GrpcServiceBridge bridge = GrpcServiceBridge.bridge(serviceDefinition);
@@ -442,7 +443,7 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
         for (GrpcServiceDefinition service : services) {
             servicesWithInterceptors.add(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService, virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, true));
+                            compressionInterceptor, configuration.zeroCopyMarshalling, globalInterceptors, service, true));
         }
 
         // add after actual services, so we don't inspect them for interceptors, etc
@@ -537,7 +538,8 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
                             virtualMethodsPerService,
-                            compressionInterceptor, globalInterceptors, service, launchMode == LaunchMode.DEVELOPMENT));
+                            compressionInterceptor, configuration.zeroCopyMarshalling, globalInterceptors, service,
+                            launchMode == LaunchMode.DEVELOPMENT));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -576,6 +578,7 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             Map<String, List<String>> blockingMethodsPerService,
             Map<String, List<String>> virtualMethodsPerService,
             CompressionInterceptor compressionInterceptor,
+            boolean zeroCopyMarshalling,
             List<ServerInterceptor> globalInterceptors,
             GrpcServiceDefinition service, boolean devMode) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
@@ -596,7 +599,9 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             }
         }
         interceptors.sort(Interceptors.INTERCEPTOR_COMPARATOR);
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = zeroCopyMarshalling ? ZeroCopyMarshaller.wrap(service.definition)
+                : service.definition;
+        return ServerInterceptors.intercept(definition, interceptors);
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
@@ -0,0 +1,36 @@
+package io.quarkus.grpc.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.grpc.runtime.config.GrpcConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcFlowControlConfig;
+import io.quarkus.grpc.stubs.StreamFlowControl;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class StreamFlowControlRecorder {
+
+    /* RUNTIME_INIT */
+    public void configure(GrpcConfiguration configuration) {
+        GrpcFlowControlConfig flowControl = configuration.flowControl;
+        StreamFlowControl.configure(flowControl.enabled, flowControl.prefetch, flowControl.lowWatermark);
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("grpc.streams.paused")
+                        .description("Number of gRPC streams waiting for their transport to be ready to send the items"
+                                + " of a Multi.")
+                        .buildGauge(StreamFlowControl::getPausedStreams);
+                metricsFactory.builder("grpc.streams.buffered.bytes")
+                        .description("Size of the messages sent to gRPC streams while their transport was not ready,"
+                                + " and not sent yet.")
+                        .buildGauge(StreamFlowControl::getBufferedBytes);
+            }
+        };
+    }
+}
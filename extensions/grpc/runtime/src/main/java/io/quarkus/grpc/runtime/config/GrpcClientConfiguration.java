@@ -221,4 +221,13 @@ public class GrpcClientConfiguration {
      */
     @ConfigItem
     public Optional<Duration> deadline;
+
+    /**
+     * Whether the protobuf messages received by the client are parsed with fewer copies.
+     * When enabled, the {@code bytes} fields of the messages are views of the received message instead of copies, so
+     * a {@code bytes} field retains the whole message it comes from.
+     * This is only effective with the Java gRPC client.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
 }
@@ -28,4 +28,10 @@ public class GrpcConfiguration {
     @ConfigDocSection(generated = true)
     public GrpcServerConfiguration server;
 
+    /**
+     * Configure the flow control of the streams sending the items of a `Multi`.
+     */
+    @ConfigItem
+    public GrpcFlowControlConfig flowControl;
+
 }
@@ -0,0 +1,32 @@
+package io.quarkus.grpc.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class GrpcFlowControlConfig {
+
+    /**
+     * Whether the items of a `Multi` sent to a gRPC stream, by a service or by a client, are only requested while the
+     * transport of the stream is ready.
+     * If disabled, all the items are requested at once and buffered by the transport when the peer is slower than the
+     * `Multi`.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+
+    /**
+     * The number of items requested from a `Multi` sent to a gRPC stream, while the transport is ready.
+     */
+    @ConfigItem(defaultValue = "64")
+    public int prefetch;
+
+    /**
+     * When the number of items requested from a `Multi` sent to a gRPC stream, and not received yet, falls to this
+     * value, the demand is raised back to `prefetch` items if the transport is ready.
+     * Must be lower than `prefetch`.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int lowWatermark;
+
+}
@@ -120,4 +120,13 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * Whether the protobuf messages received by the server are parsed with fewer copies.
+     * When enabled, the {@code bytes} fields of the messages are views of the received message instead of copies, so
+     * a {@code bytes} field retains the whole message it comes from.
+     * This is only effective with the separate gRPC server.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
 }
@@ -16,14 +16,16 @@ protected AbstractStorkMeasuringCall(ClientCall<ReqT, RespT> delegate, boolean r
     protected abstract ServiceInstance serviceInstance();
 
     public void recordReply() {
-        if (serviceInstance() != null && recordTime) {
-            serviceInstance().recordReply();
+        ServiceInstance serviceInstance = serviceInstance();
+        if (serviceInstance != null && recordTime) {
+            serviceInstance.recordReply();
         }
     }
 
     public void recordEnd(Throwable error) {
-        if (serviceInstance() != null) {
-            serviceInstance().recordEnd(error);
+        ServiceInstance serviceInstance = serviceInstance();
+        if (serviceInstance != null) {
+            serviceInstance.recordEnd(error);
         }
     }
 }
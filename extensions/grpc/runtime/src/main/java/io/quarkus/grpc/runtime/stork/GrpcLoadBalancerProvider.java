@@ -185,12 +185,15 @@ public LoadBalancer.PickResult pickSubchannel(LoadBalancer.PickSubchannelArgs ar
             ServiceInstance serviceInstance = pickServerInstance(measureTime);
             LoadBalancer.Subchannel subchannel = subChannels.get(serviceInstance);
 
-            if (serviceInstance.gatherStatistics() && STORK_SERVICE_INSTANCE.get() != null) {
-                STORK_SERVICE_INSTANCE.get().set(serviceInstance);
-                return LoadBalancer.PickResult.withSubchannel(subchannel);
-            } else {
-                return LoadBalancer.PickResult.withSubchannel(subchannel);
+            AtomicReference<ServiceInstance> ref = STORK_SERVICE_INSTANCE.get();
+            if (serviceInstance.gatherStatistics() && ref != null) {
+                ServiceInstance previous = ref.getAndSet(serviceInstance);
+                if (previous != null) {
+                    // the call is picked again, e.g. when the previous subchannel was not ready
+                    previous.recordEnd(null);
+                }
             }
+            return LoadBalancer.PickResult.withSubchannel(subchannel);
         }
 
         private ServiceInstance pickServerInstance(boolean measureTime) {
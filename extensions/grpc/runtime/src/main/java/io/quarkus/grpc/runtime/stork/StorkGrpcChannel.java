@@ -96,6 +96,13 @@ public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(MethodDescr
                 .thenApply(delayed::setCall)
                 .thenAccept(Runnable::run)
                 .exceptionally(t -> {
+                    if (context.ref != null) {
+                        // the call never reaches the measuring interceptor, end the picked instance here
+                        ServiceInstance picked = context.ref.getAndSet(null);
+                        if (picked != null) {
+                            picked.recordEnd(t);
+                        }
+                    }
                     delayed.cancel("Failed to create new Stork ClientCall", t);
                     return null;
                 });
@@ -150,7 +157,11 @@ private Uni<Context> pickServiceInstanceWithChannel(Context context) {
                 .map(si -> {
                     context.instance = si;
                     if (si.gatherStatistics() && context.ref != null) {
-                        context.ref.set(si);
+                        // a retry picks a new instance, the previously picked one won't be used
+                        ServiceInstance previous = context.ref.getAndSet(si);
+                        if (previous != null) {
+                            previous.recordEnd(null);
+                        }
                     }
                     return context;
                 })
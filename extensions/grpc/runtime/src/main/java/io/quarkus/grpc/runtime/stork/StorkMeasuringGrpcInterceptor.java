@@ -29,7 +29,8 @@ public int getPriority() {
     }
 
     private static class StorkMeasuringCall<ReqT, RespT> extends AbstractStorkMeasuringCall<ReqT, RespT> {
-        ServiceInstance serviceInstance;
+        // set when the call is picked, which may happen after the call is started
+        final AtomicReference<ServiceInstance> serviceInstance = new AtomicReference<>();
 
         protected StorkMeasuringCall(ClientCall<ReqT, RespT> delegate, MethodDescriptor.MethodType type) {
             super(delegate, type == MethodDescriptor.MethodType.UNARY);
@@ -37,18 +38,17 @@ protected StorkMeasuringCall(ClientCall<ReqT, RespT> delegate, MethodDescriptor.
 
         @Override
         protected ServiceInstance serviceInstance() {
-            return serviceInstance;
+            return serviceInstance.get();
         }
 
         @Override
         public void start(final ClientCall.Listener<RespT> responseListener, final Metadata metadata) {
             Context context = Context.current().withValues(
-                    STORK_SERVICE_INSTANCE, new AtomicReference<>(),
+                    STORK_SERVICE_INSTANCE, serviceInstance,
                     STORK_MEASURE_TIME, recordTime);
             Context oldContext = context.attach();
             try {
                 super.start(new StorkMeasuringCallListener<>(responseListener, this), metadata);
-                serviceInstance = STORK_SERVICE_INSTANCE.get().get();
             } finally {
                 context.detach(oldContext);
             }
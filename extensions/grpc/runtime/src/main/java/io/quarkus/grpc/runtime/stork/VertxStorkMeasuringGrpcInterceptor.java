@@ -28,12 +28,13 @@ public class VertxStorkMeasuringGrpcInterceptor implements ClientInterceptor, Pr
     public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions,
             Channel next) {
         boolean recordTime = method.getType() == MethodDescriptor.MethodType.UNARY;
+        AtomicReference<ServiceInstance> serviceInstance = new AtomicReference<>();
         Context context = Context.current().withValues(
-                STORK_SERVICE_INSTANCE, new AtomicReference<>(),
+                STORK_SERVICE_INSTANCE, serviceInstance,
                 STORK_MEASURE_TIME, recordTime);
         Context oldContext = context.attach();
         try {
-            return new VertxStorkMeasuringCall<>(next.newCall(method, callOptions), recordTime);
+            return new VertxStorkMeasuringCall<>(next.newCall(method, callOptions), recordTime, serviceInstance);
         } finally {
             context.detach(oldContext);
         }
@@ -45,23 +46,22 @@ public int getPriority() {
     }
 
     private static class VertxStorkMeasuringCall<ReqT, RespT> extends AbstractStorkMeasuringCall<ReqT, RespT> {
-        ServiceInstance serviceInstance;
+        // set when the call is picked, which happens after the call is started
+        private final AtomicReference<ServiceInstance> serviceInstance;
 
-        protected VertxStorkMeasuringCall(ClientCall<ReqT, RespT> delegate, boolean recordTime) {
+        protected VertxStorkMeasuringCall(ClientCall<ReqT, RespT> delegate, boolean recordTime,
+                AtomicReference<ServiceInstance> serviceInstance) {
             super(delegate, recordTime);
+            this.serviceInstance = serviceInstance;
         }
 
         @Override
         protected ServiceInstance serviceInstance() {
-            return serviceInstance;
+            return serviceInstance.get();
         }
 
         @Override
         public void start(final Listener<RespT> responseListener, final Metadata metadata) {
-            AtomicReference<ServiceInstance> ref = STORK_SERVICE_INSTANCE.get();
-            if (ref != null) {
-                serviceInstance = ref.get();
-            }
             super.start(new StorkMeasuringCallListener<>(responseListener, this), metadata);
         }
     }
@@ -252,6 +252,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
                 ncBuilder.sslContext(context);
             }
 
+            if (config.zeroCopyMarshalling) {
+                // added first, so it is the last one to run and the other interceptors see the original method
+                builder.intercept(new ZeroCopyClientInterceptor());
+            }
             interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors).forEach(builder::intercept);
             interceptorContainer.getSortedGlobalInterceptors().forEach(builder::intercept);
 
@@ -0,0 +1,27 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Replaces the marshallers of the client calls by {@link ZeroCopyMarshaller}s.
+ */
+public class ZeroCopyClientInterceptor implements ClientInterceptor {
+
+    private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        MethodDescriptor<ReqT, RespT> wrapped = (MethodDescriptor<ReqT, RespT>) methods.computeIfAbsent(method,
+                ZeroCopyMarshaller::wrap);
+        return next.newCall(wrapped, callOptions);
+    }
+}
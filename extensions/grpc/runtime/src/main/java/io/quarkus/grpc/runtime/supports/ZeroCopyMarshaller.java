@@ -0,0 +1,152 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * A protobuf marshaller limiting the copies of the inbound messages.
+ * <p>
+ * When the transport exposes the whole message as a single NIO buffer, the message is parsed from this buffer
+ * directly. Otherwise, the message is read once in a byte array of the message size and parsed with aliasing enabled,
+ * so the {@code bytes} fields are views of this array instead of copies. As a consequence, a {@code bytes} field
+ * retains the whole message it comes from.
+ * <p>
+ * The outbound messages are serialized by the default marshaller, which writes them directly in the buffers of the
+ * transport.
+ */
+public final class ZeroCopyMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private final MethodDescriptor.PrototypeMarshaller<T> delegate;
+    private final T defaultInstance;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    ZeroCopyMarshaller(MethodDescriptor.PrototypeMarshaller<T> delegate) {
+        this.delegate = delegate;
+        this.defaultInstance = delegate.getMessagePrototype();
+        this.parser = (Parser<T>) defaultInstance.getParserForType();
+    }
+
+    /**
+     * @return a copy of the given service definition, using zero-copy marshallers for the protobuf messages
+     */
+    public static ServerServiceDefinition wrap(ServerServiceDefinition definition) {
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrapped = wrap(method);
+            serviceBuilder.addMethod(wrapped.getMethodDescriptor());
+            methods.add(wrapped);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a copy of the given method descriptor, using zero-copy marshallers for the protobuf messages
+     */
+    public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> wrap(MethodDescriptor<ReqT, RespT> method) {
+        MethodDescriptor.Marshaller<ReqT> requestMarshaller = wrap(method.getRequestMarshaller());
+        MethodDescriptor.Marshaller<RespT> responseMarshaller = wrap(method.getResponseMarshaller());
+        if (requestMarshaller == method.getRequestMarshaller() && responseMarshaller == method.getResponseMarshaller()) {
+            return method;
+        }
+        return method.toBuilder(requestMarshaller, responseMarshaller).build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> wrap(ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = wrap(method.getMethodDescriptor());
+        return ServerMethodDefinition.create(descriptor, method.getServerCallHandler());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <T> MethodDescriptor.Marshaller<T> wrap(MethodDescriptor.Marshaller<T> marshaller) {
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller
+                && !(marshaller instanceof ZeroCopyMarshaller)
+                && ((MethodDescriptor.PrototypeMarshaller<T>) marshaller).getMessagePrototype() instanceof MessageLite) {
+            return new ZeroCopyMarshaller((MethodDescriptor.PrototypeMarshaller) marshaller);
+        }
+        return marshaller;
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return defaultInstance;
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        return delegate.getMessageClass();
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        if (!(stream instanceof KnownLength)) {
+            return delegate.parse(stream);
+        }
+        try {
+            int size = stream.available();
+            if (size == 0) {
+                return defaultInstance;
+            }
+            if (stream instanceof HasByteBuffer && ((HasByteBuffer) stream).byteBufferSupported()) {
+                ByteBuffer buffer = ((HasByteBuffer) stream).getByteBuffer();
+                if (buffer.remaining() >= size) {
+                    buffer.limit(buffer.position() + size);
+                    // no aliasing, the buffer is released by the transport once the message is parsed
+                    T message = parse(CodedInputStream.newInstance(buffer));
+                    stream.skip(size);
+                    return message;
+                }
+            }
+            byte[] bytes = new byte[size];
+            int read = stream.readNBytes(bytes, 0, size);
+            if (read != size) {
+                throw new IOException("Expected " + size + " bytes, read " + read);
+            }
+            // only immutable inputs can be aliased
+            CodedInputStream input = UnsafeByteOperations.unsafeWrap(bytes).newCodedInput();
+            input.enableAliasing(true);
+            return parse(input);
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to read the message").withCause(e).asRuntimeException();
+        }
+    }
+
+    private T parse(CodedInputStream input) throws InvalidProtocolBufferException {
+        input.setSizeLimit(Integer.MAX_VALUE);
+        T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+        input.checkLastTagWas(0);
+        return message;
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkus.grpc.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.quarkus.grpc.stubs.ServerCalls;
+import io.quarkus.grpc.stubs.StreamFlowControl;
+import io.smallrye.mutiny.Multi;
+
+public class StreamFlowControlTest {
+
+    private static final BytesValue ITEM = BytesValue.of(ByteString.copyFrom(new byte[100]));
+
+    @AfterEach
+    public void reset() {
+        StreamFlowControl.configure(true, 64, 16);
+    }
+
+    @Test
+    public void itemsAreRequestedWhileTheTransportIsReady() {
+        StreamFlowControl.configure(true, 8, 2);
+        AtomicInteger produced = new AtomicInteger();
+        FakeServerCallStreamObserver response = new FakeServerCallStreamObserver();
+
+        // the transport accepts 5 messages before being busy
+        response.readyFor = 5;
+        ServerCalls.oneToMany("hello", response, null,
+                r -> Multi.createFrom().range(0, 1000).onItem().invoke(produced::incrementAndGet).map(i -> ITEM));
+
+        assertThat(produced.get()).isEqualTo(8);
+        assertThat(response.items).hasSize(8);
+        assertThat(StreamFlowControl.getPausedStreams()).isEqualTo(1);
+        assertThat(StreamFlowControl.getBufferedBytes()).isEqualTo(3 * ITEM.getSerializedSize());
+
+        // the transport is ready again
+        response.readyFor = Integer.MAX_VALUE;
+        response.onReady.run();
+
+        assertThat(response.items).hasSize(1000);
+        assertThat(response.completed).isTrue();
+        assertThat(StreamFlowControl.getPausedStreams()).isZero();
+        assertThat(StreamFlowControl.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    public void cancellationReleasesTheStream() {
+        StreamFlowControl.configure(true, 8, 2);
+        FakeServerCallStreamObserver response = new FakeServerCallStreamObserver();
+
+        response.readyFor = 0;
+        ServerCalls.oneToMany("hello", response, null, r -> Multi.createFrom().range(0, 1000).map(i -> ITEM));
+        assertThat(StreamFlowControl.getPausedStreams()).isEqualTo(1);
+
+        response.onCancel.run();
+
+        assertThat(response.items).isEmpty();
+        assertThat(StreamFlowControl.getPausedStreams()).isZero();
+        assertThat(StreamFlowControl.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    public void flowControlDisabled() {
+        StreamFlowControl.configure(false, 8, 2);
+        FakeServerCallStreamObserver response = new FakeServerCallStreamObserver();
+
+        response.readyFor = 0;
+        ServerCalls.oneToMany("hello", response, null, r -> Multi.createFrom().range(0, 1000).map(i -> ITEM));
+
+        assertThat(response.items).hasSize(1000);
+        assertThat(response.completed).isTrue();
+        assertThat(response.onReady).isNull();
+        assertThat(StreamFlowControl.getPausedStreams()).isZero();
+    }
+
+    static class FakeServerCallStreamObserver extends ServerCallStreamObserver<BytesValue> {
+
+        final List<BytesValue> items = new ArrayList<>();
+        int readyFor;
+        boolean completed;
+        Runnable onReady;
+        Runnable onCancel;
+
+        @Override
+        public boolean isReady() {
+            return items.size() < readyFor;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReady = onReadyHandler;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            this.onCancel = onCancelHandler;
+        }
+
+        @Override
+        public void setOnCloseHandler(Runnable onCloseHandler) {
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(BytesValue value) {
+            items.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.StringValue;
+
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+
+public class ZeroCopyMarshallerTest {
+
+    private static final MethodDescriptor<StringValue, BytesValue> METHOD = MethodDescriptor
+            .<StringValue, BytesValue> newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test.Blobs/Get")
+            .setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+            .setResponseMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+            .build();
+
+    private final MethodDescriptor<StringValue, BytesValue> method = ZeroCopyMarshaller.wrap(METHOD);
+    private final BytesValue blob = BytesValue.of(ByteString.copyFrom(randomBytes(100_000)));
+
+    @Test
+    public void parseFromSingleBuffer() {
+        byte[] serialized = blob.toByteArray();
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length);
+        direct.put(serialized).flip();
+
+        assertThat(method.parseResponse(new BuffersInputStream(direct))).isEqualTo(blob);
+    }
+
+    @Test
+    public void parseFromSeveralBuffers() {
+        byte[] serialized = blob.toByteArray();
+        int half = serialized.length / 2;
+        BuffersInputStream stream = new BuffersInputStream(ByteBuffer.wrap(serialized, 0, half),
+                ByteBuffer.wrap(serialized, half, serialized.length - half));
+
+        assertThat(method.parseResponse(stream)).isEqualTo(blob);
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    public void parseFromStream() {
+        assertThat(method.parseResponse(new ByteArrayInputStream(blob.toByteArray()))).isEqualTo(blob);
+        assertThat(method.parseResponse(new BuffersInputStream())).isEqualTo(BytesValue.getDefaultInstance());
+    }
+
+    @Test
+    public void parseInvalidMessage() {
+        byte[] serialized = blob.toByteArray();
+        BuffersInputStream truncated = new BuffersInputStream(ByteBuffer.wrap(serialized, 0, 1000),
+                ByteBuffer.wrap(serialized, 1000, 1000));
+
+        assertThatThrownBy(() -> method.parseResponse(truncated)).isInstanceOf(StatusRuntimeException.class)
+                .hasMessageContaining("Invalid protobuf byte sequence");
+    }
+
+    @Test
+    public void wrapServiceDefinition() {
+        ServerServiceDefinition definition = ServerServiceDefinition.builder("test.Blobs")
+                .addMethod(METHOD, ServerCalls.asyncUnaryCall((request, response) -> {
+                }))
+                .build();
+
+        ServerServiceDefinition wrapped = ZeroCopyMarshaller.wrap(definition);
+
+        ServerMethodDefinition<?, ?> method = wrapped.getMethod("test.Blobs/Get");
+        assertThat(method.getMethodDescriptor().getRequestMarshaller()).isInstanceOf(ZeroCopyMarshaller.class);
+        assertThat(method.getMethodDescriptor().getResponseMarshaller()).isInstanceOf(ZeroCopyMarshaller.class);
+        assertThat(method.getServerCallHandler())
+                .isSameAs(definition.getMethod("test.Blobs/Get").getServerCallHandler());
+        assertThat(ZeroCopyMarshaller.wrap(method.getMethodDescriptor())).isSameAs(method.getMethodDescriptor());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Mimics the streams of the Netty transport.
+     */
+    static class BuffersInputStream extends InputStream implements KnownLength, HasByteBuffer {
+
+        private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+
+        BuffersInputStream(ByteBuffer... buffers) {
+            this.buffers.addAll(List.of(buffers));
+        }
+
+        @Override
+        public int available() {
+            return buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+        }
+
+        @Override
+        public int read() {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (buffers.isEmpty()) {
+                return -1;
+            }
+            ByteBuffer current = buffers.peek();
+            int read = Math.min(len, current.remaining());
+            current.get(b, off, read);
+            if (!current.hasRemaining()) {
+                buffers.poll();
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            while (skipped < n && !buffers.isEmpty()) {
+                ByteBuffer current = buffers.peek();
+                int step = (int) Math.min(n - skipped, current.remaining());
+                current.position(current.position() + step);
+                skipped += step;
+                if (!current.hasRemaining()) {
+                    buffers.poll();
+                }
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffers.isEmpty() ? null : buffers.peek().slice();
+        }
+    }
+}
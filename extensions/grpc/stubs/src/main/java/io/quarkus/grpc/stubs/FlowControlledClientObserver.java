@@ -0,0 +1,56 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.function.Function;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Observes the responses of a client streaming call, and sends the items of a {@link Multi} as requests while the
+ * transport of the call is ready.
+ */
+final class FlowControlledClientObserver<I, O> implements ClientResponseObserver<I, O> {
+
+    private volatile StreamObserver<O> responses;
+    private volatile StreamObserver<I> request;
+
+    private final FlowControlledSubscriber<I> requests = new FlowControlledSubscriber<>(
+            item -> request.onNext(item),
+            failure -> request.onError(failure),
+            () -> request.onCompleted());
+
+    void start(Multi<I> items, StreamObserver<O> responses, Function<StreamObserver<O>, StreamObserver<I>> delegate) {
+        this.responses = responses;
+        this.request = delegate.apply(this);
+        items.subscribe(requests);
+    }
+
+    void cancel() {
+        requests.cancel();
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<I> requestStream) {
+        if (StreamFlowControl.isEnabled()) {
+            requests.flowControl(requestStream);
+            requestStream.setOnReadyHandler(requests);
+        }
+    }
+
+    @Override
+    public void onNext(O value) {
+        responses.onNext(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        responses.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        responses.onCompleted();
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.google.protobuf.MessageLite;
+
+import io.grpc.stub.CallStreamObserver;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Subscribes to a {@link io.smallrye.mutiny.Multi} and forwards its items to a gRPC call, requesting them only while
+ * the transport of the call is ready, see {@link StreamFlowControl}.
+ * <p>
+ * This subscriber must be registered as the on-ready handler of the call, and the call must be passed to
+ * {@link #flowControl(CallStreamObserver)}. Otherwise, the transport is considered always ready.
+ */
+final class FlowControlledSubscriber<T> implements Flow.Subscriber<T>, Cancellable, Runnable {
+
+    private final Consumer<T> onItem;
+    private final Consumer<Throwable> onFailure;
+    private final Runnable onCompletion;
+    private final long prefetch;
+    private final long lowWatermark;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    // items requested from the upstream and not received yet
+    private final AtomicLong outstanding = new AtomicLong();
+    // size of the items written while the transport was not ready
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private volatile CallStreamObserver<?> call;
+
+    FlowControlledSubscriber(Consumer<T> onItem, Consumer<Throwable> onFailure, Runnable onCompletion) {
+        this.onItem = onItem;
+        this.onFailure = onFailure;
+        this.onCompletion = onCompletion;
+        if (StreamFlowControl.isEnabled()) {
+            this.prefetch = StreamFlowControl.prefetch();
+            this.lowWatermark = StreamFlowControl.lowWatermark();
+        } else {
+            this.prefetch = Long.MAX_VALUE;
+            this.lowWatermark = 0;
+        }
+    }
+
+    void flowControl(CallStreamObserver<?> call) {
+        this.call = call;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+        } else {
+            requestIfReady();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (upstream.get() == Subscriptions.CANCELLED) {
+            return;
+        }
+        outstanding.decrementAndGet();
+        CallStreamObserver<?> current = call;
+        if (current != null && !current.isReady() && item instanceof MessageLite) {
+            // the transport buffers the message until it can be sent
+            int size = ((MessageLite) item).getSerializedSize();
+            bufferedBytes.addAndGet(size);
+            StreamFlowControl.BUFFERED_BYTES.add(size);
+        }
+        onItem.accept(item);
+        requestIfReady();
+        if (upstream.get() == Subscriptions.CANCELLED) {
+            // cancelled concurrently
+            release();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        upstream.set(Subscriptions.CANCELLED);
+        release();
+        onFailure.accept(failure);
+    }
+
+    @Override
+    public void onComplete() {
+        upstream.set(Subscriptions.CANCELLED);
+        release();
+        onCompletion.run();
+    }
+
+    /**
+     * Called when the transport becomes ready.
+     */
+    @Override
+    public void run() {
+        long drained = bufferedBytes.getAndSet(0);
+        if (drained != 0) {
+            StreamFlowControl.BUFFERED_BYTES.add(-drained);
+        }
+        requestIfReady();
+    }
+
+    @Override
+    public void cancel() {
+        Flow.Subscription subscription = upstream.getAndSet(Subscriptions.CANCELLED);
+        if (subscription != null && subscription != Subscriptions.CANCELLED) {
+            subscription.cancel();
+        }
+        release();
+    }
+
+    private void requestIfReady() {
+        Flow.Subscription subscription = upstream.get();
+        if (subscription == null || subscription == Subscriptions.CANCELLED) {
+            return;
+        }
+        CallStreamObserver<?> current = call;
+        if (current != null && !current.isReady()) {
+            // requested again by the on-ready handler
+            if (paused.compareAndSet(false, true)) {
+                StreamFlowControl.PAUSED_STREAMS.increment();
+                if (upstream.get() == Subscriptions.CANCELLED) {
+                    // terminated concurrently
+                    release();
+                }
+            }
+            return;
+        }
+        if (paused.compareAndSet(true, false)) {
+            StreamFlowControl.PAUSED_STREAMS.decrement();
+        }
+        long requested;
+        do {
+            requested = outstanding.get();
+            if (requested > lowWatermark) {
+                return;
+            }
+        } while (!outstanding.compareAndSet(requested, prefetch));
+        subscription.request(prefetch - requested);
+    }
+
+    private void release() {
+        if (paused.compareAndSet(true, false)) {
+            StreamFlowControl.PAUSED_STREAMS.decrement();
+        }
+        long buffered = bufferedBytes.getAndSet(0);
+        if (buffered != 0) {
+            StreamFlowControl.BUFFERED_BYTES.add(-buffered);
+        }
+    }
+}
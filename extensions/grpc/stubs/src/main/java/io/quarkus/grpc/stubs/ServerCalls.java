@@ -58,10 +58,7 @@ public static <I, O> void oneToMany(I request, StreamObserver<O> response, Strin
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return;
             }
-            handleSubscription(returnValue.subscribe().with(
-                    response::onNext,
-                    throwable -> onError(response, throwable),
-                    () -> onCompleted(response)), response);
+            subscribe(returnValue, response);
         } catch (Throwable throwable) {
             onError(response, throwable);
         }
@@ -95,15 +92,28 @@ public static <I, O> StreamObserver<I> manyToOne(StreamObserver<O> response,
         }
     }
 
-    private static <O> void handleSubscription(Cancellable cancellable, StreamObserver<O> response) {
+    private static <O> void subscribe(Multi<O> multi, StreamObserver<O> response) {
+        FlowControlledSubscriber<O> subscriber = new FlowControlledSubscriber<>(
+                response::onNext,
+                failure -> onError(response, failure),
+                () -> onCompleted(response));
         if (response instanceof ServerCallStreamObserver) {
             ServerCallStreamObserver<O> serverCallResponse = (ServerCallStreamObserver<O>) response;
+            if (StreamFlowControl.isEnabled()) {
+                // the items are only requested while the response can be sent
+                subscriber.flowControl(serverCallResponse);
+                serverCallResponse.setOnReadyHandler(subscriber);
+            }
+            handleSubscription(subscriber, serverCallResponse);
+        }
+        multi.subscribe(subscriber);
+    }
 
-            Runnable cancel = cancellable::cancel;
+    private static <O> void handleSubscription(Cancellable cancellable, ServerCallStreamObserver<O> response) {
+        Runnable cancel = cancellable::cancel;
 
-            serverCallResponse.setOnCloseHandler(cancel);
-            serverCallResponse.setOnCancelHandler(cancel);
-        }
+        response.setOnCloseHandler(cancel);
+        response.setOnCancelHandler(cancel);
     }
 
     public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
@@ -119,10 +129,7 @@ public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return null;
             }
-            handleSubscription(multi.subscribe().with(
-                    response::onNext,
-                    failure -> onError(response, failure),
-                    () -> onCompleted(response)), response);
+            subscribe(multi, response);
 
             return pump;
         } catch (Throwable throwable) {
@@ -0,0 +1,62 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Flow control settings of the streams bridged from a {@link io.smallrye.mutiny.Multi} to a gRPC call, and the state
+ * of these streams, exposed as metrics.
+ * <p>
+ * The items are requested from the {@link io.smallrye.mutiny.Multi} by batches of {@code prefetch} items, and only
+ * when the transport is ready: once fewer than {@code lowWatermark} requested items are still expected, the demand
+ * is raised back to {@code prefetch}.
+ */
+public final class StreamFlowControl {
+
+    static final LongAdder PAUSED_STREAMS = new LongAdder();
+    static final LongAdder BUFFERED_BYTES = new LongAdder();
+
+    private static volatile boolean enabled = true;
+    private static volatile int prefetch = 64;
+    private static volatile int lowWatermark = 16;
+
+    private StreamFlowControl() {
+    }
+
+    public static void configure(boolean enabled, int prefetch, int lowWatermark) {
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("The prefetch must be at least 1");
+        }
+        if (lowWatermark < 0 || lowWatermark >= prefetch) {
+            throw new IllegalArgumentException("The low watermark must be positive and lower than the prefetch");
+        }
+        StreamFlowControl.enabled = enabled;
+        StreamFlowControl.prefetch = prefetch;
+        StreamFlowControl.lowWatermark = lowWatermark;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    static int prefetch() {
+        return prefetch;
+    }
+
+    static int lowWatermark() {
+        return lowWatermark;
+    }
+
+    /**
+     * @return the number of streams waiting for their transport to be ready
+     */
+    public static long getPausedStreams() {
+        return PAUSED_STREAMS.sum();
+    }
+
+    /**
+     * @return the size of the messages written to the streams while their transport was not ready, and not drained yet
+     */
+    public static long getBufferedBytes() {
+        return BUFFERED_BYTES.sum();
+    }
+}
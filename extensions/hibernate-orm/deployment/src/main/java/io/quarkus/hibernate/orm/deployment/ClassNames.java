@@ -44,6 +44,7 @@ private static DotName createConstant(String fqcn) {
     public static final DotName EMBEDDED = createConstant("jakarta.persistence.Embedded");
     public static final DotName EMBEDDED_ID = createConstant("jakarta.persistence.EmbeddedId");
     public static final DotName ELEMENT_COLLECTION = createConstant("jakarta.persistence.ElementCollection");
+    public static final DotName GENERATED_VALUE = createConstant("jakarta.persistence.GeneratedValue");
     public static final DotName PROXY = createConstant("org.hibernate.annotations.Proxy");
     public static final DotName HIBERNATE_PROXY = createConstant("org.hibernate.proxy.HibernateProxy");
     public static final DotName TYPE = createConstant("org.hibernate.annotations.Type");
@@ -5,6 +5,7 @@
 import java.util.OptionalInt;
 
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 public class HibernateConfigUtil {
 
@@ -13,6 +14,7 @@ public class HibernateConfigUtil {
      */
     private final static String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
     private final static String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    private final static String EXPIRATION_MAX_LIFETIME = QuarkusCaffeineRegionFactory.MAX_LIFETIME_SUFFIX;
     private static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
 
     public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersistenceUnit config) {
@@ -25,6 +27,10 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_MAX_IDLE),
                         String.valueOf(cacheConfig.expiration().maxIdle().get().getSeconds()));
             }
+            if (cacheConfig.expiration().maxLifetime().isPresent()) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_MAX_LIFETIME),
+                        String.valueOf(cacheConfig.expiration().maxLifetime().get().getSeconds()));
+            }
             if (cacheConfig.memory().objectCount().isPresent()) {
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory().objectCount().getAsLong()));
@@ -210,6 +210,19 @@ public interface HibernateOrmConfigPersistenceUnit {
     @WithDefault("true")
     boolean secondLevelCachingEnabled();
 
+    /**
+     * The implementation of the 2nd level cache.
+     *
+     * `caffeine` stores each region in a dedicated Caffeine cache, supports `expiration.max-lifetime` on regions,
+     * and exposes the size, hit ratio and evictions of each region as metrics when metrics are enabled.
+     *
+     * Ignored if 2nd level caching is disabled.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("local-cache")
+    SecondLevelCachingImplementation secondLevelCachingImplementation();
+
     /**
      * Bean Validation configuration.
      */
@@ -264,6 +277,7 @@ default boolean isAnyPropertySet() {
                 jdbc().isAnyPropertySet() ||
                 !cache().isEmpty() ||
                 !secondLevelCachingEnabled() ||
+                secondLevelCachingImplementation() != SecondLevelCachingImplementation.LOCAL_CACHE ||
                 multitenant().isPresent() ||
                 multitenantSchemaDatasource().isPresent() ||
                 fetch().isAnyPropertySet() ||
@@ -460,6 +474,17 @@ enum IdOptimizerType {
         }
     }
 
+    enum SecondLevelCachingImplementation {
+        /**
+         * The local cache integrated by default, based on technologies from Infinispan and Caffeine.
+         */
+        LOCAL_CACHE,
+        /**
+         * One Caffeine cache per region, bounded by size with the W-TinyLFU eviction policy and by time.
+         */
+        CAFFEINE
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigPersistenceUnitQuery {
 
@@ -550,8 +575,25 @@ interface HibernateOrmConfigPersistenceUnitJdbc {
          */
         OptionalInt statementBatchSize();
 
+        /**
+         * Whether flushes should be optimized for writing many entities at once.
+         *
+         * Orders inserts and updates so that consecutive statements can be batched together,
+         * batches the updates and deletes of versioned entities,
+         * and sets `statement-batch-size` to `50` unless it is set explicitly.
+         *
+         * Inserts of entities whose identifiers are generated by identity columns cannot be batched,
+         * such entities are logged at build time: use sequences instead,
+         * optimized with the default `pooled-lo` optimizer (see `mapping.id.optimizer.default`).
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean bulkWrite();
+
         default boolean isAnyPropertySet() {
-            return timezone().isPresent() || statementFetchSize().isPresent() || statementBatchSize().isPresent();
+            return timezone().isPresent() || statementFetchSize().isPresent() || statementBatchSize().isPresent()
+                    || bulkWrite();
         }
     }
 
@@ -574,6 +616,15 @@ interface HibernateOrmConfigPersistenceUnitCacheExpiration {
          * The maximum time before an object of the cache is considered expired.
          */
         Optional<Duration> maxIdle();
+
+        /**
+         * The maximum time an object stays in the cache after it was written, even if it is accessed.
+         *
+         * Only supported by the `caffeine` 2nd level caching implementation.
+         *
+         * @asciidoclet
+         */
+        Optional<Duration> maxLifetime();
     }
 
     @ConfigGroup
@@ -36,6 +36,7 @@
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Default;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.SharedCacheMode;
 import jakarta.persistence.ValidationMode;
 import jakarta.persistence.spi.PersistenceUnitTransactionType;
@@ -76,6 +77,7 @@
 import io.quarkus.arc.deployment.staticmethods.InterceptedStaticMethodsTransformersRegisteredBuildItem;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.builder.BuildException;
+import io.quarkus.caffeine.runtime.graal.CacheConstructorsFeature;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.datasource.common.runtime.DatabaseKind;
 import io.quarkus.deployment.Capabilities;
@@ -102,6 +104,7 @@
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageSystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.index.IndexingUtil;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
@@ -110,6 +113,7 @@
 import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.IdentifierQuotingStrategy;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCachingImplementation;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
@@ -123,6 +127,7 @@
 import io.quarkus.hibernate.orm.runtime.boot.xml.JAXBElementSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.QNameSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.hibernate.orm.runtime.config.DialectVersions;
 import io.quarkus.hibernate.orm.runtime.dev.HibernateOrmDevIntegrator;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
@@ -160,6 +165,8 @@ public final class HibernateOrmProcessor {
 
     private static final String INTEGRATOR_SERVICE_FILE = "META-INF/services/org.hibernate.integrator.spi.Integrator";
 
+    private static final int DEFAULT_BULK_WRITE_STATEMENT_BATCH_SIZE = 50;
+
     @BuildStep
     void registerHibernateOrmMetadataForCoreDialects(
             BuildProducer<DatabaseKindDialectBuildItem> producer) {
@@ -455,6 +462,22 @@ public BytecodeRecorderConstantDefinitionBuildItem pregenProxies(
         return new BytecodeRecorderConstantDefinitionBuildItem(PreGeneratedProxies.class, proxyDefinitions);
     }
 
+    @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    NativeImageSystemPropertyBuildItem registerCaffeineRecordStatsImplementations(HibernateOrmConfig hibernateOrmConfig) {
+        if (!hibernateOrmConfig.metrics().enabled() && !hibernateOrmConfig.statistics().orElse(false)) {
+            return null;
+        }
+        for (HibernateOrmConfigPersistenceUnit persistenceUnit : hibernateOrmConfig.persistenceUnits().values()) {
+            if (persistenceUnit.secondLevelCachingEnabled()
+                    && persistenceUnit.secondLevelCachingImplementation() == SecondLevelCachingImplementation.CAFFEINE) {
+                // The Caffeine caches of the regions record statistics when Hibernate ORM statistics are enabled
+                return new NativeImageSystemPropertyBuildItem(CacheConstructorsFeature.REGISTER_RECORD_STATS_IMPLEMENTATIONS,
+                        "true");
+            }
+        }
+        return null;
+    }
+
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     public void preGenAnnotationProxies(List<PersistenceUnitDescriptorBuildItem> persistenceUnitDescriptorBuildItems,
             BuildProducer<ReflectiveClassBuildItem> reflective,
@@ -851,7 +874,7 @@ private void handleHibernateORMWithNoPersistenceXml(
             producePersistenceUnitDescriptorFromConfig(
                     hibernateOrmConfig, PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME,
                     hibernateOrmConfig.defaultPersistenceUnit(),
-                    modelClassesAndPackagesForDefaultPersistenceUnit,
+                    modelClassesAndPackagesForDefaultPersistenceUnit, index.getIndex(),
                     jpaModel.getXmlMappings(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
                     jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
                     systemProperties, nativeImageResources, hotDeploymentWatchedFiles, persistenceUnitDescriptors,
@@ -872,6 +895,7 @@ private void handleHibernateORMWithNoPersistenceXml(
                     hibernateOrmConfig, persistenceUnitEntry.getKey(), persistenceUnitEntry.getValue(),
                     modelClassesAndPackagesPerPersistencesUnits.getOrDefault(persistenceUnitEntry.getKey(),
                             Collections.emptySet()),
+                    index.getIndex(),
                     jpaModel.getXmlMappings(persistenceUnitEntry.getKey()),
                     jdbcDataSources, applicationArchivesBuildItem, launchMode, capabilities,
                     systemProperties, nativeImageResources, hotDeploymentWatchedFiles, persistenceUnitDescriptors,
@@ -889,6 +913,7 @@ private static void producePersistenceUnitDescriptorFromConfig(
             String persistenceUnitName,
             HibernateOrmConfigPersistenceUnit persistenceUnitConfig,
             Set<String> modelClassesAndPackages,
+            IndexView index,
             List<RecordableXmlMapping> xmlMappings,
             List<JdbcDataSourceBuildItem> jdbcDataSources,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
@@ -1006,9 +1031,20 @@ private static void producePersistenceUnitDescriptorFromConfig(
                 fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_FETCH_SIZE,
                         String.valueOf(fetchSize)));
 
-        persistenceUnitConfig.jdbc().statementBatchSize().ifPresent(
-                fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
-                        String.valueOf(fetchSize)));
+        OptionalInt statementBatchSize = persistenceUnitConfig.jdbc().statementBatchSize();
+        if (persistenceUnitConfig.jdbc().bulkWrite()) {
+            // Order the statements so that the consecutive ones can be batched together
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+            descriptor.getProperties().setProperty(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+            if (statementBatchSize.isEmpty()) {
+                statementBatchSize = OptionalInt.of(DEFAULT_BULK_WRITE_STATEMENT_BATCH_SIZE);
+            }
+            warnOfEntitiesPreventingBatchInserts(persistenceUnitName, modelClassesAndPackages, index);
+        }
+        statementBatchSize.ifPresent(
+                size -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                        String.valueOf(size)));
 
         // Statistics
         if (hibernateOrmConfig.metrics().enabled()
@@ -1069,6 +1105,9 @@ private static void producePersistenceUnitDescriptorFromConfig(
             p.putIfAbsent(USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
             p.putIfAbsent(USE_QUERY_CACHE, Boolean.TRUE);
             p.putIfAbsent(JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            if (persistenceUnitConfig.secondLevelCachingImplementation() == SecondLevelCachingImplementation.CAFFEINE) {
+                p.setProperty(AvailableSettings.CACHE_REGION_FACTORY, QuarkusCaffeineRegionFactory.class.getName());
+            }
             Map<String, String> cacheConfigEntries = HibernateConfigUtil.getCacheConfigEntries(persistenceUnitConfig);
             for (Entry<String, String> entry : cacheConfigEntries.entrySet()) {
                 descriptor.getProperties().setProperty(entry.getKey(), entry.getValue());
@@ -1111,6 +1150,37 @@ private static void producePersistenceUnitDescriptorFromConfig(
                         false, false, capabilities));
     }
 
+    private static void warnOfEntitiesPreventingBatchInserts(String persistenceUnitName,
+            Set<String> modelClassesAndPackages, IndexView index) {
+        Set<String> identityEntities = new TreeSet<>();
+        for (String modelClassOrPackage : modelClassesAndPackages) {
+            ClassInfo classInfo = index.getClassByName(modelClassOrPackage);
+            if (classInfo != null && classInfo.hasDeclaredAnnotation(ClassNames.JPA_ENTITY)
+                    && hasIdentityGeneratedId(classInfo, index)) {
+                identityEntities.add(modelClassOrPackage);
+            }
+        }
+        if (!identityEntities.isEmpty()) {
+            LOG.warnf("Bulk writes are enabled for persistence unit '%s', but the inserts of entities %s cannot be batched"
+                    + " because their identifiers are generated by identity columns. Use sequences instead to batch them.",
+                    persistenceUnitName, identityEntities);
+        }
+    }
+
+    private static boolean hasIdentityGeneratedId(ClassInfo classInfo, IndexView index) {
+        while (classInfo != null) {
+            for (AnnotationInstance generatedValue : classInfo.annotations(ClassNames.GENERATED_VALUE)) {
+                AnnotationValue strategy = generatedValue.value("strategy");
+                if (strategy != null && GenerationType.IDENTITY.name().equals(strategy.asEnum())) {
+                    return true;
+                }
+            }
+            DotName superName = classInfo.superName();
+            classInfo = superName == null ? null : index.getClassByName(superName);
+        }
+        return false;
+    }
+
     private static void collectDialectConfig(String persistenceUnitName,
             HibernateOrmConfigPersistenceUnit persistenceUnitConfig,
             List<DatabaseKindDialectBuildItem> dbKindMetadataBuildItems, Optional<JdbcDataSourceBuildItem> jdbcDataSource,
@@ -0,0 +1,84 @@
+package io.quarkus.hibernate.orm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JPACaffeineCacheTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(Country.class))
+            .withConfigurationResource("application-metrics-enabled.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.second-level-caching-implementation", "caffeine")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.countries.memory.object-count", "100")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.countries.expiration.max-lifetime", "1H");
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testCaffeineRegions() {
+        QuarkusCaffeineRegionFactory regionFactory = assertInstanceOf(QuarkusCaffeineRegionFactory.class,
+                em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory());
+        CaffeineStorageAccess countries = regionFactory.getStorageAccesses().get("countries");
+        assertNotNull(countries);
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            Country country = new Country();
+            country.code = "CZ";
+            country.name = "Czechia";
+            em.persist(country);
+        });
+        QuarkusTransaction.requiringNew().run(() -> assertEquals("Czechia", em.find(Country.class, "CZ").name));
+        QuarkusTransaction.requiringNew().run(() -> assertEquals("Czechia", em.find(Country.class, "CZ").name));
+
+        assertEquals(1L, countries.estimatedSize());
+        Gauge<?> size = metricRegistry.getGauges().get(new MetricID("hibernate.second.level.cache.size",
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                new Tag("region", "countries")));
+        assertNotNull(size);
+        assertEquals(1L, ((Number) size.getValue()).longValue());
+    }
+
+    @Entity(name = "Country")
+    @Cacheable
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+    public static class Country {
+
+        @Id
+        String code;
+
+        String name;
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.quarkus.hibernate.orm.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkWriteTest {
+
+    private static final Formatter LOG_FORMATTER = new PatternFormatter("%s");
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SequenceEntity.class, OtherSequenceEntity.class, IdentityEntity.class))
+            .withConfigurationResource("application-metrics-enabled.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.bulk-write", "true")
+            .setLogRecordPredicate(record -> record.getLevel().equals(Level.WARNING))
+            .assertLogRecords(records -> assertThat(records)
+                    .anySatisfy(record -> assertThat(LOG_FORMATTER.formatMessage(record))
+                            .contains("Bulk writes are enabled for persistence unit '<default>'",
+                                    IdentityEntity.class.getName())
+                            .doesNotContain(SequenceEntity.class.getName())));
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testBulkWrite() {
+        SessionFactoryOptions options = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions();
+        assertThat(options.isOrderInsertsEnabled()).isTrue();
+        assertThat(options.isOrderUpdatesEnabled()).isTrue();
+        assertThat(options.isJdbcBatchVersionedData()).isTrue();
+        assertThat(options.getJdbcBatchSize()).isEqualTo(50);
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (int i = 0; i < 60; i++) {
+                em.persist(new SequenceEntity());
+                em.persist(new OtherSequenceEntity());
+            }
+        });
+        // The ordered inserts are sent in batches of 50, 10, 50 and 10 rows
+        assertThat(getCounterValueOrNull("hibernate.jdbc.batches")).isEqualTo(4L);
+        assertThat(getCounterValueOrNull("hibernate.jdbc.batches.entries")).isEqualTo(120L);
+    }
+
+    private Long getCounterValueOrNull(String metricName) {
+        Counter metric = metricRegistry.getCounters().get(new MetricID(metricName,
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
+        return metric != null ? metric.getCount() : null;
+    }
+
+    @Entity
+    public static class SequenceEntity {
+
+        @Id
+        @GeneratedValue
+        Long id;
+
+    }
+
+    @Entity
+    public static class OtherSequenceEntity {
+
+        @Id
+        @GeneratedValue
+        Long id;
+
+    }
+
+    @Entity
+    public static class IdentityEntity {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+    }
+
+}
@@ -384,7 +384,8 @@ private MergedSettings mergeSettings(QuarkusPersistenceUnitDefinition puDefiniti
             }
         }
 
-        cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
+        // The region factory is only set at build time when an alternative implementation is selected
+        cfg.putIfAbsent(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
                 QuarkusInfinispanRegionFactory.class.getName());
 
         for (HibernateOrmIntegrationStaticDescriptor descriptor : integrationStaticDescriptors) {
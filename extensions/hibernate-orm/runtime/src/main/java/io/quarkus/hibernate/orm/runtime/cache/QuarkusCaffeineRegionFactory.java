@@ -0,0 +1,113 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A region factory storing each region of the second-level cache in a dedicated Caffeine cache.
+ * <p>
+ * The entity, collection, natural id and query results regions are bounded by size, using Caffeine's W-TinyLFU eviction
+ * policy, and by time. They are configured with the same properties as the default implementation, plus
+ * {@value #MAX_LIFETIME_SUFFIX}. The update timestamps region is never evicted, otherwise cached query results could be
+ * considered up to date when they are not.
+ * <p>
+ * The caches record their statistics only if Hibernate ORM statistics are enabled.
+ */
+public final class QuarkusCaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String PREFIX = "hibernate.cache.";
+    public static final String OBJECT_COUNT_SUFFIX = ".memory.object-count";
+    public static final String MAX_IDLE_SUFFIX = ".expiration.max-idle";
+    public static final String MAX_LIFETIME_SUFFIX = ".expiration.max-lifetime";
+
+    private static final long DEFAULT_OBJECT_COUNT = 10_000;
+    private static final long DEFAULT_MAX_IDLE_SECONDS = 100;
+
+    private final Map<String, CaffeineStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+    private Map<String, Object> configValues;
+    private boolean recordStats;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+        this.recordStats = settings.isStatisticsEnabled();
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        for (CaffeineStorageAccess storageAccess : storageAccesses.values()) {
+            storageAccess.release();
+        }
+        storageAccesses.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, true);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, false);
+    }
+
+    /**
+     * @return the storage of each region built by this factory, by region name
+     */
+    public Map<String, CaffeineStorageAccess> getStorageAccesses() {
+        return Collections.unmodifiableMap(storageAccesses);
+    }
+
+    private CaffeineStorageAccess createStorageAccess(String regionName, boolean evictable) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (evictable) {
+            long objectCount = getLong(regionName, OBJECT_COUNT_SUFFIX, DEFAULT_OBJECT_COUNT);
+            if (objectCount >= 0) {
+                builder.maximumSize(objectCount);
+            }
+            long maxIdle = getLong(regionName, MAX_IDLE_SUFFIX, DEFAULT_MAX_IDLE_SECONDS);
+            if (maxIdle > 0) {
+                builder.expireAfterAccess(Duration.ofSeconds(maxIdle));
+            }
+            long maxLifetime = getLong(regionName, MAX_LIFETIME_SUFFIX, -1);
+            if (maxLifetime > 0) {
+                builder.expireAfterWrite(Duration.ofSeconds(maxLifetime));
+            }
+        }
+        if (recordStats) {
+            builder.recordStats();
+        }
+        CaffeineStorageAccess storageAccess = new CaffeineStorageAccess(builder.build());
+        storageAccesses.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private long getLong(String regionName, String suffix, long defaultValue) {
+        Object value = configValues.get(PREFIX + regionName + suffix);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+
+}
@@ -1,16 +1,23 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.hibernate.orm.runtime.service.QuarkusBatchBuilder;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -31,6 +38,17 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        SessionFactoryImplementor sessionFactoryImplementor = (SessionFactoryImplementor) sessionFactory;
+                        RegionFactory regionFactory = sessionFactoryImplementor.getCache().getRegionFactory();
+                        if (regionFactory instanceof QuarkusCaffeineRegionFactory) {
+                            registerCaffeineRegionMetrics(metricsFactory, puName,
+                                    (QuarkusCaffeineRegionFactory) regionFactory);
+                        }
+                        BatchBuilder batchBuilder = sessionFactoryImplementor.getServiceRegistry()
+                                .getService(BatchBuilder.class);
+                        if (batchBuilder instanceof QuarkusBatchBuilder) {
+                            registerBatchMetrics(metricsFactory, puName, (QuarkusBatchBuilder) batchBuilder);
+                        }
                     }
                 }
             }
@@ -203,6 +221,50 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the second level cache regions stored in Caffeine caches
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param regionFactory Region factory of the persistence unit
+     */
+    void registerCaffeineRegionMetrics(MetricsFactory metricsFactory, String puName,
+            QuarkusCaffeineRegionFactory regionFactory) {
+        for (Map.Entry<String, CaffeineStorageAccess> entry : regionFactory.getStorageAccesses().entrySet()) {
+            String regionName = entry.getKey();
+            CaffeineStorageAccess storageAccess = entry.getValue();
+            createBuilder(metricsFactory, "hibernate.second.level.cache.size",
+                    "The approximate number of entries in the second level cache region",
+                    puName, "region", regionName)
+                    .buildGauge(storageAccess, CaffeineStorageAccess::estimatedSize);
+            createBuilder(metricsFactory, "hibernate.second.level.cache.hit.ratio",
+                    "The ratio of requests to the second level cache region which were hits",
+                    puName, "region", regionName)
+                    .buildGauge(storageAccess, s -> s.stats().hitRate());
+            createBuilder(metricsFactory, "hibernate.second.level.cache.evictions",
+                    "The number of entries evicted from the second level cache region because of its size or expiration",
+                    puName, "region", regionName)
+                    .buildCounter(storageAccess, s -> s.stats().evictionCount());
+        }
+    }
+
+    /**
+     * Register the metrics of the JDBC batches executed when flushing
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param batchBuilder Batch builder of the persistence unit
+     */
+    void registerBatchMetrics(MetricsFactory metricsFactory, String puName, QuarkusBatchBuilder batchBuilder) {
+        createStatisticsCounter(metricsFactory, "hibernate.jdbc.batches",
+                "The number of JDBC batches executed",
+                puName, batchBuilder, QuarkusBatchBuilder::getExecutedBatchCount);
+        createStatisticsCounter(metricsFactory, "hibernate.jdbc.batches.entries",
+                "The number of entries in the executed JDBC batches; divided by the number of batches, " +
+                        "the achieved batch size",
+                puName, batchBuilder, QuarkusBatchBuilder::getExecutedEntryCount);
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
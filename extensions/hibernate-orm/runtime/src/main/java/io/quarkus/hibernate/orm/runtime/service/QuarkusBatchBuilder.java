@@ -0,0 +1,115 @@
+package io.quarkus.hibernate.orm.runtime.service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+/**
+ * A batch builder counting the JDBC batches executed by the batches it builds, and the entries they contained.
+ * <p>
+ * Dividing the number of entries by the number of batches gives the batch size actually achieved by the flushes, which
+ * is lower than the configured batch size when the statements are not ordered, or when there are few of them.
+ */
+public final class QuarkusBatchBuilder implements BatchBuilder {
+
+    private final BatchBuilder delegate;
+    private final LongAdder executedBatches = new LongAdder();
+    private final LongAdder executedEntries = new LongAdder();
+
+    QuarkusBatchBuilder(BatchBuilder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Batch buildBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier,
+            JdbcCoordinator jdbcCoordinator) {
+        return new CountingBatch(delegate.buildBatch(key, batchSize, statementGroupSupplier, jdbcCoordinator));
+    }
+
+    /**
+     * @return the number of JDBC batches executed
+     */
+    public long getExecutedBatchCount() {
+        return executedBatches.sum();
+    }
+
+    /**
+     * @return the number of entries contained in the executed JDBC batches
+     */
+    public long getExecutedEntryCount() {
+        return executedEntries.sum();
+    }
+
+    private final class CountingBatch implements Batch, BatchObserver {
+
+        private final Batch delegate;
+        // A batch is used by a single session
+        private int pendingEntries;
+
+        CountingBatch(Batch delegate) {
+            this.delegate = delegate;
+            delegate.addObserver(this);
+        }
+
+        @Override
+        public BatchKey getKey() {
+            return delegate.getKey();
+        }
+
+        @Override
+        public void addObserver(BatchObserver observer) {
+            delegate.addObserver(observer);
+        }
+
+        @Override
+        public PreparedStatementGroup getStatementGroup() {
+            return delegate.getStatementGroup();
+        }
+
+        @Override
+        public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+            // The batch is executed implicitly from within addToBatch() once it is full
+            pendingEntries++;
+            delegate.addToBatch(jdbcValueBindings, inclusionChecker);
+        }
+
+        @Override
+        public void execute() {
+            delegate.execute();
+        }
+
+        @Override
+        public void release() {
+            pendingEntries = 0;
+            delegate.release();
+        }
+
+        @Override
+        public void batchExplicitlyExecuted() {
+            recordExecution();
+        }
+
+        @Override
+        public void batchImplicitlyExecuted() {
+            recordExecution();
+        }
+
+        private void recordExecution() {
+            if (pendingEntries > 0) {
+                executedBatches.increment();
+                executedEntries.add(pendingEntries);
+                pendingEntries = 0;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.quarkus.hibernate.orm.runtime.service;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Builds the default batch builder, which is wrapped to count the executed JDBC batches when statistics are enabled.
+ */
+public final class QuarkusBatchBuilderInitiator implements StandardServiceInitiator<BatchBuilder> {
+
+    public static final QuarkusBatchBuilderInitiator INSTANCE = new QuarkusBatchBuilderInitiator();
+
+    private QuarkusBatchBuilderInitiator() {
+    }
+
+    @Override
+    public Class<BatchBuilder> getServiceInitiated() {
+        return BatchBuilder.class;
+    }
+
+    @Override
+    public BatchBuilder initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+        BatchBuilder batchBuilder = BatchBuilderInitiator.INSTANCE.initiateService(configurationValues, registry);
+        if (ConfigurationHelper.getBoolean(AvailableSettings.GENERATE_STATISTICS, configurationValues)) {
+            return new QuarkusBatchBuilder(batchBuilder);
+        }
+        return batchBuilder;
+    }
+
+}
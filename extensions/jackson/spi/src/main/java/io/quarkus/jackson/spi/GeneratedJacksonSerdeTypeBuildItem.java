@@ -0,0 +1,44 @@
+package io.quarkus.jackson.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * BuildItem used by extensions to request build-time generated, reflection-free Jackson serializers and/or
+ * deserializers for a given type.
+ * <p>
+ * The generation itself is performed by extensions that support it (e.g. {@code quarkus-rest-jackson} when
+ * {@code quarkus.rest.jackson.optimization.enable-reflection-free-serializers} is enabled), and the generated
+ * classes are registered on the application {@code ObjectMapper}. Producing this item has no effect otherwise.
+ */
+public final class GeneratedJacksonSerdeTypeBuildItem extends MultiBuildItem {
+
+    private final String className;
+    private final boolean serialization;
+    private final boolean deserialization;
+
+    public GeneratedJacksonSerdeTypeBuildItem(String className, boolean serialization, boolean deserialization) {
+        this.className = className;
+        this.serialization = serialization;
+        this.deserialization = deserialization;
+    }
+
+    public static GeneratedJacksonSerdeTypeBuildItem serializer(String className) {
+        return new GeneratedJacksonSerdeTypeBuildItem(className, true, false);
+    }
+
+    public static GeneratedJacksonSerdeTypeBuildItem deserializer(String className) {
+        return new GeneratedJacksonSerdeTypeBuildItem(className, false, true);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public boolean isSerialization() {
+        return serialization;
+    }
+
+    public boolean isDeserialization() {
+        return deserialization;
+    }
+}
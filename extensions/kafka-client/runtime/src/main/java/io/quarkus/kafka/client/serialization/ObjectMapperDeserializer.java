@@ -1,21 +1,33 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+/**
+ * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * When {@link #FROM_BYTE_BUFFER_CONFIG} is set to {@code true}, records are read straight from the {@link ByteBuffer}
+ * handed over by the Kafka consumer instead of being copied into an intermediate {@code byte[]} first.
+ */
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
+    public static final String FROM_BYTE_BUFFER_CONFIG = "json.deserialize.from-byte-buffer";
 
     private final JavaType type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+
+    private boolean fromByteBuffer = false;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
@@ -23,7 +35,7 @@ public ObjectMapperDeserializer(Class<T> type) {
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
         this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(this.type);
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -32,11 +44,15 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
         this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(this.type);
     }
 
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
+        Object value = configs.get(FROM_BYTE_BUFFER_CONFIG);
+        if (value != null && Boolean.parseBoolean(value.toString())) {
+            fromByteBuffer = true;
+        }
     }
 
     @Override
@@ -45,8 +61,29 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (!fromByteBuffer) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            if (data.hasArray()) {
+                return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            }
+            try (InputStream is = new ByteBufferBackedInputStream(data.duplicate())) {
+                return reader.readValue(is);
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -4,8 +4,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,4 +48,23 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeFromByteBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        deserializer.configure(Map.of(ObjectMapperDeserializer.FROM_BYTE_BUFFER_CONFIG, "true"), false);
+
+        // the record value is usually a slice of a larger fetch buffer
+        byte[] batch = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(batch, 2, batch.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), heap));
+
+        byte[] json = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+        assertEquals(0, direct.position());
+
+        assertNull(deserializer.deserialize("topic", new RecordHeaders(), (ByteBuffer) null));
+    }
 }
@@ -4,6 +4,7 @@
 
 import jakarta.inject.Inject;
 
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -13,6 +14,7 @@
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.quarkus.test.QuarkusUnitTest;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
 
 public class PrometheusEnabledTest {
     @RegisterExtension
@@ -61,4 +63,23 @@ public void metricsEndpoint() {
                 .then()
                 .statusCode(200);
     }
+
+    @Test
+    public void metricsEndpointGzip() {
+        RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(Matchers.endsWith("# EOF\n"));
+
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .body(Matchers.endsWith("# EOF\n"));
+    }
 }
@@ -110,13 +110,28 @@ String getUrlTemplatePath() {
         return (urlTemplatePath == null ? templatePath : urlTemplatePath);
     }
 
+    /**
+     * @return the route template the request was matched to, or null: the JAX-RS path template, or the vert.x route
+     *         path if it has path parameters
+     */
+    String getRouteTemplate() {
+        String urlTemplatePath = getUrlTemplatePath();
+        if (urlTemplatePath != null) {
+            return urlTemplatePath;
+        }
+        if (currentRoutePath != null && currentRoutePath.contains(":")) {
+            return currentRoutePath;
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         return "HttpRequestMetric [initialPath=" + initialPath + ", currentRoutePath=" + currentRoutePath
                 + ", templatePath=" + templatePath + ", request=" + request + "]";
     }
 
-    private boolean isCORSPreflightRequest() {
+    boolean isCORSPreflightRequest() {
         return request.method() == HttpMethod.OPTIONS
                 && request.getHeader("Origin") != null
                 && request.getHeader("Access-Control-Request-Method") != null
@@ -0,0 +1,125 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.impl.HttpServerRequestInternal;
+
+/**
+ * Request timers of the templated routes, indexed by method and status code.
+ * <p>
+ * Resolving the timer of a request through the {@link MeterProvider} normalizes the request path, allocates the tags and
+ * looks the meter up in the registry. For the requests matched to a route template (JAX-RS path template, or vert.x
+ * route with path parameters), the normalized path only depends on the template, and the tags on the template, the
+ * method and the status code: the timers are kept in a table per template, and found without allocation once the
+ * first request with the same method and status code has been measured.
+ * <p>
+ * The requests without route template, with an unusual method or status code, or whose uri tag depends on the request
+ * path (redirections and 404 responses) use the {@link MeterProvider}.
+ */
+class HttpServerRouteTimers {
+
+    static final HttpMethod[] METHODS = {
+            HttpMethod.GET,
+            HttpMethod.POST,
+            HttpMethod.PUT,
+            HttpMethod.DELETE,
+            HttpMethod.PATCH,
+            HttpMethod.HEAD,
+            HttpMethod.OPTIONS
+    };
+    static final int MIN_STATUS = 100;
+    static final int MAX_STATUS = 599;
+
+    private final HttpBinderConfiguration config;
+    private final MeterProvider<Timer> requestsTimer;
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    HttpServerRouteTimers(HttpBinderConfiguration config, MeterProvider<Timer> requestsTimer) {
+        this.config = config;
+        this.requestsTimer = requestsTimer;
+    }
+
+    /**
+     * Stop the sample of the request with the timer of its route.
+     *
+     * @param requestMetric the request metric
+     * @param statusCode the status code of the response
+     * @return false if the request must be measured through the {@link MeterProvider}
+     */
+    boolean stop(HttpRequestMetric requestMetric, int statusCode) {
+        HttpServerRequestInternal request = requestMetric.request();
+        if (request == null || requestMetric.isCORSPreflightRequest()) {
+            return false;
+        }
+        String template = requestMetric.getRouteTemplate();
+        if (template == null) {
+            return false;
+        }
+        int methodIndex = methodIndex(request.method());
+        if (methodIndex < 0
+                || statusCode < MIN_STATUS || statusCode > MAX_STATUS
+                || statusCode / 100 == 3 || statusCode == 404) {
+            return false;
+        }
+
+        Route route = routes.get(template);
+        if (route == null) {
+            String path = requestMetric.getNormalizedUriPath(
+                    config.getServerMatchPatterns(),
+                    config.getServerIgnorePatterns());
+            route = routes.computeIfAbsent(template, k -> new Route(path));
+        }
+        if (route.path != null) {
+            requestMetric.getSample().stop(route.timer(methodIndex, statusCode));
+        }
+        return true;
+    }
+
+    static int methodIndex(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i] == method) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    final class Route {
+        // null if the route is ignored
+        final String path;
+        // lazily created table of timers per method, indexed by status code
+        private final AtomicReferenceArray<AtomicReferenceArray<Timer>> timers = new AtomicReferenceArray<>(
+                METHODS.length);
+
+        Route(String path) {
+            this.path = path;
+        }
+
+        Timer timer(int methodIndex, int statusCode) {
+            AtomicReferenceArray<Timer> byStatus = timers.get(methodIndex);
+            if (byStatus == null) {
+                timers.compareAndSet(methodIndex, null, new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1));
+                byStatus = timers.get(methodIndex);
+            }
+            Timer timer = byStatus.get(statusCode - MIN_STATUS);
+            if (timer == null) {
+                // same tags as VertxHttpServerMetrics#responseEnd, the registry returns the same timer on a race
+                timer = requestsTimer.withTags(Tags.of(
+                        VertxMetricsTags.method(METHODS[methodIndex]),
+                        HttpCommonTags.uri(path, null, statusCode),
+                        Outcome.forStatus(statusCode).asTag(),
+                        HttpCommonTags.status(statusCode)));
+                byStatus.set(statusCode - MIN_STATUS, timer);
+            }
+            return timer;
+        }
+    }
+}
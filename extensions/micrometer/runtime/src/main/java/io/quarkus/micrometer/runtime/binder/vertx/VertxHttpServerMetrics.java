@@ -48,6 +48,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final MeterProvider<Counter> pushCounter;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
+    // null if the request timers can't be resolved from the route template
+    private final HttpServerRouteTimers routeTimers;
 
     VertxHttpServerMetrics(MeterRegistry registry, HttpBinderConfiguration config) {
         super(registry, "http.server", null);
@@ -71,6 +73,11 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         pushCounter = Counter.builder(config.getHttpServerPushName())
                 .description("HTTP server response push counter")
                 .withRegistry(registry);
+
+        // match patterns apply to the request path and contributors to the request, not to the route template
+        routeTimers = config.getServerMatchPatterns().isEmpty() && httpServerMetricsTagsContributors.isEmpty()
+                ? new HttpServerRouteTimers(config, requestsTimer)
+                : null;
         // not dev-mode changeable -----ˆ
     }
 
@@ -185,6 +192,11 @@ public void requestReset(HttpRequestMetric requestMetric) {
     public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response, long bytesWritten) {
         log.debugf("responseEnd %s, %s", response, requestMetric);
 
+        if (routeTimers != null && routeTimers.stop(requestMetric, response.statusCode())) {
+            requestMetric.requestEnded();
+            return;
+        }
+
         String path = requestMetric.getNormalizedUriPath(
                 config.getServerMatchPatterns(),
                 config.getServerIgnorePatterns());
@@ -1,6 +1,9 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
@@ -35,8 +38,10 @@ public class VertxMeterBinderAdapter extends MetricsOptions
         implements VertxMetricsFactory, VertxMetrics, ExtendedQuarkusVertxHttpMetrics {
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
     public static final String METRIC_NAME_SEPARATOR = "|";
+    private static final String REST_CLIENT_METRICS_TYPE = "rest-client" + METRIC_NAME_SEPARATOR;
 
     private HttpBinderConfiguration httpBinderConfiguration;
+    private final Map<Tags, LongAdder> restClientActiveConnections = new ConcurrentHashMap<>();
 
     public VertxMeterBinderAdapter() {
     }
@@ -89,7 +94,10 @@ public MetricsOptions newOptions() {
 
             // If the name is set, check if it follows the type/client-name syntax
             String clientName = extractClientName(options.getMetricsName());
-            if (clientName != null) {
+            if (clientName != null && options.getMetricsName().startsWith(REST_CLIENT_METRICS_TYPE)) {
+                return new VertxRestClientPoolMetrics(Metrics.globalRegistry, Tags.of(Tag.of("clientName", clientName)),
+                        restClientActiveConnections);
+            } else if (clientName != null) {
                 return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client",
                         Tags.of(Tag.of("clientName", clientName)),
                         httpBinderConfiguration);
@@ -0,0 +1,113 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+/**
+ * Metrics of the connection pools of the HTTP clients used by the REST Client.
+ * <p>
+ * The pools are keyed by remote address, the requests themselves are measured by the REST Client metrics filter.
+ * The connection reuse is the ratio between {@code http.client.pool.requests} and
+ * {@code http.client.pool.connections.opened}.
+ */
+class VertxRestClientPoolMetrics implements HttpClientMetrics<Object, Object, Object, EventTiming> {
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Map<Tags, LongAdder> activeConnections;
+
+    /**
+     * @param activeConnections the active connection counts, shared by the pools with the same name as a gauge is
+     *        registered once
+     */
+    VertxRestClientPoolMetrics(MeterRegistry registry, Tags tags, Map<Tags, LongAdder> activeConnections) {
+        this.registry = registry;
+        this.tags = tags;
+        this.activeConnections = activeConnections;
+    }
+
+    @Override
+    public ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> createEndpointMetrics(
+            SocketAddress remoteAddress, int maxPoolSize) {
+        return new EndpointMetrics(tags.and(Tag.of("address", NetworkMetrics.toString(remoteAddress))));
+    }
+
+    @Override
+    public void endpointConnected(ClientMetrics<Object, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof EndpointMetrics) {
+            ((EndpointMetrics) endpointMetric).connected();
+        }
+    }
+
+    @Override
+    public void endpointDisconnected(ClientMetrics<Object, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof EndpointMetrics) {
+            ((EndpointMetrics) endpointMetric).disconnected();
+        }
+    }
+
+    class EndpointMetrics implements ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> {
+
+        private final Timer wait;
+        private final Counter requests;
+        private final Counter opened;
+        private final LongAdder active;
+
+        EndpointMetrics(Tags tags) {
+            wait = Timer.builder("http.client.pool.wait")
+                    .description("Time spent waiting for a connection of the pool")
+                    .publishPercentileHistogram()
+                    .tags(tags)
+                    .register(registry);
+            requests = Counter.builder("http.client.pool.requests")
+                    .description("Number of requests which asked the pool for a connection")
+                    .tags(tags)
+                    .register(registry);
+            opened = Counter.builder("http.client.pool.connections.opened")
+                    .description("Number of connections opened by the pool")
+                    .tags(tags)
+                    .register(registry);
+            active = activeConnections.computeIfAbsent(tags, t -> {
+                LongAdder count = new LongAdder();
+                Gauge.builder("http.client.pool.connections.active", count, LongAdder::doubleValue)
+                        .description("Number of open connections of the pool")
+                        .tags(t)
+                        .strongReference(true)
+                        .register(registry);
+                return count;
+            });
+        }
+
+        @Override
+        public EventTiming enqueueRequest() {
+            return new EventTiming(wait);
+        }
+
+        @Override
+        public void dequeueRequest(EventTiming event) {
+            event.end();
+            requests.increment();
+        }
+
+        void connected() {
+            opened.increment();
+            active.increment();
+        }
+
+        void disconnected() {
+            active.decrement();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Writes to a chunked HTTP response from a worker thread, in pooled buffers of {@link #CHUNK_SIZE} bytes.
+ * <p>
+ * The writing thread is blocked while the write queue of the response is full, so the memory used does not depend on
+ * the size of the response. The stream must be the only writer of the response, as it owns its drain handler.
+ */
+class ChunkedResponseOutputStream extends OutputStream {
+
+    static final int CHUNK_SIZE = 32 * 1024;
+
+    private final HttpServerResponse response;
+    private volatile CompletableFuture<Void> drained;
+    private ByteBuf chunk;
+    private boolean closed;
+
+    ChunkedResponseOutputStream(RoutingContext routingContext) {
+        this.response = routingContext.response();
+        response.setChunked(true);
+        response.drainHandler(v -> wakeUp(null));
+        // unlike HttpServerResponse#closeHandler(), this does not replace the handlers registered by others
+        routingContext.addEndHandler(ar -> {
+            if (ar.failed()) {
+                wakeUp(ar.cause());
+            }
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureChunk().writeByte(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuf current = ensureChunk();
+            int written = Math.min(len, current.writableBytes());
+            current.writeBytes(b, off, written);
+            off += written;
+            len -= written;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (chunk != null && chunk.isReadable()) {
+            ByteBuf full = chunk;
+            chunk = null;
+            try {
+                awaitDrain();
+            } catch (IOException e) {
+                full.release();
+                throw e;
+            }
+            write(full, response, false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (chunk != null && chunk.isReadable()) {
+            ByteBuf last = chunk;
+            chunk = null;
+            write(last, response, true);
+        } else {
+            release();
+            response.end();
+        }
+    }
+
+    /**
+     * Release the pending chunk without writing it and without ending the response.
+     */
+    void abort() {
+        closed = true;
+        release();
+    }
+
+    private void release() {
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
+    }
+
+    private ByteBuf ensureChunk() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (chunk != null && !chunk.isWritable()) {
+            flush();
+        }
+        if (chunk == null) {
+            chunk = PooledByteBufAllocator.DEFAULT.buffer(CHUNK_SIZE, CHUNK_SIZE);
+        }
+        return chunk;
+    }
+
+    private void awaitDrain() throws IOException {
+        if (!response.writeQueueFull()) {
+            return;
+        }
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        this.drained = drained;
+        try {
+            // the connection may have been closed, or the queue drained, before the future was set
+            if (response.closed()) {
+                throw new IOException("Connection closed");
+            }
+            if (response.writeQueueFull()) {
+                drained.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw new IOException("Connection closed", e.getCause());
+        } finally {
+            this.drained = null;
+        }
+    }
+
+    private void wakeUp(Throwable failure) {
+        CompletableFuture<Void> drained = this.drained;
+        if (drained != null) {
+            if (failure == null) {
+                drained.complete(null);
+            } else {
+                drained.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private static void write(ByteBuf buffer, HttpServerResponse response, boolean end) throws IOException {
+        Future<Void> written;
+        try {
+            written = end ? response.end(Buffer.buffer(buffer)) : response.write(Buffer.buffer(buffer));
+        } catch (IllegalStateException e) {
+            buffer.release();
+            throw new IOException(e);
+        }
+        // vert.x doesn't release the buffers it did not allocate
+        written.onComplete(ar -> buffer.release());
+    }
+}
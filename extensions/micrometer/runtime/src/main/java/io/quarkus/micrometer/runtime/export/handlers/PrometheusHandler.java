@@ -1,5 +1,12 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
@@ -11,7 +18,6 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
@@ -35,12 +41,13 @@ public void handle(RoutingContext routingContext) {
         } else {
             ManagedContext requestContext = Arc.container().requestContext();
             var acceptHeader = chooseContentType(routingContext.request().getHeader("Accept"));
+            var gzip = acceptsGzip(routingContext.request().getHeader("Accept-Encoding"));
             if (requestContext.isActive()) {
-                doHandle(response, acceptHeader);
+                doHandle(routingContext, acceptHeader, gzip);
             } else {
                 requestContext.activate();
                 try {
-                    doHandle(response, acceptHeader);
+                    doHandle(routingContext, acceptHeader, gzip);
                 } finally {
                     requestContext.terminate();
                 }
@@ -58,9 +65,50 @@ private String chooseContentType(String acceptHeader) {
         return TextFormat.CONTENT_TYPE_OPENMETRICS_100;
     }
 
-    private void doHandle(HttpServerResponse response, String acceptHeader) {
-        response.putHeader("Content-Type", acceptHeader)
-                .end(Buffer.buffer(registry.scrape(acceptHeader)));
+    private boolean acceptsGzip(String acceptEncodingHeader) {
+        return acceptEncodingHeader != null && acceptEncodingHeader.contains("gzip");
+    }
+
+    /**
+     * Stream the scrape output to the response, instead of building it in memory: the output can be large for
+     * applications with many time series.
+     */
+    private void doHandle(RoutingContext routingContext, String acceptHeader, boolean gzip) {
+        HttpServerResponse response = routingContext.response();
+        response.putHeader("Content-Type", acceptHeader);
+        if (gzip) {
+            response.putHeader("Content-Encoding", "gzip");
+        }
+        ChunkedResponseOutputStream output = new ChunkedResponseOutputStream(routingContext);
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(
+                    gzip ? new GZIPOutputStream(output, ChunkedResponseOutputStream.CHUNK_SIZE) : output,
+                    StandardCharsets.UTF_8);
+            registry.scrape(writer, acceptHeader);
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            output.abort();
+            closeQuietly(writer);
+            if (response.headWritten()) {
+                // the status has already been sent, the client has to see an incomplete response
+                log.debug("Unable to write the Prometheus scrape output", e);
+                response.close();
+            } else {
+                response.headers().remove("Content-Encoding");
+                throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+            }
+        }
+    }
+
+    private static void closeQuietly(Writer writer) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // the output stream is aborted
+            }
+        }
     }
 
     private void setup() {
@@ -0,0 +1,89 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
+import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
+import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.impl.HttpServerRequestInternal;
+import io.vertx.core.impl.ContextInternal;
+
+public class HttpServerRouteTimersTest {
+
+    MeterRegistry registry;
+    HttpServerRouteTimers routeTimers;
+
+    @BeforeEach
+    public void init() {
+        HttpServerConfig serverConfig = new HttpServerConfig();
+        serverConfig.ignorePatterns = Optional.of(new ArrayList<>(List.of("/ignored/.*")));
+        HttpBinderConfiguration config = new HttpBinderConfiguration(true, false,
+                serverConfig, new HttpClientConfig(), new VertxConfig());
+
+        registry = new SimpleMeterRegistry();
+        routeTimers = new HttpServerRouteTimers(config, Timer.builder("http.server.requests").withRegistry(registry));
+    }
+
+    @Test
+    public void testTemplatedRequestsShareTimer() {
+        Assertions.assertTrue(routeTimers.stop(requestMetric("/item/1", "/item/{id}", HttpMethod.GET), 200));
+        Assertions.assertTrue(routeTimers.stop(requestMetric("/item/2", "/item/{id}", HttpMethod.GET), 200));
+        Assertions.assertTrue(routeTimers.stop(requestMetric("/item/3", "/item/{id}", HttpMethod.GET), 500));
+
+        Timer timer = registry.get("http.server.requests")
+                .tag("uri", "/item/{id}")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        Assertions.assertEquals(2, timer.count());
+        Assertions.assertEquals(1, registry.get("http.server.requests").tag("status", "500").timer().count());
+    }
+
+    @Test
+    public void testFallbackToMeterProvider() {
+        // no route template
+        Assertions.assertFalse(routeTimers.stop(requestMetric("/item/1", null, HttpMethod.GET), 200));
+        // uri tag depends on the request path
+        Assertions.assertFalse(routeTimers.stop(requestMetric("/item/1", "/item/{id}", HttpMethod.GET), 404));
+        Assertions.assertFalse(routeTimers.stop(requestMetric("/item/1", "/item/{id}", HttpMethod.GET), 302));
+        // unusual method
+        Assertions.assertFalse(routeTimers.stop(requestMetric("/item/1", "/item/{id}", HttpMethod.TRACE), 200));
+
+        Assertions.assertTrue(registry.find("http.server.requests").timers().isEmpty());
+    }
+
+    @Test
+    public void testIgnoredRoute() {
+        Assertions.assertTrue(routeTimers.stop(requestMetric("/ignored/1", "/ignored/{id}", HttpMethod.GET), 200));
+
+        Assertions.assertTrue(registry.find("http.server.requests").timers().isEmpty());
+    }
+
+    private HttpRequestMetric requestMetric(String path, String template, HttpMethod method) {
+        HttpServerRequestInternal request = Mockito.mock(HttpServerRequestInternal.class);
+        Mockito.when(request.method()).thenReturn(method);
+        Mockito.when(request.context()).thenReturn(Mockito.mock(ContextInternal.class));
+
+        HttpRequestMetric requestMetric = new HttpRequestMetric(path, new LongAdder());
+        requestMetric.request = request;
+        if (template != null) {
+            requestMetric.setTemplatePath(template);
+        }
+        requestMetric.setSample(Timer.start(registry));
+        return requestMetric;
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+public class VertxRestClientPoolMetricsTest {
+
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    final Map<Tags, LongAdder> activeConnections = new ConcurrentHashMap<>();
+
+    @Test
+    public void testPoolMetrics() {
+        VertxRestClientPoolMetrics metrics = new VertxRestClientPoolMetrics(registry, Tags.of("clientName", "shared"),
+                activeConnections);
+        ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> endpoint = metrics
+                .createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "backend"), 10);
+
+        metrics.endpointConnected(endpoint);
+        for (int i = 0; i < 3; i++) {
+            endpoint.dequeueRequest(endpoint.enqueueRequest());
+        }
+
+        Assertions.assertEquals(3, registry.get("http.client.pool.wait").tag("address", "backend:8080").timer().count());
+        Assertions.assertEquals(3, registry.get("http.client.pool.requests").counter().count());
+        Assertions.assertEquals(1, registry.get("http.client.pool.connections.opened").counter().count());
+        Assertions.assertEquals(1, registry.get("http.client.pool.connections.active").gauge().value());
+
+        metrics.endpointDisconnected(endpoint);
+        Assertions.assertEquals(0, registry.get("http.client.pool.connections.active").gauge().value());
+    }
+
+    @Test
+    public void testPoolsWithTheSameName() {
+        // e.g. REST clients which are not shared, or an endpoint re-created after expiring
+        SocketAddress address = SocketAddress.inetSocketAddress(8080, "backend");
+        ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> first = new VertxRestClientPoolMetrics(registry,
+                Tags.of("clientName", "default"), activeConnections).createEndpointMetrics(address, 10);
+        VertxRestClientPoolMetrics metrics = new VertxRestClientPoolMetrics(registry, Tags.of("clientName", "default"),
+                activeConnections);
+        ClientMetrics<Object, EventTiming, HttpRequest, HttpResponse> second = metrics.createEndpointMetrics(address,
+                10);
+
+        metrics.endpointConnected(first);
+        metrics.endpointConnected(second);
+
+        Assertions.assertEquals(2, registry.get("http.client.pool.connections.opened").counter().count());
+        Assertions.assertEquals(2, registry.get("http.client.pool.connections.active").gauge().value());
+    }
+}
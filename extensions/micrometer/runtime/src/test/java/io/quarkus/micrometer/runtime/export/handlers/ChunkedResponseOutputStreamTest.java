@@ -0,0 +1,124 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClosedException;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+public class ChunkedResponseOutputStreamTest {
+
+    RoutingContext routingContext;
+    HttpServerResponse response;
+    ChunkedResponseOutputStream output;
+
+    @BeforeEach
+    public void init() {
+        routingContext = Mockito.mock(RoutingContext.class);
+        response = Mockito.mock(HttpServerResponse.class);
+        Mockito.when(routingContext.response()).thenReturn(response);
+        Mockito.when(response.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+        output = new ChunkedResponseOutputStream(routingContext);
+    }
+
+    @Test
+    public void testCloseHandlerNotReplaced() throws IOException {
+        Mockito.when(response.end()).thenReturn(Future.succeededFuture());
+        output.write(1);
+        output.flush();
+        output.close();
+
+        Mockito.verify(response, Mockito.never()).closeHandler(any());
+        Mockito.verify(response, Mockito.never()).drainHandler(null);
+    }
+
+    @Test
+    public void testFailsWhenClosedBeforeDrain() throws IOException {
+        Mockito.when(response.writeQueueFull()).thenReturn(true);
+        Mockito.when(response.closed()).thenReturn(true);
+        output.write(1);
+
+        Assertions.assertThrows(IOException.class, output::flush);
+        Mockito.verify(response, Mockito.never()).write(any(Buffer.class));
+    }
+
+    @Test
+    public void testWritesOnceDrained() throws Exception {
+        Handler<Void> drainHandler = captureDrainHandler();
+        Mockito.when(response.writeQueueFull()).thenReturn(true);
+        output.write(1);
+
+        CompletableFuture<Void> flushed = flushAsync();
+        awaitBlocked(flushed);
+        Mockito.when(response.writeQueueFull()).thenReturn(false);
+        drainHandler.handle(null);
+
+        flushed.get(5, TimeUnit.SECONDS);
+        Mockito.verify(response).write(any(Buffer.class));
+    }
+
+    @Test
+    public void testFailsWhenClosedWhileWaiting() throws Exception {
+        Handler<AsyncResult<Void>> endHandler = captureEndHandler();
+        Mockito.when(response.writeQueueFull()).thenReturn(true);
+        output.write(1);
+
+        CompletableFuture<Void> flushed = flushAsync();
+        awaitBlocked(flushed);
+        endHandler.handle(Future.failedFuture(new HttpClosedException("Connection was closed")));
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> flushed.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IOException.class, e.getCause());
+        Mockito.verify(response, Mockito.never()).write(any(Buffer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Void> captureDrainHandler() {
+        ArgumentCaptor<Handler<Void>> captor = ArgumentCaptor.forClass(Handler.class);
+        Mockito.verify(response).drainHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<AsyncResult<Void>> captureEndHandler() {
+        ArgumentCaptor<Handler<AsyncResult<Void>>> captor = ArgumentCaptor.forClass(Handler.class);
+        Mockito.verify(routingContext).addEndHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    private CompletableFuture<Void> flushAsync() {
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        new Thread(() -> {
+            try {
+                output.flush();
+                flushed.complete(null);
+            } catch (Throwable t) {
+                flushed.completeExceptionally(t);
+            }
+        }).start();
+        return flushed;
+    }
+
+    private void awaitBlocked(CompletableFuture<Void> flushed) throws InterruptedException {
+        // the flush is waiting once it has checked whether the connection is closed
+        Mockito.verify(response, Mockito.timeout(5000)).closed();
+        Thread.sleep(50);
+        Assertions.assertFalse(flushed.isDone());
+    }
+}
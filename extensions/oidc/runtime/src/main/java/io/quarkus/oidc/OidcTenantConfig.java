@@ -548,6 +548,17 @@ public static class Jwks {
         @ConfigItem(defaultValue = "false")
         public boolean tryAll = false;
 
+        /**
+         * JWK set refresh interval.
+         * If this property is set, the JWK set is refreshed periodically in the background, so that the keys
+         * which are added by the OIDC provider before they are used to sign the tokens are already available when
+         * such tokens are verified.
+         * The tenants which use the same JWK set endpoint share the JWK set and refresh it only once per interval.
+         * This property is ignored if the {@link #resolveEarly} property is set to false.
+         */
+        @ConfigItem
+        public Optional<Duration> refreshInterval = Optional.empty();
+
         public int getCacheSize() {
             return cacheSize;
         }
@@ -587,6 +598,14 @@ public boolean isTryAll() {
         public void setTryAll(boolean fallbackToTryAll) {
             this.tryAll = fallbackToTryAll;
         }
+
+        public Optional<Duration> getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = Optional.of(refreshInterval);
+        }
     }
 
     @ConfigGroup
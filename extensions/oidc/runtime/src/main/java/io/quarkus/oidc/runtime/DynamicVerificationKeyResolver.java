@@ -60,9 +60,17 @@ public Uni<VerificationKeyResolver> resolve(TokenCredential tokenCred) {
             return getChainResolver();
         }
 
+        // the key set is not shared with other requests as it may depend on the current token
+        final long start = System.nanoTime();
         return client.getJsonWebKeySet(new OidcRequestContextProperties(
                 Map.of(OidcRequestContextProperties.TOKEN, tokenCred.getToken(),
                         OidcRequestContextProperties.TOKEN_CREDENTIAL, tokenCred)))
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        JsonWebKeySetCache.recordKeyMiss(start);
+                    }
+                })
                 .onItem().transformToUni(new Function<JsonWebKeySet, Uni<? extends VerificationKeyResolver>>() {
 
                     @Override
@@ -0,0 +1,133 @@
+package io.quarkus.oidc.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * JSON Web Key sets shared by the tenants which get their verification keys from the same JWK set endpoint.
+ * <p>
+ * A key set is fetched by one request at a time: the requests which need the key set while it is being fetched
+ * wait for the same response, and the key set fetched for one tenant is used by all the tenants.
+ */
+final class JsonWebKeySetCache {
+
+    private static final Map<String, SharedKeySet> KEY_SETS = new ConcurrentHashMap<>();
+
+    /**
+     * Records the time it takes to get a new key set when a token verification key is not available, set when metrics
+     * are enabled.
+     */
+    static volatile TimeRecorder keyMissTimer;
+
+    private JsonWebKeySetCache() {
+    }
+
+    /**
+     * @param jwksUri the JWK set endpoint address
+     * @param keySet the key set which has just been fetched from the endpoint
+     * @return the key set shared by all the tenants using the JWK set endpoint; it must be released when it is no longer
+     *         used
+     */
+    static SharedKeySet acquire(String jwksUri, JsonWebKeySet keySet) {
+        return KEY_SETS.compute(jwksUri, new BiFunction<String, SharedKeySet, SharedKeySet>() {
+            @Override
+            public SharedKeySet apply(String uri, SharedKeySet shared) {
+                if (shared == null) {
+                    shared = new SharedKeySet(uri, keySet);
+                } else {
+                    shared.keySet = keySet;
+                }
+                shared.users++;
+                return shared;
+            }
+        });
+    }
+
+    static void release(SharedKeySet sharedKeySet) {
+        if (sharedKeySet.uri == null) {
+            return;
+        }
+        KEY_SETS.computeIfPresent(sharedKeySet.uri, new BiFunction<String, SharedKeySet, SharedKeySet>() {
+            @Override
+            public SharedKeySet apply(String uri, SharedKeySet shared) {
+                if (shared == sharedKeySet && --shared.users == 0) {
+                    return null;
+                }
+                return shared;
+            }
+        });
+    }
+
+    static void recordKeyMiss(long startNanos) {
+        TimeRecorder timer = keyMissTimer;
+        if (timer != null) {
+            timer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static final class SharedKeySet {
+
+        private final String uri;
+        // guarded by KEY_SETS
+        private int users;
+        private volatile JsonWebKeySet keySet;
+        // guarded by this
+        private long lastFetchTime;
+        private long lastForcedFetchTime;
+        private Uni<JsonWebKeySet> fetch;
+
+        /**
+         * @param uri the JWK set endpoint address, null if the key set is not shared
+         */
+        SharedKeySet(String uri, JsonWebKeySet keySet) {
+            this.uri = uri;
+            this.keySet = keySet;
+        }
+
+        JsonWebKeySet keySet() {
+            return keySet;
+        }
+
+        /**
+         * Fetches the key set, unless it is being fetched already, in which case the fetch in progress is returned.
+         *
+         * @param forced true if the key set must be fetched because a verification key is not available
+         * @param minIntervalMillis the key set is not fetched again if it was fetched less than this interval ago;
+         *        the forced and the periodic fetches are accounted separately, so that a key rotation is never
+         *        delayed by a periodic fetch
+         * @param fetcher requests the key set from the JWK set endpoint
+         * @return the fetched key set, or null if the key set has been fetched recently
+         */
+        Uni<JsonWebKeySet> refresh(boolean forced, long minIntervalMillis, Supplier<Uni<JsonWebKeySet>> fetcher) {
+            synchronized (this) {
+                if (fetch != null) {
+                    return fetch;
+                }
+                final long now = System.currentTimeMillis();
+                if (now <= (forced ? lastForcedFetchTime : lastFetchTime) + minIntervalMillis) {
+                    return null;
+                }
+                lastFetchTime = now;
+                if (forced) {
+                    lastForcedFetchTime = now;
+                }
+                Uni<JsonWebKeySet> newFetch = fetcher.get()
+                        .onItem().invoke(fetched -> keySet = fetched)
+                        .onTermination().invoke(this::fetchCompleted)
+                        .memoize().indefinitely();
+                fetch = newFetch;
+                return newFetch;
+            }
+        }
+
+        private synchronized void fetchCompleted() {
+            fetch = null;
+        }
+    }
+}
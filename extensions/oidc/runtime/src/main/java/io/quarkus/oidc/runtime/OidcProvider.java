@@ -8,7 +8,9 @@
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import jakarta.json.JsonObject;
@@ -42,12 +44,14 @@
 import io.quarkus.oidc.common.runtime.AbstractJsonObject;
 import io.quarkus.oidc.common.runtime.OidcCommonUtils;
 import io.quarkus.oidc.common.runtime.OidcConstants;
+import io.quarkus.oidc.runtime.JsonWebKeySetCache.SharedKeySet;
 import io.quarkus.oidc.runtime.OidcProviderClient.UserInfoResponse;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.credential.TokenCredential;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Handler;
 
 public class OidcProvider implements Closeable {
 
@@ -93,7 +97,8 @@ public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, Json
         this.oidcConfig = oidcConfig;
         this.tokenCustomizer = tokenCustomizer;
         if (jwks != null) {
-            this.asymmetricKeyResolver = new JsonWebKeyResolver(jwks, oidcConfig.token.forcedJwkRefreshInterval);
+            this.asymmetricKeyResolver = new JsonWebKeyResolver(jwks, oidcConfig.token.forcedJwkRefreshInterval,
+                    oidcConfig.jwks.refreshInterval);
         } else if (oidcConfig != null && oidcConfig.certificateChain.trustStoreFile.isPresent()) {
             this.asymmetricKeyResolver = new CertChainPublicKeyResolver(oidcConfig);
         } else {
@@ -471,36 +476,71 @@ public Uni<AuthorizationCodeTokens> refreshTokens(String refreshToken) {
 
     @Override
     public void close() {
+        if (asymmetricKeyResolver instanceof JsonWebKeyResolver) {
+            ((JsonWebKeyResolver) asymmetricKeyResolver).close();
+        }
         if (client != null) {
             client.close();
         }
     }
 
     private class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
-        volatile JsonWebKeySet jwks;
-        volatile long lastForcedRefreshTime;
-        volatile long forcedJwksRefreshIntervalMilliSecs;
+        final SharedKeySet sharedJwks;
+        final long forcedJwksRefreshIntervalMilliSecs;
         final CertChainPublicKeyResolver chainResolverFallback;
+        final long refreshTimerId;
 
-        JsonWebKeyResolver(JsonWebKeySet jwks, Duration forcedJwksRefreshInterval) {
-            this.jwks = jwks;
+        JsonWebKeyResolver(JsonWebKeySet jwks, Duration forcedJwksRefreshInterval, Optional<Duration> refreshInterval) {
+            String jwksUri = client == null ? null : client.getMetadata().getJsonWebKeySetUri();
+            if (jwksUri != null) {
+                this.sharedJwks = JsonWebKeySetCache.acquire(jwksUri, jwks);
+            } else {
+                this.sharedJwks = new SharedKeySet(null, jwks);
+            }
             this.forcedJwksRefreshIntervalMilliSecs = forcedJwksRefreshInterval.toMillis();
             if (oidcConfig.certificateChain.trustStoreFile.isPresent()) {
                 chainResolverFallback = new CertChainPublicKeyResolver(oidcConfig);
             } else {
                 chainResolverFallback = null;
             }
+            if (jwksUri != null && refreshInterval.isPresent()) {
+                final long refreshIntervalMilliSecs = refreshInterval.get().toMillis();
+                refreshTimerId = client.getVertx().setPeriodic(refreshIntervalMilliSecs, new Handler<Long>() {
+                    @Override
+                    public void handle(Long timerId) {
+                        // skip if the key set has been fetched for another tenant in the meantime
+                        Uni<JsonWebKeySet> fetch = sharedJwks.refresh(false, refreshIntervalMilliSecs / 2,
+                                JsonWebKeyResolver.this::fetchJwks);
+                        if (fetch != null) {
+                            fetch.subscribe().with(new Consumer<JsonWebKeySet>() {
+                                @Override
+                                public void accept(JsonWebKeySet jwks) {
+                                    LOG.debugf("JsonWebKeySet has been refreshed from %s", jwksUri);
+                                }
+                            }, new Consumer<Throwable>() {
+                                @Override
+                                public void accept(Throwable t) {
+                                    LOG.debugf("JsonWebKeySet refresh from %s has failed: %s", jwksUri, t.getMessage());
+                                }
+                            });
+                        }
+                    }
+                });
+            } else {
+                refreshTimerId = -1;
+            }
         }
 
         @Override
         public Key resolveKey(JsonWebSignature jws, List<JsonWebStructure> nestingContext)
                 throws UnresolvableKeyException {
+            final JsonWebKeySet jwks = sharedJwks.keySet();
             Key key = null;
 
             // Try 'kid' first
             String kid = jws.getKeyIdHeaderValue();
             if (kid != null) {
-                key = getKeyWithId(kid);
+                key = getKeyWithId(jwks, kid);
                 if (key == null) {
                     // if `kid` was set then the key must exist
                     throw new UnresolvableKeyException(String.format("JWK with kid '%s' is not available", kid));
@@ -511,7 +551,7 @@ public Key resolveKey(JsonWebSignature jws, List<JsonWebStructure> nestingContex
             if (key == null) {
                 thumbprint = jws.getHeader(HeaderParameterNames.X509_CERTIFICATE_SHA256_THUMBPRINT);
                 if (thumbprint != null) {
-                    key = getKeyWithS256Thumbprint(thumbprint);
+                    key = getKeyWithS256Thumbprint(jwks, thumbprint);
                     if (key == null) {
                         // if only `x5tS256` was set then the key must exist
                         throw new UnresolvableKeyException(
@@ -523,7 +563,7 @@ public Key resolveKey(JsonWebSignature jws, List<JsonWebStructure> nestingContex
             if (key == null) {
                 thumbprint = jws.getHeader(HeaderParameterNames.X509_CERTIFICATE_THUMBPRINT);
                 if (thumbprint != null) {
-                    key = getKeyWithThumbprint(thumbprint);
+                    key = getKeyWithThumbprint(jwks, thumbprint);
                     if (key == null) {
                         // if only `x5t` was set then the key must exist
                         throw new UnresolvableKeyException(
@@ -560,7 +600,7 @@ public Key resolveKey(JsonWebSignature jws, List<JsonWebStructure> nestingContex
             }
         }
 
-        private Key getKeyWithId(String kid) {
+        private Key getKeyWithId(JsonWebKeySet jwks, String kid) {
             if (kid != null) {
                 return jwks.getKeyWithId(kid);
             } else {
@@ -569,7 +609,7 @@ private Key getKeyWithId(String kid) {
             }
         }
 
-        private Key getKeyWithThumbprint(String thumbprint) {
+        private Key getKeyWithThumbprint(JsonWebKeySet jwks, String thumbprint) {
             if (thumbprint != null) {
                 return jwks.getKeyWithThumbprint(thumbprint);
             } else {
@@ -578,7 +618,7 @@ private Key getKeyWithThumbprint(String thumbprint) {
             }
         }
 
-        private Key getKeyWithS256Thumbprint(String thumbprint) {
+        private Key getKeyWithS256Thumbprint(JsonWebKeySet jwks, String thumbprint) {
             if (thumbprint != null) {
                 return jwks.getKeyWithS256Thumbprint(thumbprint);
             } else {
@@ -588,22 +628,29 @@ private Key getKeyWithS256Thumbprint(String thumbprint) {
         }
 
         public Uni<Void> refresh() {
-            final long now = now();
-            if (now > lastForcedRefreshTime + forcedJwksRefreshIntervalMilliSecs) {
-                lastForcedRefreshTime = now;
-                return client.getJsonWebKeySet(null).onItem()
-                        .transformToUni(new Function<JsonWebKeySet, Uni<? extends Void>>() {
-
-                            @Override
-                            public Uni<? extends Void> apply(JsonWebKeySet t) {
-                                jwks = t;
-                                return Uni.createFrom().voidItem();
-                            }
-
-                        });
-            } else {
+            final long start = System.nanoTime();
+            // the requests which miss a key while the key set is being fetched wait for the same response
+            Uni<JsonWebKeySet> fetch = sharedJwks.refresh(true, forcedJwksRefreshIntervalMilliSecs, this::fetchJwks);
+            if (fetch == null) {
                 return Uni.createFrom().voidItem();
             }
+            return fetch.onTermination().invoke(new Runnable() {
+                @Override
+                public void run() {
+                    JsonWebKeySetCache.recordKeyMiss(start);
+                }
+            }).replaceWithVoid();
+        }
+
+        private Uni<JsonWebKeySet> fetchJwks() {
+            return client.getJsonWebKeySet(null);
+        }
+
+        void close() {
+            if (refreshTimerId != -1) {
+                client.getVertx().cancelTimer(refreshTimerId);
+            }
+            JsonWebKeySetCache.release(sharedJwks);
         }
 
     }
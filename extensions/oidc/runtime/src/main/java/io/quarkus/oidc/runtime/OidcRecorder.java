@@ -45,6 +45,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -108,6 +109,17 @@ public void initTenantConfigBean() {
         }
     }
 
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                JsonWebKeySetCache.keyMissTimer = metricsFactory.builder("oidc.jwks.key.miss")
+                        .description("Time spent fetching the JWK set when a token verification key is not available")
+                        .buildTimer();
+            }
+        };
+    }
+
     public TenantConfigBean setup(OidcConfig config, Vertx vertxValue, TlsConfiguration defaultTlsConfiguration,
             boolean userInfoInjectionPointDetected) {
         OidcRecorder.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
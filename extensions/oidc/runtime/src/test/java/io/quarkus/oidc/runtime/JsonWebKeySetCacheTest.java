@@ -0,0 +1,96 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.RsaJwkGenerator;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.runtime.JsonWebKeySetCache.SharedKeySet;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+public class JsonWebKeySetCacheTest {
+
+    @Test
+    public void testSingleFetch() throws Exception {
+        SharedKeySet shared = new SharedKeySet(null, keySet("k1"));
+        PendingFetcher fetcher = new PendingFetcher();
+
+        Uni<JsonWebKeySet> first = shared.refresh(true, 0, fetcher);
+        Uni<JsonWebKeySet> second = shared.refresh(true, 0, fetcher);
+        assertSame(first, second);
+        first.subscribe().with(jwks -> {
+        });
+        second.subscribe().with(jwks -> {
+        });
+        assertEquals(1, fetcher.fetches.get());
+
+        JsonWebKeySet rotated = keySet("k2");
+        fetcher.emitter.complete(rotated);
+        assertSame(rotated, shared.keySet());
+        assertNotNull(shared.keySet().getKeyWithId("k2"));
+    }
+
+    @Test
+    public void testFetchIntervals() throws Exception {
+        SharedKeySet shared = new SharedKeySet(null, keySet("k1"));
+        JsonWebKeySet rotated = keySet("k2");
+        Supplier<Uni<JsonWebKeySet>> fetcher = () -> Uni.createFrom().item(rotated);
+
+        assertNotNull(shared.refresh(true, 60_000, fetcher).await().indefinitely().getKeyWithId("k2"));
+        // the key set has just been fetched, the missing key is not available yet
+        assertNull(shared.refresh(true, 60_000, fetcher));
+        // the periodic refresh does not prevent the forced refresh
+        SharedKeySet periodic = new SharedKeySet(null, keySet("k1"));
+        periodic.refresh(false, 60_000, fetcher).await().indefinitely();
+        assertNull(periodic.refresh(false, 60_000, fetcher));
+        assertNotNull(periodic.refresh(true, 60_000, fetcher));
+    }
+
+    @Test
+    public void testKeySetSharedByJwksUri() throws Exception {
+        String jwksUri = "https://server.example.com/jwks/" + System.nanoTime();
+        SharedKeySet tenant1 = JsonWebKeySetCache.acquire(jwksUri, keySet("k1"));
+        SharedKeySet tenant2 = JsonWebKeySetCache.acquire(jwksUri, keySet("k1"));
+        assertSame(tenant1, tenant2);
+
+        JsonWebKeySet rotated = keySet("k2");
+        tenant1.refresh(true, 0, () -> Uni.createFrom().item(rotated)).await().indefinitely();
+        assertNotNull(tenant2.keySet().getKeyWithId("k2"));
+
+        JsonWebKeySetCache.release(tenant1);
+        assertSame(tenant2, JsonWebKeySetCache.acquire(jwksUri, keySet("k3")));
+        JsonWebKeySetCache.release(tenant2);
+        JsonWebKeySetCache.release(tenant2);
+        SharedKeySet newTenant = JsonWebKeySetCache.acquire(jwksUri, keySet("k4"));
+        assertNull(newTenant.keySet().getKeyWithId("k3"));
+        JsonWebKeySetCache.release(newTenant);
+    }
+
+    private static JsonWebKeySet keySet(String kid) throws Exception {
+        RsaJsonWebKey key = RsaJwkGenerator.generateJwk(2048);
+        key.setKeyId(kid);
+        return new JsonWebKeySet("{\"keys\": [" + key.toJson() + "]}");
+    }
+
+    private static class PendingFetcher implements Supplier<Uni<JsonWebKeySet>> {
+
+        final AtomicInteger fetches = new AtomicInteger();
+        volatile UniEmitter<? super JsonWebKeySet> emitter;
+
+        @Override
+        public Uni<JsonWebKeySet> get() {
+            return Uni.createFrom().emitter(e -> {
+                fetches.incrementAndGet();
+                emitter = e;
+            });
+        }
+    }
+}
@@ -3,6 +3,7 @@
 import static io.quarkus.opentelemetry.runtime.config.build.ExporterType.Constants.CDI_VALUE;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BooleanSupplier;
 
 import jakarta.enterprise.inject.Instance;
@@ -21,6 +22,8 @@
 import io.quarkus.deployment.annotations.*;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.RunTimeConfigBuilderBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.build.exporter.OtlpExporterBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
@@ -28,6 +31,8 @@
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterRecorder;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundBatchSpanProcessor;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.SpanExportMetrics;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.TlsRegistryBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
@@ -75,11 +80,20 @@ void createBatchSpanProcessor(OTelExporterRecorder recorder,
             OtlpExporterRuntimeConfig exporterRuntimeConfig,
             CoreVertxBuildItem vertxBuildItem,
             List<ExternalOtelExporterBuildItem> externalOtelExporterBuildItem,
-            BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer) {
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumerBuildItemBuildProducer) {
         if (!externalOtelExporterBuildItem.isEmpty()) {
             // if there is an external exporter, we don't want to create the default one
             return;
         }
+        // expose the queue and export metrics of the span processor through the metrics extension, if any
+        RuntimeValue<SpanExportMetrics> spanExportMetrics = null;
+        if (metricsCapability.isPresent()) {
+            spanExportMetrics = recorder.createSpanExportMetrics();
+            metricsFactoryConsumerBuildItemBuildProducer.produce(
+                    new MetricsFactoryConsumerBuildItem(recorder.registerSpanExportMetrics(spanExportMetrics)));
+        }
         syntheticBeanBuildItemBuildProducer.produce(SyntheticBeanBuildItem
                 .configure(LateBoundBatchSpanProcessor.class)
                 .types(SpanProcessor.class)
@@ -90,7 +104,7 @@ void createBatchSpanProcessor(OTelExporterRecorder recorder,
                         new Type[] { ClassType.create(DotName.createSimple(SpanExporter.class.getName())) }, null))
                 .addInjectionPoint(ClassType.create(DotName.createSimple(TlsConfigurationRegistry.class)))
                 .createWith(recorder.batchSpanProcessorForOtlp(otelRuntimeConfig, exporterRuntimeConfig,
-                        vertxBuildItem.getVertx()))
+                        vertxBuildItem.getVertx(), spanExportMetrics))
                 .done());
     }
 
@@ -0,0 +1,92 @@
+package io.quarkus.opentelemetry.deployment.traces;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.virtual.threads.Subtask;
+import io.quarkus.virtual.threads.VirtualThreadScope;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class VirtualThreadScopeContextTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(RequestState.class));
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    RequestState requestState;
+
+    @Test
+    void subtasksSeeTheContextsOfTheOwner() throws Exception {
+        // the owner runs on a duplicated context, like a request handled on a virtual thread
+        ContextInternal context = (ContextInternal) VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        ContextInternal previous = context.beginDispatch();
+        ManagedContext requestContext = Arc.container().requestContext();
+        boolean activated = !requestContext.isActive();
+        if (activated) {
+            requestContext.activate();
+        }
+        Span span = tracer.spanBuilder("owner").startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            requestState.setValue("owner");
+            try (VirtualThreadScope scope = VirtualThreadScope.open(Duration.ofSeconds(10))) {
+                Subtask<SpanContext> spanContext = scope.fork(() -> Span.current().getSpanContext());
+                Subtask<String> requestValue = scope.fork(requestState::getValue);
+                Subtask<Context> vertxContext = scope.fork(Vertx::currentContext);
+                scope.join();
+                assertEquals(span.getSpanContext(), spanContext.get());
+                assertEquals("owner", requestValue.get());
+                assertTrue(VertxContext.isDuplicatedContext(vertxContext.get()));
+                assertNotSame(context, vertxContext.get());
+            }
+            // the subtasks did not terminate the request context of the owner
+            assertTrue(requestContext.isActive());
+            assertEquals("owner", requestState.getValue());
+        } finally {
+            span.end();
+            if (activated) {
+                requestContext.terminate();
+            }
+            context.endDispatch(previous);
+        }
+    }
+
+    @RequestScoped
+    public static class RequestState {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * If true, the spans of a trace are buffered until the local root span ends, and the trace is only exported if it
+     * matches one of the tail sampling rules: `latency-threshold`, `errors`, `attributes` or `ratio`.
+     * <p>
+     * Tail sampling applies to the spans sampled by the head sampler, see `quarkus.otel.traces.sampler`, and exported by
+     * the default OTLP exporter.
+     * <p>
+     * This is a Quarkus specific property. Tail sampling is disabled by default.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Keep the traces whose local root span lasted at least this duration.
+     */
+    @WithName("latency-threshold")
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Keep the traces containing at least one span with an error status.
+     */
+    @WithDefault("true")
+    boolean errors();
+
+    /**
+     * Keep the traces containing at least one span with one of these attributes, in the following format:
+     * <code>key1=val1,key2=val2</code>.
+     */
+    Optional<List<String>> attributes();
+
+    /**
+     * The ratio of the traces kept when they don't match any other rule, between `0.0d` and `1.0d`.
+     * <p>
+     * The decision is based on the trace id, so a trace is either fully kept or fully dropped.
+     */
+    @WithDefault("0.0d")
+    double ratio();
+
+    /**
+     * The maximum time to wait for the local root span of a trace to end. The spans buffered after this time are
+     * evaluated without the root span, and the spans of the trace ending later are sampled with the same decision.
+     */
+    @WithName("decision-wait")
+    @WithDefault("30s")
+    Duration decisionWait();
+
+    /**
+     * The maximum number of traces buffered. When it is reached, the oldest trace is evaluated without waiting for its
+     * local root span.
+     */
+    @WithName("max-traces")
+    @WithDefault("10000")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered, across all traces. When it is reached, the oldest traces are evaluated
+     * without waiting for their local root span.
+     */
+    @WithName("max-spans")
+    @WithDefault("100000")
+    int maxSpans();
+}
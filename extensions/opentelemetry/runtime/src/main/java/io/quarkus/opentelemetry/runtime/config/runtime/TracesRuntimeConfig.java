@@ -51,4 +51,10 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail sampling configuration.
+     */
+    @WithName("tail-sampling")
+    TailSamplingConfig tailSampling();
 }
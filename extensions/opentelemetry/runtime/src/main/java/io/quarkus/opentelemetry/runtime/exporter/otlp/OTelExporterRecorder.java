@@ -32,6 +32,7 @@
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
@@ -49,9 +50,13 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxHttpSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundBatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundBatchSpanProcessor;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.SpanExportMetrics;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.vertx.core.Vertx;
@@ -70,7 +75,8 @@ public class OTelExporterRecorder {
     public Function<SyntheticCreationalContext<LateBoundBatchSpanProcessor>, LateBoundBatchSpanProcessor> batchSpanProcessorForOtlp(
             OTelRuntimeConfig otelRuntimeConfig,
             OtlpExporterRuntimeConfig exporterRuntimeConfig,
-            Supplier<Vertx> vertx) {
+            Supplier<Vertx> vertx,
+            RuntimeValue<SpanExportMetrics> spanExportMetrics) {
         URI baseUri = getTracesUri(exporterRuntimeConfig); // do the creation and validation here in order to preserve backward compatibility
         return new Function<>() {
             @Override
@@ -89,8 +95,10 @@ public LateBoundBatchSpanProcessor apply(
                 try {
                     TlsConfigurationRegistry tlsConfigurationRegistry = context
                             .getInjectedReference(TlsConfigurationRegistry.class);
+                    MeterProvider meterProvider = spanExportMetrics == null ? MeterProvider.noop()
+                            : spanExportMetrics.getValue().getMeterProvider();
                     var spanExporter = createSpanExporter(exporterRuntimeConfig, vertx.get(), baseUri,
-                            tlsConfigurationRegistry);
+                            tlsConfigurationRegistry, meterProvider);
 
                     BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
@@ -98,9 +106,13 @@ public LateBoundBatchSpanProcessor apply(
                     processorBuilder.setMaxQueueSize(otelRuntimeConfig.bsp().maxQueueSize());
                     processorBuilder.setMaxExportBatchSize(otelRuntimeConfig.bsp().maxExportBatchSize());
                     processorBuilder.setExporterTimeout(otelRuntimeConfig.bsp().exportTimeout());
-                    // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
+                    processorBuilder.setMeterProvider(meterProvider);
 
-                    return new LateBoundBatchSpanProcessor(processorBuilder.build());
+                    SpanProcessor processor = processorBuilder.build();
+                    if (otelRuntimeConfig.traces().tailSampling().enabled()) {
+                        processor = new TailSamplingSpanProcessor(otelRuntimeConfig.traces().tailSampling(), processor);
+                    }
+                    return new LateBoundBatchSpanProcessor(processor);
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
@@ -109,7 +121,8 @@ public LateBoundBatchSpanProcessor apply(
             private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx,
                     URI baseUri,
-                    TlsConfigurationRegistry tlsConfigurationRegistry) {
+                    TlsConfigurationRegistry tlsConfigurationRegistry,
+                    MeterProvider meterProvider) {
                 OtlpExporterTracesConfig tracesConfig = exporterRuntimeConfig.traces();
                 if (tracesConfig.protocol().isEmpty()) {
                     throw new IllegalStateException("No OTLP protocol specified. " +
@@ -118,9 +131,11 @@ private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntim
 
                 String protocol = tracesConfig.protocol().get();
                 if (GRPC.equals(protocol)) {
-                    return createOtlpGrpcSpanExporter(exporterRuntimeConfig, vertx, baseUri, tlsConfigurationRegistry);
+                    return createOtlpGrpcSpanExporter(exporterRuntimeConfig, vertx, baseUri, tlsConfigurationRegistry,
+                            meterProvider);
                 } else if (HTTP_PROTOBUF.equals(protocol)) {
-                    return createHttpSpanExporter(exporterRuntimeConfig, vertx, baseUri, protocol, tlsConfigurationRegistry);
+                    return createHttpSpanExporter(exporterRuntimeConfig, vertx, baseUri, protocol, tlsConfigurationRegistry,
+                            meterProvider);
                 }
 
                 throw new IllegalArgumentException(String.format("Unsupported OTLP protocol %s specified. " +
@@ -129,7 +144,8 @@ private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntim
 
             private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx, final URI baseUri,
-                    TlsConfigurationRegistry tlsConfigurationRegistry) {
+                    TlsConfigurationRegistry tlsConfigurationRegistry,
+                    MeterProvider meterProvider) {
 
                 OtlpExporterTracesConfig tracesConfig = exporterRuntimeConfig.traces();
 
@@ -144,12 +160,13 @@ private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig export
                                 populateTracingExportHttpHeaders(tracesConfig),
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
                                 vertx),
-                        MeterProvider::noop));
+                        () -> meterProvider));
             }
 
             private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig, Vertx vertx,
                     URI baseUri, String protocol,
-                    TlsConfigurationRegistry tlsConfigurationRegistry) {
+                    TlsConfigurationRegistry tlsConfigurationRegistry,
+                    MeterProvider meterProvider) {
 
                 OtlpExporterTracesConfig tracesConfig = exporterRuntimeConfig.traces();
 
@@ -167,12 +184,37 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
                                 exportAsJson ? "application/json" : "application/x-protobuf",
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
                                 vertx),
-                        MeterProvider::noop,
+                        () -> meterProvider,
                         exportAsJson));
             }
         };
     }
 
+    public RuntimeValue<SpanExportMetrics> createSpanExportMetrics() {
+        return new RuntimeValue<>(new SpanExportMetrics());
+    }
+
+    public Consumer<MetricsFactory> registerSpanExportMetrics(RuntimeValue<SpanExportMetrics> spanExportMetrics) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                SpanExportMetrics metrics = spanExportMetrics.getValue();
+                metricsFactory.builder("otel.exporter.queue.size")
+                        .description("Number of spans waiting in the queue of the OTLP span processor")
+                        .buildGauge(metrics, SpanExportMetrics::getQueueSize);
+                metricsFactory.builder("otel.exporter.spans.dropped")
+                        .description("Number of spans dropped because the queue of the OTLP span processor was full")
+                        .buildCounter(metrics, SpanExportMetrics::getDroppedSpans);
+                metricsFactory.builder("otel.exporter.spans.exported")
+                        .description("Number of spans exported by the OTLP exporter")
+                        .buildCounter(metrics, SpanExportMetrics::getExportedSpans);
+                metricsFactory.builder("otel.exporter.spans.failed")
+                        .description("Number of spans the OTLP exporter failed to export")
+                        .buildCounter(metrics, SpanExportMetrics::getFailedSpans);
+            }
+        };
+    }
+
     public Function<SyntheticCreationalContext<MetricExporter>, MetricExporter> createMetricExporter(
             OTelRuntimeConfig otelRuntimeConfig,
             OtlpExporterRuntimeConfig exporterRuntimeConfig,
@@ -0,0 +1,74 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * The serialized form of an export request, written by the marshaler directly into a pooled Netty buffer.
+ * <p>
+ * When compression is enabled, the payload is compressed while it is serialized, so the uncompressed request is never
+ * held in memory. Vert.x does not release the buffers it did not allocate, the payload must be {@linkplain #release()
+ * released} once the write completed, e.g. by passing it as the handler of the write future.
+ */
+final class PooledPayload implements Handler<AsyncResult<Void>> {
+
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+    // compressed OTLP payloads are usually several times smaller than the serialized size
+    private static final int COMPRESSION_RATIO_ESTIMATE = 4;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ByteBuf byteBuf;
+
+    private PooledPayload(ByteBuf byteBuf) {
+        this.byteBuf = byteBuf;
+    }
+
+    /**
+     * @param marshaler the request to serialize
+     * @param serializedSize the serialized size of the request, as returned by the marshaler
+     * @param gzip whether to compress the payload
+     */
+    static PooledPayload write(Marshaler marshaler, int serializedSize, boolean gzip) throws IOException {
+        ByteBuf byteBuf = ALLOCATOR.buffer(gzip ? serializedSize / COMPRESSION_RATIO_ESTIMATE + 64 : serializedSize);
+        try {
+            OutputStream output = new ByteBufOutputStream(byteBuf);
+            if (gzip) {
+                try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output, GZIP_BUFFER_SIZE)) {
+                    marshaler.writeBinaryTo(gzipOutput);
+                }
+            } else {
+                marshaler.writeBinaryTo(output);
+            }
+            return new PooledPayload(byteBuf);
+        } catch (IOException | RuntimeException e) {
+            byteBuf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return a Vert.x buffer wrapping the payload, without copying it
+     */
+    Buffer buffer() {
+        return Buffer.buffer(byteBuf);
+    }
+
+    void release() {
+        byteBuf.release();
+    }
+
+    @Override
+    public void handle(AsyncResult<Void> writeResult) {
+        release();
+    }
+}
@@ -22,7 +22,6 @@
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -34,6 +33,7 @@
 import io.vertx.grpc.client.GrpcClientRequest;
 import io.vertx.grpc.client.GrpcClientResponse;
 import io.vertx.grpc.common.GrpcError;
+import io.vertx.grpc.common.GrpcMessage;
 import io.vertx.grpc.common.GrpcStatus;
 import io.vertx.grpc.common.ServiceName;
 
@@ -236,11 +236,12 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
             }
 
             try {
-                int messageSize = marshaler.getBinarySerializedSize();
-                Buffer buffer = Buffer.buffer(messageSize);
-                var os = new BufferOutputStream(buffer);
-                marshaler.writeBinaryTo(os);
-                request.send(buffer).onSuccess(new Handler<>() {
+                PooledPayload payload = PooledPayload.write(marshaler, marshaler.getBinarySerializedSize(),
+                        compressionEnabled);
+                // the message is already encoded with the request encoding, Vert.x only prepends the gRPC frame header
+                request.endMessage(GrpcMessage.message(compressionEnabled ? "gzip" : "identity", payload.buffer()))
+                        .onComplete(payload);
+                request.response().onSuccess(new Handler<>() {
                     @Override
                     public void handle(GrpcClientResponse<Buffer, Buffer> response) {
                         response.exceptionHandler(new Handler<>() {
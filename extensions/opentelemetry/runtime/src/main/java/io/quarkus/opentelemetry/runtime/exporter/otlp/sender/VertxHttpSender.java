@@ -3,7 +3,6 @@
 import static io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil.getPort;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
@@ -15,13 +14,11 @@
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.GZIPOutputStream;
 
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -277,21 +274,14 @@ public byte[] responseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(contentLength);
-            OutputStream os = new BufferOutputStream(buffer);
+            PooledPayload payload;
+            try {
+                payload = PooledPayload.write(marshaler, contentLength, compressionEnabled);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
             if (compressionEnabled) {
                 clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    marshaler.writeBinaryTo(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
-                    marshaler.writeBinaryTo(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
             }
 
             if (!headers.isEmpty()) {
@@ -300,7 +290,7 @@ public byte[] responseBody() {
                 }
             }
 
-            clientRequest.send(buffer);
+            clientRequest.end(payload.buffer()).onComplete(payload);
         }
 
         public ClientRequestSuccessHandler newAttempt() {
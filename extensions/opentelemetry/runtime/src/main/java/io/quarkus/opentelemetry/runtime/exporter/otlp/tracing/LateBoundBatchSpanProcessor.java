@@ -13,14 +13,17 @@
  * Class to facilitate a delay in when the worker thread inside {@link BatchSpanProcessor}
  * is started, enabling Quarkus to instantiate a {@link io.opentelemetry.api.trace.TracerProvider}
  * during static initialization and set a {@link BatchSpanProcessor} delegate during runtime initialization.
+ * <p>
+ * The delegate can also be a {@link io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor} wrapping the
+ * {@link BatchSpanProcessor}, when tail sampling is enabled.
  */
 public class LateBoundBatchSpanProcessor implements SpanProcessor {
     private static final Logger log = Logger.getLogger(LateBoundBatchSpanProcessor.class);
 
     private boolean warningLogged = false;
-    private BatchSpanProcessor delegate;
+    private SpanProcessor delegate;
 
-    public LateBoundBatchSpanProcessor(BatchSpanProcessor delegate) {
+    public LateBoundBatchSpanProcessor(SpanProcessor delegate) {
         this.delegate = delegate;
     }
 
@@ -0,0 +1,312 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static io.quarkus.opentelemetry.runtime.OpenTelemetryUtil.convertKeyValueListToMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+/**
+ * A {@link SpanProcessor} buffering the ended spans of each trace until its local root span ends, and only passing them
+ * to the delegate processor if the trace is slow, contains an error or a matching attribute, or is part of the sampled
+ * ratio.
+ * <p>
+ * The buffer is bounded by the number of traces and the number of spans: when a limit is reached, the oldest traces are
+ * evaluated without waiting for their root span. A trace is also evaluated without its root span after the
+ * {@link TailSamplingConfig#decisionWait() decision wait}. The decision is then kept for the same duration, so the spans
+ * of the trace ending late are kept or dropped with the rest of the trace.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final boolean errors;
+    private final Map<String, String> attributes;
+    private final long idUpperBound;
+    private final long decisionWaitNanos;
+    private final int maxTraces;
+    private final int maxSpans;
+
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // traces waiting for a decision, oldest first, guarded by itself; a trace is removed as soon as it is decided
+    private final Set<TraceBuffer> pending = new LinkedHashSet<>();
+    // decided traces kept for the spans ending late, oldest first
+    private final Queue<TraceBuffer> decided = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+
+    public TailSamplingSpanProcessor(TailSamplingConfig config, SpanProcessor delegate) {
+        double ratio = config.ratio();
+        if (ratio < 0.0 || ratio > 1.0) {
+            throw new IllegalArgumentException("quarkus.otel.traces.tail-sampling.ratio must be in range [0.0, 1.0]");
+        }
+        this.delegate = delegate;
+        this.latencyThresholdNanos = config.latencyThreshold().isPresent() ? config.latencyThreshold().get().toNanos()
+                : Long.MAX_VALUE;
+        this.errors = config.errors();
+        this.attributes = convertKeyValueListToMap(config.attributes().orElse(null));
+        // same computation as the traceidratio sampler, so both samplers keep the same traces for the same ratio
+        if (ratio == 0.0) {
+            this.idUpperBound = Long.MIN_VALUE;
+        } else if (ratio == 1.0) {
+            this.idUpperBound = Long.MAX_VALUE;
+        } else {
+            this.idUpperBound = (long) (ratio * Long.MAX_VALUE);
+        }
+        this.decisionWaitNanos = config.decisionWait().toNanos();
+        this.maxTraces = config.maxTraces();
+        this.maxSpans = config.maxSpans();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        expire(now);
+
+        String traceId = spanContext.getTraceId();
+        TraceBuffer buffer = traces.get(traceId);
+        if (buffer == null) {
+            TraceBuffer created = new TraceBuffer(traceId, now);
+            buffer = traces.putIfAbsent(traceId, created);
+            if (buffer == null) {
+                buffer = created;
+                addPending(created);
+            }
+        }
+
+        boolean forward = false;
+        List<ReadableSpan> kept = null;
+        synchronized (buffer) {
+            if (buffer.decided) {
+                forward = buffer.keep;
+            } else {
+                buffer.matched = buffer.matched || matches(span);
+                buffer.maxLatencyNanos = Math.max(buffer.maxLatencyNanos, span.getLatencyNanos());
+                buffer.spans.add(span);
+                bufferedSpans.incrementAndGet();
+                if (isLocalRoot(span)) {
+                    kept = decide(buffer, now);
+                }
+            }
+        }
+
+        if (forward) {
+            delegate.onEnd(span);
+        } else if (kept != null) {
+            export(kept);
+        }
+
+        if (traces.size() > maxTraces || bufferedSpans.get() > maxSpans) {
+            evict();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        decideAll();
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        decideAll();
+        return delegate.shutdown();
+    }
+
+    private boolean matches(ReadableSpan span) {
+        if (errors && span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        if (!attributes.isEmpty()) {
+            for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+                String value = attributes.get(attribute.getKey().getKey());
+                if (value != null && value.equals(String.valueOf(attribute.getValue()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean sampledByRatio(String traceId) {
+        // the random part of the trace id is its lower 64 bits
+        return Math.abs(Long.parseUnsignedLong(traceId, 16, 32, 16)) < idUpperBound;
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    /**
+     * Must be called while holding the lock of the buffer.
+     *
+     * @return the spans to pass to the delegate, or {@code null} if the trace is dropped
+     */
+    private List<ReadableSpan> decide(TraceBuffer buffer, long now) {
+        buffer.decided = true;
+        buffer.decidedAt = now;
+        buffer.keep = buffer.matched
+                || buffer.maxLatencyNanos >= latencyThresholdNanos
+                || sampledByRatio(buffer.traceId);
+        List<ReadableSpan> spans = buffer.spans;
+        buffer.spans = null;
+        bufferedSpans.addAndGet(-spans.size());
+        synchronized (pending) {
+            pending.remove(buffer);
+        }
+        decided.add(buffer);
+        return buffer.keep ? spans : null;
+    }
+
+    private void decide(TraceBuffer buffer) {
+        List<ReadableSpan> kept = null;
+        synchronized (buffer) {
+            if (!buffer.decided) {
+                kept = decide(buffer, System.nanoTime());
+            }
+        }
+        if (kept != null) {
+            export(kept);
+        }
+    }
+
+    private void export(List<ReadableSpan> spans) {
+        for (int i = 0; i < spans.size(); i++) {
+            delegate.onEnd(spans.get(i));
+        }
+    }
+
+    private void addPending(TraceBuffer buffer) {
+        synchronized (buffer) {
+            // a span of the trace ending concurrently may have decided it already
+            if (!buffer.decided) {
+                synchronized (pending) {
+                    pending.add(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param minAgeNanos the minimum age of the trace to remove, {@link Long#MIN_VALUE} to remove the oldest trace
+     * @return the oldest trace waiting for a decision, or {@code null} if none is old enough
+     */
+    private TraceBuffer pollPending(long now, long minAgeNanos) {
+        synchronized (pending) {
+            Iterator<TraceBuffer> iterator = pending.iterator();
+            if (iterator.hasNext()) {
+                TraceBuffer buffer = iterator.next();
+                if (now - buffer.createdAt >= minAgeNanos) {
+                    iterator.remove();
+                    return buffer;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void expire(long now) {
+        TraceBuffer buffer;
+        while ((buffer = pollPending(now, decisionWaitNanos)) != null) {
+            decide(buffer);
+        }
+        while ((buffer = decided.peek()) != null && now - buffer.decidedAt >= decisionWaitNanos) {
+            if (decided.remove(buffer)) {
+                traces.remove(buffer.traceId, buffer);
+            }
+        }
+    }
+
+    private void evict() {
+        TraceBuffer buffer;
+        while (bufferedSpans.get() > maxSpans && (buffer = pollPending(0, Long.MIN_VALUE)) != null) {
+            decide(buffer);
+        }
+        while (traces.size() > maxTraces) {
+            // forget the decisions first, it only affects the spans ending late
+            if ((buffer = decided.poll()) == null && (buffer = pollPending(0, Long.MIN_VALUE)) != null) {
+                decide(buffer);
+                buffer = decided.poll();
+            }
+            if (buffer == null) {
+                break;
+            }
+            traces.remove(buffer.traceId, buffer);
+        }
+    }
+
+    private void decideAll() {
+        TraceBuffer buffer;
+        while ((buffer = pollPending(0, Long.MIN_VALUE)) != null) {
+            decide(buffer);
+        }
+    }
+
+    int getPendingTraceCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    int getDecidedTraceCount() {
+        return decided.size();
+    }
+
+    int getTraceCount() {
+        return traces.size();
+    }
+
+    private static final class TraceBuffer {
+        final String traceId;
+        final long createdAt;
+        // guarded by this
+        List<ReadableSpan> spans = new ArrayList<>();
+        boolean matched;
+        long maxLatencyNanos;
+        boolean decided;
+        boolean keep;
+        long decidedAt;
+
+        TraceBuffer(String traceId, long createdAt) {
+            this.traceId = traceId;
+            this.createdAt = createdAt;
+        }
+    }
+}
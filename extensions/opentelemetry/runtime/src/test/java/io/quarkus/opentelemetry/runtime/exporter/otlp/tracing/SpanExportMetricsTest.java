@@ -0,0 +1,71 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+class SpanExportMetricsTest {
+
+    @Test
+    void queueSizeAndDroppedSpans() throws InterruptedException {
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        CountDownLatch exportBlocked = new CountDownLatch(1);
+        SpanExportMetrics metrics = new SpanExportMetrics();
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                exportStarted.countDown();
+                try {
+                    exportBlocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        })
+                .setMaxQueueSize(16)
+                .setMaxExportBatchSize(1)
+                .setScheduleDelay(Duration.ofMillis(1))
+                .setMeterProvider(metrics.getMeterProvider())
+                .build();
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        try {
+            Tracer tracer = tracerProvider.get("test");
+            tracer.spanBuilder("first").startSpan().end();
+            // the exporter is now blocked, the following spans fill the queue
+            assertThat(exportStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 20; i++) {
+                tracer.spanBuilder("span-" + i).startSpan().end();
+            }
+
+            assertThat(metrics.getQueueSize()).isEqualTo(16);
+            assertThat(metrics.getDroppedSpans()).isEqualTo(4);
+        } finally {
+            exportBlocked.countDown();
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+        assertThat(metrics.getQueueSize()).isZero();
+    }
+}
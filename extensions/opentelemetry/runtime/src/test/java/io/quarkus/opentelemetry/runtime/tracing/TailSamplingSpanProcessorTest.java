@@ -0,0 +1,248 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+class TailSamplingSpanProcessorTest {
+
+    @Test
+    void dropsTracesNotMatchingAnyRule() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(new TailSamplingSpanProcessor(config(Optional.empty(), List.of(), 100, 1000), exported));
+
+        trace(tracer, null);
+
+        assertEquals(0, exported.spans.size());
+    }
+
+    @Test
+    void keepsTracesWithAnError() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(new TailSamplingSpanProcessor(config(Optional.empty(), List.of(), 100, 1000), exported));
+
+        trace(tracer, child -> child.setStatus(StatusCode.ERROR));
+        trace(tracer, null);
+
+        assertEquals(List.of("child", "root"), exported.names());
+    }
+
+    @Test
+    void keepsTracesWithMatchingAttribute() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(new TailSamplingSpanProcessor(
+                config(Optional.empty(), List.of("tenant=acme", "retry=true"), 100, 1000), exported));
+
+        trace(tracer, child -> child.setAttribute("tenant", "other"));
+        trace(tracer, child -> child.setAttribute("retry", true));
+
+        assertEquals(List.of("child", "root"), exported.names());
+    }
+
+    @Test
+    void keepsSlowTraces() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(
+                new TailSamplingSpanProcessor(config(Optional.of(Duration.ofSeconds(1)), List.of(), 100, 1000), exported));
+
+        Span root = tracer.spanBuilder("root").setStartTimestamp(1000, TimeUnit.MILLISECONDS).startSpan();
+        root.end(3000, TimeUnit.MILLISECONDS);
+        Span fast = tracer.spanBuilder("fast").setStartTimestamp(1000, TimeUnit.MILLISECONDS).startSpan();
+        fast.end(1500, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of("root"), exported.names());
+    }
+
+    @Test
+    void lateSpansFollowTheDecision() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(new TailSamplingSpanProcessor(config(Optional.empty(), List.of(), 100, 1000), exported));
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span late;
+        try (Scope ignored = root.makeCurrent()) {
+            late = tracer.spanBuilder("late").startSpan();
+        }
+        root.setStatus(StatusCode.ERROR);
+        root.end();
+        late.end();
+
+        assertEquals(List.of("root", "late"), exported.names());
+    }
+
+    @Test
+    void evictsOldestTracesWhenFull() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        Tracer tracer = tracer(new TailSamplingSpanProcessor(config(Optional.empty(), List.of(), 100, 3), exported));
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            for (int i = 0; i < 4; i++) {
+                Span child = tracer.spanBuilder("child").startSpan();
+                child.setStatus(StatusCode.ERROR);
+                child.end();
+            }
+        }
+
+        // the buffer was full, the trace was evaluated before the end of its root span
+        assertEquals(4, exported.spans.size());
+        root.end();
+        assertEquals(5, exported.spans.size());
+    }
+
+    @Test
+    void buffersStayBoundedUnderSustainedLoad() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+                config(Optional.empty(), List.of(), 100, 1000), exported);
+        Tracer tracer = tracer(processor);
+
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 10 == 0) {
+                // a trace whose root span does not end within the decision wait
+                Span root = tracer.spanBuilder("root").startSpan();
+                try (Scope ignored = root.makeCurrent()) {
+                    tracer.spanBuilder("child").startSpan().end();
+                }
+            } else {
+                trace(tracer, null);
+            }
+            // the traces decided when their root span ends do not wait in the pending traces
+            assertTrue(processor.getPendingTraceCount() <= 100);
+            assertTrue(processor.getDecidedTraceCount() <= 100);
+            assertTrue(processor.getTraceCount() <= 100);
+        }
+    }
+
+    @Test
+    void flushEvaluatesBufferedTraces() {
+        CapturingSpanProcessor exported = new CapturingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+                config(Optional.empty(), List.of(), 100, 1000), exported);
+        Tracer tracer = tracer(processor);
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        assertEquals(0, exported.spans.size());
+
+        assertTrue(processor.forceFlush().isSuccess());
+        assertEquals(List.of("child"), exported.names());
+    }
+
+    private static Tracer tracer(SpanProcessor processor) {
+        return SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+    }
+
+    private static void trace(Tracer tracer, Consumer<Span> child) {
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            Span span = tracer.spanBuilder("child").setParent(Context.current()).startSpan();
+            if (child != null) {
+                child.accept(span);
+            }
+            span.end();
+        } finally {
+            root.end();
+        }
+    }
+
+    private static TailSamplingConfig config(Optional<Duration> latencyThreshold, List<String> attributes, int maxTraces,
+            int maxSpans) {
+        return new TailSamplingConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public Optional<Duration> latencyThreshold() {
+                return latencyThreshold;
+            }
+
+            @Override
+            public boolean errors() {
+                return true;
+            }
+
+            @Override
+            public Optional<List<String>> attributes() {
+                return attributes.isEmpty() ? Optional.empty() : Optional.of(attributes);
+            }
+
+            @Override
+            public double ratio() {
+                return 0.0d;
+            }
+
+            @Override
+            public Duration decisionWait() {
+                return Duration.ofSeconds(30);
+            }
+
+            @Override
+            public int maxTraces() {
+                return maxTraces;
+            }
+
+            @Override
+            public int maxSpans() {
+                return maxSpans;
+            }
+        };
+    }
+
+    private static final class CapturingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+
+        List<String> names() {
+            return spans.stream().map(ReadableSpan::getName).toList();
+        }
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -10,18 +10,29 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.LockModeType;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.spi.SqmQuery;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.panache.common.NestedProjectedClass;
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+import io.quarkus.hibernate.orm.runtime.TransactionSessions;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
@@ -312,6 +323,22 @@ public <T extends Entity> Stream<T> stream() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> statelessStream(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be strictly positive, got " + fetchSize);
+        }
+        StatelessSession statelessSession = getStatelessSession();
+        SelectionQuery hibernateQuery = createQuery(statelessSession);
+        hibernateQuery.setFetchSize(fetchSize);
+        ScrollableResults<T> results;
+        try (NonThrowingCloseable c = applyFilters(statelessSession)) {
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        return StreamSupport.stream(new ScrollableResultsSpliterator<>(results), false)
+                .onClose(results::close);
+    }
+
     public <T extends Entity> T firstResult() {
         SelectionQuery hibernateQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -345,7 +372,11 @@ public <T extends Entity> Optional<T> singleResultOptional() {
     }
 
     private SelectionQuery createQuery() {
-        SelectionQuery hibernateQuery = createBaseQuery();
+        return createQuery(session);
+    }
+
+    private SelectionQuery createQuery(SharedSessionContract session) {
+        SelectionQuery hibernateQuery = createBaseQuery(session);
 
         if (range != null) {
             hibernateQuery.setFirstResult(range.getStartIndex());
@@ -362,7 +393,7 @@ private SelectionQuery createQuery() {
     }
 
     private SelectionQuery createQuery(int maxResults) {
-        SelectionQuery hibernateQuery = createBaseQuery();
+        SelectionQuery hibernateQuery = createBaseQuery(session);
 
         if (range != null) {
             hibernateQuery.setFirstResult(range.getStartIndex());
@@ -377,7 +408,7 @@ private SelectionQuery createQuery(int maxResults) {
     }
 
     @SuppressWarnings("unchecked")
-    private SelectionQuery createBaseQuery() {
+    private SelectionQuery createBaseQuery(SharedSessionContract session) {
         SelectionQuery hibernateQuery;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
@@ -409,6 +440,10 @@ private SelectionQuery createBaseQuery() {
     }
 
     private NonThrowingCloseable applyFilters() {
+        return applyFilters(session);
+    }
+
+    private NonThrowingCloseable applyFilters(SharedSessionContract session) {
         if (filters == null)
             return NO_FILTERS;
         for (Entry<String, Map<String, Object>> entry : filters.entrySet()) {
@@ -434,6 +469,13 @@ public void close() {
         };
     }
 
+    private StatelessSession getStatelessSession() {
+        // Use the stateless session bound to the current transaction or request, like injected stateless sessions do
+        String persistenceUnitName = (String) session.getSessionFactory().getProperties()
+                .get(AvailableSettings.PERSISTENCE_UNIT_NAME);
+        return Arc.container().instance(TransactionSessions.class).get().getStatelessSession(persistenceUnitName);
+    }
+
     @SuppressWarnings("rawtypes")
     public static String getQueryString(SelectionQuery hibernateQuery) {
         if (hibernateQuery instanceof SqmQuery) {
@@ -447,4 +489,33 @@ public static String getQueryString(SelectionQuery hibernateQuery) {
                     + org.hibernate.query.Query.class + "' is expected.");
         }
     }
+
+    /**
+     * Reads a forward-only cursor one row at a time, and closes it as soon as the last row has been read so that
+     * fully consumed streams release their JDBC resources even if they are not explicitly closed.
+     */
+    private static final class ScrollableResultsSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ScrollableResults<T> results;
+        private boolean exhausted;
+
+        ScrollableResultsSpliterator(ScrollableResults<T> results) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.results = results;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (exhausted) {
+                return false;
+            }
+            if (!results.next()) {
+                exhausted = true;
+                results.close();
+                return false;
+            }
+            action.accept(results.get());
+            return true;
+        }
+    }
 }
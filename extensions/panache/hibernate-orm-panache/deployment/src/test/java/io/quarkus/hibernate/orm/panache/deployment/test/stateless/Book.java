@@ -0,0 +1,10 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.stateless;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Book extends PanacheEntity {
+    public String title;
+}
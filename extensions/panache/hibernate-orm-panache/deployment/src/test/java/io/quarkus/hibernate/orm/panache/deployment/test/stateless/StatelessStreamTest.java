@@ -0,0 +1,77 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.stateless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+class StatelessStreamTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(Book.class));
+
+    @BeforeEach
+    void createBooks() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            Book.deleteAll();
+            for (int i = 0; i < 100; i++) {
+                Book book = new Book();
+                book.title = String.format("Book %03d", i);
+                book.persist();
+            }
+        });
+    }
+
+    @Test
+    @Transactional
+    void testStatelessStream() {
+        List<Book> books = Book.<Book> findAll(Sort.by("title")).<Book> statelessStream(10).toList();
+        assertEquals(100, books.size());
+        assertEquals("Book 000", books.get(0).title);
+        assertEquals("Book 099", books.get(99).title);
+        // The entities are not attached to the persistence context of the stateful session
+        assertFalse(Panache.getEntityManager().contains(books.get(0)));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testStatelessStreamWithoutTransaction() {
+        try (Stream<Book> books = Book.<Book> find("title like ?1", Sort.by("title"), "Book 01%")
+                .statelessStream(5)) {
+            assertEquals(List.of("Book 010", "Book 011", "Book 012"),
+                    books.limit(3).map(book -> book.title).toList());
+        }
+    }
+
+    @Test
+    @Transactional
+    void testStatelessStreamPage() {
+        List<String> titles = Book.<Book> findAll(Sort.by("title")).page(2, 3).<Book> statelessStream(50)
+                .map(book -> book.title)
+                .toList();
+        assertEquals(List.of("Book 006", "Book 007", "Book 008"), titles);
+    }
+
+    @Test
+    @Transactional
+    void testInvalidFetchSize() {
+        assertThrows(IllegalArgumentException.class, () -> Book.findAll().statelessStream(0));
+    }
+}
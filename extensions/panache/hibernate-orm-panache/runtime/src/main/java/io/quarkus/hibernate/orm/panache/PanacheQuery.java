@@ -262,6 +262,25 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream}, read through a forward-only cursor of the
+     * {@link org.hibernate.StatelessSession} bound to the current transaction or request.
+     * <p>
+     * Unlike {@link #stream()}, the returned entities are not kept in the persistence context, so this can read
+     * an arbitrary number of rows in constant memory. The entities are detached: changes made to them are not
+     * persisted, and their lazy associations cannot be loaded.
+     * <p>
+     * The cursor is closed once the stream has been fully consumed, or when the stream is closed. Use a
+     * try-with-resources block when the stream may not be consumed entirely.
+     *
+     * @param fetchSize the number of rows the JDBC driver fetches from the database at once.
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     * @see #page(Page)
+     * @see #page()
+     */
+    public <T extends Entity> Stream<T> statelessStream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
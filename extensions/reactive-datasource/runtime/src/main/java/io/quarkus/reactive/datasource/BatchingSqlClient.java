@@ -0,0 +1,137 @@
+package io.quarkus.reactive.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Sends the independent queries issued while processing a request on a single connection.
+ * <p>
+ * Each query executed directly on a {@link Pool} borrows its own connection. With this client, the queries issued
+ * on the same request (i.e. the same Vert.x duplicated context) during the current event loop task are collected,
+ * and sent together on one connection when the task completes. When the database client supports pipelining,
+ * e.g. the PostgreSQL client with {@code quarkus.datasource.reactive.postgresql.pipelining-limit}, the queries are
+ * written without waiting for the previous results.
+ * <p>
+ * The queries of a batch are not executed in a transaction: use {@link Pool#withTransaction} for dependent queries.
+ * Outside of an event loop thread running a duplicated context, for example on a worker or virtual thread, queries are
+ * executed on the pool right away.
+ * <p>
+ * Instances are thread-safe, create one per pool and share it, e.g. from a CDI producer.
+ * With the Mutiny API, use {@code pool.getDelegate()} to get the bare pool.
+ */
+public final class BatchingSqlClient {
+
+    private final Pool pool;
+
+    private BatchingSqlClient(Pool pool) {
+        this.pool = pool;
+    }
+
+    public static BatchingSqlClient create(Pool pool) {
+        return new BatchingSqlClient(pool);
+    }
+
+    /**
+     * Executes a simple query in the current batch.
+     */
+    public Future<RowSet<Row>> query(String sql) {
+        return enqueue(sql, null);
+    }
+
+    /**
+     * Executes a prepared query in the current batch.
+     */
+    public Future<RowSet<Row>> preparedQuery(String sql, Tuple arguments) {
+        return enqueue(sql, arguments);
+    }
+
+    private Future<RowSet<Row>> enqueue(String sql, Tuple arguments) {
+        Context context = Vertx.currentContext();
+        if (!isBatching(context)) {
+            return execute(pool, sql, arguments);
+        }
+        Batch batch = context.getLocal(this);
+        if (batch == null) {
+            Batch newBatch = new Batch();
+            context.putLocal(this, newBatch);
+            // runs once the current task completes, i.e. after all the queries of this task have been collected
+            context.runOnContext(v -> {
+                context.removeLocal(this);
+                newBatch.send(pool);
+            });
+            batch = newBatch;
+        }
+        return batch.add(sql, arguments);
+    }
+
+    /**
+     * The batch is only accessed from the event loop thread running the context: a worker or virtual thread may also
+     * carry a duplicated context, but it would race with the batch being sent on the event loop.
+     */
+    static boolean isBatching(Context context) {
+        return context != null && Context.isOnEventLoopThread() && context.isEventLoopContext()
+                && VertxContext.isDuplicatedContext(context);
+    }
+
+    private static Future<RowSet<Row>> execute(SqlClient client, String sql, Tuple arguments) {
+        return arguments == null ? client.query(sql).execute() : client.preparedQuery(sql).execute(arguments);
+    }
+
+    private static final class Batch {
+
+        private final List<PendingQuery> queries = new ArrayList<>();
+
+        Future<RowSet<Row>> add(String sql, Tuple arguments) {
+            PendingQuery query = new PendingQuery(sql, arguments);
+            queries.add(query);
+            return query.result.future();
+        }
+
+        void send(Pool pool) {
+            if (queries.size() == 1) {
+                // nothing to share, don't hold a connection for the whole batch
+                PendingQuery query = queries.get(0);
+                execute(pool, query.sql, query.arguments).onComplete(query.result);
+                return;
+            }
+            pool.withConnection(connection -> {
+                List<Future<RowSet<Row>>> results = new ArrayList<>(queries.size());
+                for (PendingQuery query : queries) {
+                    Future<RowSet<Row>> result = execute(connection, query.sql, query.arguments);
+                    result.onComplete(query.result);
+                    results.add(result);
+                }
+                // keep the connection until all the queries completed
+                return Future.join(results);
+            }).onFailure(failure -> {
+                // the connection could not be acquired
+                for (PendingQuery query : queries) {
+                    query.result.tryFail(failure);
+                }
+            });
+        }
+    }
+
+    private static final class PendingQuery {
+
+        final String sql;
+        final Tuple arguments;
+        final Promise<RowSet<Row>> result = Promise.promise();
+
+        PendingQuery(String sql, Tuple arguments) {
+            this.sql = sql;
+            this.arguments = arguments;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.quarkus.reactive.datasource;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Loads entities by key, batching the keys requested while processing a request to avoid N+1 queries.
+ * <p>
+ * The keys requested on the same request (i.e. the same Vert.x duplicated context) during the current event loop task
+ * are collected, and loaded with a single query once the task completes. The query receives the keys as an array in
+ * its only parameter, for example with PostgreSQL:
+ *
+ * <pre>
+ * SqlDataLoader&lt;Long, Fruit&gt; fruits = SqlDataLoader.builder(pool, "SELECT * FROM fruits WHERE id = ANY($1)", Long.class)
+ *         .keyMapper(row -&gt; row.getLong("id"))
+ *         .valueMapper(Fruit::from)
+ *         .build();
+ * </pre>
+ *
+ * Results are also cached for the rest of the request, so a key is only loaded once per request, unless it is
+ * {@linkplain #clear(Object) cleared}. Keys without a matching row are resolved with {@code null}.
+ * <p>
+ * Outside of an event loop thread running a duplicated context, for example on a worker or virtual thread, each key is
+ * loaded right away, without caching.
+ * <p>
+ * Instances are thread-safe, create one per query and share it, e.g. from a CDI producer.
+ * With the Mutiny API, use {@code pool.getDelegate()} to get the bare pool.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class SqlDataLoader<K, V> {
+
+    private final Pool pool;
+    private final String sql;
+    private final Class<K> keyType;
+    private final Function<Row, K> keyMapper;
+    private final Function<Row, V> valueMapper;
+    private final int maxBatchSize;
+
+    private SqlDataLoader(Builder<K, V> builder) {
+        this.pool = builder.pool;
+        this.sql = builder.sql;
+        this.keyType = builder.keyType;
+        this.keyMapper = builder.keyMapper;
+        this.valueMapper = builder.valueMapper;
+        this.maxBatchSize = builder.maxBatchSize;
+    }
+
+    /**
+     * @param pool the pool to execute the query with
+     * @param sql the query, taking the array of keys as its only parameter
+     * @param keyType the key type, used to create the array of keys
+     */
+    public static <K, V> Builder<K, V> builder(Pool pool, String sql, Class<K> keyType) {
+        return new Builder<>(pool, sql, keyType);
+    }
+
+    /**
+     * @return the value for the given key, or {@code null} if no row matched it
+     */
+    public Future<V> load(K key) {
+        Objects.requireNonNull(key, "key");
+        Context context = Vertx.currentContext();
+        if (!BatchingSqlClient.isBatching(context)) {
+            return fetch(List.of(key)).map(values -> values.get(key));
+        }
+        RequestState<K, V> state = context.getLocal(this);
+        if (state == null) {
+            state = new RequestState<>();
+            context.putLocal(this, state);
+        }
+        Future<V> loaded = state.loaded.get(key);
+        if (loaded != null) {
+            return loaded;
+        }
+        Promise<V> promise = Promise.promise();
+        state.loaded.put(key, promise.future());
+        state.pending.put(key, promise);
+        if (state.pending.size() == 1) {
+            RequestState<K, V> requestState = state;
+            // runs once the current task completes, i.e. after all the keys of this task have been collected
+            context.runOnContext(v -> dispatch(requestState));
+        }
+        return promise.future();
+    }
+
+    /**
+     * @return the values for the given keys, in the same order
+     */
+    public Future<List<V>> loadMany(Collection<K> keys) {
+        List<Future<V>> futures = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            futures.add(load(key));
+        }
+        return Future.all(futures).map(composite -> {
+            List<V> values = new ArrayList<>(futures.size());
+            for (Future<V> future : futures) {
+                values.add(future.result());
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Removes the given key from the cache of the current request, e.g. after it was updated.
+     */
+    public void clear(K key) {
+        RequestState<K, V> state = currentState();
+        if (state != null) {
+            state.loaded.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the keys from the cache of the current request.
+     */
+    public void clearAll() {
+        RequestState<K, V> state = currentState();
+        if (state != null) {
+            state.loaded.clear();
+        }
+    }
+
+    private RequestState<K, V> currentState() {
+        Context context = Vertx.currentContext();
+        return BatchingSqlClient.isBatching(context) ? context.getLocal(this) : null;
+    }
+
+    private void dispatch(RequestState<K, V> state) {
+        Map<K, Promise<V>> pending = state.pending;
+        state.pending = new LinkedHashMap<>();
+        List<K> keys = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        for (K key : pending.keySet()) {
+            keys.add(key);
+            if (keys.size() == maxBatchSize) {
+                dispatch(state, keys, pending);
+                keys = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+            }
+        }
+        if (!keys.isEmpty()) {
+            dispatch(state, keys, pending);
+        }
+    }
+
+    private void dispatch(RequestState<K, V> state, List<K> keys, Map<K, Promise<V>> pending) {
+        fetch(keys).onComplete(result -> {
+            for (K key : keys) {
+                Promise<V> promise = pending.get(key);
+                if (result.succeeded()) {
+                    promise.complete(result.result().get(key));
+                } else {
+                    // don't cache failures, the next load attempts the query again
+                    state.loaded.remove(key);
+                    promise.fail(result.cause());
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<Map<K, V>> fetch(List<K> keys) {
+        K[] array = (K[]) Array.newInstance(keyType, keys.size());
+        return pool.preparedQuery(sql)
+                .execute(Tuple.tuple().addValue(keys.toArray(array)))
+                .map(this::toValues);
+    }
+
+    private Map<K, V> toValues(RowSet<Row> rows) {
+        Map<K, V> values = new HashMap<>();
+        for (Row row : rows) {
+            values.put(keyMapper.apply(row), valueMapper.apply(row));
+        }
+        return values;
+    }
+
+    /**
+     * The state of a loader for a given request, only accessed from the request context.
+     */
+    private static final class RequestState<K, V> {
+
+        final Map<K, Future<V>> loaded = new HashMap<>();
+        Map<K, Promise<V>> pending = new LinkedHashMap<>();
+    }
+
+    public static final class Builder<K, V> {
+
+        private final Pool pool;
+        private final String sql;
+        private final Class<K> keyType;
+        private Function<Row, K> keyMapper;
+        private Function<Row, V> valueMapper;
+        private int maxBatchSize = 1000;
+
+        private Builder(Pool pool, String sql, Class<K> keyType) {
+            this.pool = Objects.requireNonNull(pool, "pool");
+            this.sql = Objects.requireNonNull(sql, "sql");
+            this.keyType = Objects.requireNonNull(keyType, "keyType");
+        }
+
+        /**
+         * Extracts the key of a row, to match the row with the requested key.
+         */
+        public Builder<K, V> keyMapper(Function<Row, K> keyMapper) {
+            this.keyMapper = keyMapper;
+            return this;
+        }
+
+        /**
+         * Maps a row to the loaded value.
+         */
+        public Builder<K, V> valueMapper(Function<Row, V> valueMapper) {
+            this.valueMapper = valueMapper;
+            return this;
+        }
+
+        /**
+         * The maximum number of keys loaded by a single query, larger batches are split. Defaults to 1000.
+         */
+        public Builder<K, V> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public SqlDataLoader<K, V> build() {
+            Objects.requireNonNull(keyMapper, "keyMapper");
+            Objects.requireNonNull(valueMapper, "valueMapper");
+            return new SqlDataLoader<>(this);
+        }
+    }
+}
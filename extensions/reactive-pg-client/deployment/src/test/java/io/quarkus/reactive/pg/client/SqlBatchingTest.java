@@ -0,0 +1,153 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.BatchingSqlClient;
+import io.quarkus.reactive.datasource.SqlDataLoader;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+
+public class SqlBatchingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withEmptyApplication();
+
+    @Inject
+    PgPool pool;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBatchingSqlClient() throws Exception {
+        BatchingSqlClient client = BatchingSqlClient.create(pool.getDelegate());
+        List<Row> rows = runOnRequestContext(() -> {
+            List<Future<Row>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(client.preparedQuery("SELECT $1::int AS v, pg_backend_pid() AS pid", Tuple.of(i))
+                        .map(rowSet -> rowSet.iterator().next()));
+            }
+            results.add(client.query("SELECT 5 AS v, pg_backend_pid() AS pid").map(rowSet -> rowSet.iterator().next()));
+            return Future.all(results).map(composite -> composite.<Row> list());
+        });
+        assertThat(rows).extracting(row -> row.getInteger("v")).containsExactly(0, 1, 2, 3, 4, 5);
+        // the queries were sent together on a single connection
+        assertThat(rows).extracting(row -> row.getInteger("pid")).containsOnly(rows.get(0).getInteger("pid"));
+    }
+
+    @Test
+    public void testBatchingSqlClientOnWorkerThread() throws Exception {
+        BatchingSqlClient client = BatchingSqlClient.create(pool.getDelegate());
+        // a worker thread carrying a duplicated context executes the queries right away
+        List<Integer> values = runOnWorkerThread(() -> {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(client.preparedQuery("SELECT $1::int AS v", Tuple.of(i))
+                        .map(rowSet -> rowSet.iterator().next().getInteger("v")));
+            }
+            return Future.all(results).map(composite -> composite.<Integer> list());
+        });
+        assertThat(values).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testSqlDataLoader() throws Exception {
+        Set<Long> queries = ConcurrentHashMap.newKeySet();
+        SqlDataLoader<Integer, Integer> loader = createLoader(queries);
+        List<Integer> values = runOnRequestContext(() -> {
+            Future<Integer> first = loader.load(1);
+            // the same key is only loaded once per request
+            assertThat(loader.load(1)).isSameAs(first);
+            return loader.loadMany(Arrays.asList(1, 2, 3, 4));
+        });
+        assertThat(values).containsExactly(2, 4, null, 8);
+        // the four keys were loaded with two queries, as the batches are limited to two keys
+        assertThat(queries).hasSize(2);
+    }
+
+    @Test
+    public void testSqlDataLoaderOnWorkerThread() throws Exception {
+        Set<Long> queries = ConcurrentHashMap.newKeySet();
+        SqlDataLoader<Integer, Integer> loader = createLoader(queries);
+        List<Integer> values = runOnWorkerThread(() -> {
+            Future<Integer> first = loader.load(1);
+            // each key is loaded right away, without caching
+            assertThat(loader.load(1)).isNotSameAs(first);
+            return loader.loadMany(Arrays.asList(1, 2, 4));
+        });
+        assertThat(values).containsExactly(2, 4, 8);
+        assertThat(queries).hasSize(5);
+    }
+
+    private SqlDataLoader<Integer, Integer> createLoader(Set<Long> queries) throws Exception {
+        runOnRequestContext(() -> pool.getDelegate().query("CREATE SEQUENCE IF NOT EXISTS loader_queries").execute());
+        // the sequence is incremented once per query, and its value is returned with every row
+        return SqlDataLoader
+                .<Integer, Integer> builder(pool.getDelegate(),
+                        "WITH q AS (SELECT nextval('loader_queries') AS n)"
+                                + " SELECT id, id * 2 AS doubled, q.n FROM unnest($1::int[]) AS id, q WHERE id <> 3",
+                        Integer.class)
+                .keyMapper(row -> row.getInteger("id"))
+                .valueMapper(row -> {
+                    queries.add(row.getLong("n"));
+                    return row.getInteger("doubled");
+                })
+                .maxBatchSize(2)
+                .build();
+    }
+
+    private <T> T runOnRequestContext(Supplier<Future<T>> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext()).runOnContext(v -> run(action, result));
+        return result.get(2, TimeUnit.MINUTES);
+    }
+
+    private <T> T runOnWorkerThread(Supplier<Future<T>> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        context.executeBlocking(() -> {
+            run(() -> {
+                assertThat(Context.isOnWorkerThread()).isTrue();
+                assertThat(Vertx.currentContext()).isSameAs(context);
+                return action.get();
+            }, result);
+            return null;
+        });
+        return result.get(2, TimeUnit.MINUTES);
+    }
+
+    private static <T> void run(Supplier<Future<T>> action, CompletableFuture<T> result) {
+        try {
+            action.get().onComplete(ar -> {
+                if (ar.succeeded()) {
+                    result.complete(ar.result());
+                } else {
+                    result.completeExceptionally(ar.cause());
+                }
+            });
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+}
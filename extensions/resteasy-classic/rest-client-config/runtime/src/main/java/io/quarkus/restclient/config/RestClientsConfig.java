@@ -283,6 +283,35 @@ public interface RestClientsConfig {
      */
     Optional<Boolean> alpn();
 
+    /**
+     * The maximum number of concurrent streams a client opens on a single HTTP/2 connection before opening another
+     * connection. The server can advertise a lower limit.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Integer> http2MaxConcurrentStreams();
+
+    /**
+     * If set to false, the clear text HTTP/2 connections are opened with prior knowledge instead of upgrading an
+     * HTTP/1.1 connection.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Boolean> http2ClearTextUpgrade();
+
+    /**
+     * Set to true to share the HTTP client between the REST clients which do not configure {@code shared} themselves.
+     * The shared HTTP client keeps a connection pool per remote host, so the REST clients calling the same host reuse
+     * the same connections.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Boolean> shared();
+
     /**
      * If {@code true}, the stacktrace of the invocation of the REST Client method is captured.
      * This stacktrace will be used if the invocation throws an exception
@@ -616,6 +645,22 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> alpn();
 
+        /**
+         * The maximum number of concurrent streams the client opens on a single HTTP/2 connection before opening
+         * another connection. The server can advertise a lower limit.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Integer> http2MaxConcurrentStreams();
+
+        /**
+         * If set to false, the clear text HTTP/2 connections are opened with prior knowledge instead of upgrading an
+         * HTTP/1.1 connection.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> http2ClearTextUpgrade();
+
         /**
          * If {@code true}, the stacktrace of the invocation of the REST Client method is captured.
          * This stacktrace will be used if the invocation throws an exception
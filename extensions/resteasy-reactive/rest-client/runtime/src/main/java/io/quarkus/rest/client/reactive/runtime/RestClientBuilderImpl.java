@@ -493,6 +493,22 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             clientBuilder.alpn(restClients.alpn().get());
         }
 
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS)
+                && restClients.http2MaxConcurrentStreams().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                    restClients.http2MaxConcurrentStreams().get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE)
+                && restClients.http2ClearTextUpgrade().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE,
+                    restClients.http2ClearTextUpgrade().get());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.SHARED) && restClients.shared().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.SHARED, restClients.shared().get());
+        }
+
         Boolean enableCompression = ConfigProvider.getConfig()
                 .getOptionalValue(ENABLE_COMPRESSION, Boolean.class).orElse(false);
         if (enableCompression) {
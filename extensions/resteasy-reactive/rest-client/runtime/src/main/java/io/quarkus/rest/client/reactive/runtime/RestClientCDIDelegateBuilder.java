@@ -149,6 +149,18 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
         }
 
+        Optional<Integer> maxConcurrentStreams = oneOf(clientConfigByClassName().http2MaxConcurrentStreams(),
+                clientConfigByConfigKey().http2MaxConcurrentStreams(), configRoot.http2MaxConcurrentStreams());
+        if (maxConcurrentStreams.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, maxConcurrentStreams.get());
+        }
+
+        Optional<Boolean> clearTextUpgrade = oneOf(clientConfigByClassName().http2ClearTextUpgrade(),
+                clientConfigByConfigKey().http2ClearTextUpgrade(), configRoot.http2ClearTextUpgrade());
+        if (clearTextUpgrade.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, clearTextUpgrade.get());
+        }
+
         Boolean captureStacktrace = oneOf(clientConfigByClassName().captureStacktrace(),
                 clientConfigByConfigKey().captureStacktrace()).orElse(configRoot.captureStacktrace());
         builder.property(QuarkusRestClientProperties.CAPTURE_STACKTRACE, captureStacktrace);
@@ -208,7 +220,7 @@ private void configureRedirects(QuarkusRestClientBuilder builder) {
 
     private void configureShared(QuarkusRestClientBuilder builder) {
         Optional<Boolean> shared = oneOf(clientConfigByClassName().shared(),
-                clientConfigByConfigKey().shared());
+                clientConfigByConfigKey().shared(), configRoot.shared());
         if (shared.isPresent()) {
             builder.property(QuarkusRestClientProperties.SHARED, shared.get());
 
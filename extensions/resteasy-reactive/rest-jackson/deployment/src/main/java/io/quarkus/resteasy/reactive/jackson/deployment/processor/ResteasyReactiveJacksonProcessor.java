@@ -62,6 +62,7 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.spi.GeneratedJacksonSerdeTypeBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
@@ -378,6 +379,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
             ResteasyReactiveServerJacksonRecorder recorder,
+            List<GeneratedJacksonSerdeTypeBuildItem> additionalSerdeTypes,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
         IndexView indexView = jaxRsIndex.getIndexView();
@@ -402,6 +404,20 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             }
         }
 
+        // types requested by other extensions, e.g. the payloads of Kafka messages
+        for (GeneratedJacksonSerdeTypeBuildItem additionalSerdeType : additionalSerdeTypes) {
+            ClassInfo classInfo = index.getComputingIndex().getClassByName(additionalSerdeType.getClassName());
+            if (classInfo == null) {
+                continue;
+            }
+            if (additionalSerdeType.isSerialization()) {
+                serializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+            if (additionalSerdeType.isDeserialization()) {
+                deserializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+        }
+
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
@@ -0,0 +1,121 @@
+package io.quarkus.security.spi.runtime;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * A set of roles represented as a bitset of interned role IDs.
+ * <p>
+ * The roles required by the security checks are interned when the checks are created, during the application startup.
+ * The identities implementing {@link Provider} map their roles to the interned IDs once, so that checking whether the
+ * identity has any of the required roles is a bitwise AND. The roles which are not required by any check are not
+ * interned.
+ */
+public final class RoleSet {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile int internedCount;
+
+    private final String[] roles;
+    private final long[] bits;
+    private final int snapshot;
+
+    private RoleSet(String[] roles, long[] bits, int snapshot) {
+        this.roles = roles;
+        this.bits = bits;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @param roles the required roles, which are interned
+     */
+    public static RoleSet of(String... roles) {
+        long[] bits = new long[0];
+        for (String role : roles) {
+            bits = set(bits, intern(role));
+        }
+        return new RoleSet(roles.clone(), bits, internedCount);
+    }
+
+    /**
+     * @param roles the roles of an identity, only the interned roles are retained
+     */
+    public static RoleSet ofInterned(Collection<String> roles) {
+        int snapshot = internedCount;
+        long[] bits = new long[0];
+        for (String role : roles) {
+            Integer id = IDS.get(role);
+            if (id != null) {
+                bits = set(bits, id);
+            }
+        }
+        return new RoleSet(null, bits, snapshot);
+    }
+
+    private static synchronized int intern(String role) {
+        Integer id = IDS.get(role);
+        if (id == null) {
+            id = internedCount;
+            IDS.put(role, id);
+            internedCount = id + 1;
+        }
+        return id;
+    }
+
+    private static long[] set(long[] bits, int id) {
+        int word = id >>> 6;
+        if (word >= bits.length) {
+            long[] grown = new long[word + 1];
+            System.arraycopy(bits, 0, grown, 0, bits.length);
+            bits = grown;
+        }
+        bits[word] |= 1L << id;
+        return bits;
+    }
+
+    /**
+     * @return true if no role has been interned since this set has been created
+     */
+    public boolean isCurrent() {
+        return snapshot == internedCount;
+    }
+
+    public boolean intersects(RoleSet other) {
+        int length = Math.min(bits.length, other.bits.length);
+        for (int i = 0; i < length; i++) {
+            if ((bits[i] & other.bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the identity has any of the roles of this set
+     */
+    public boolean isGrantedTo(SecurityIdentity identity) {
+        if (identity instanceof Provider) {
+            return ((Provider) identity).getRoleSet().intersects(this);
+        }
+        for (String role : roles) {
+            if (identity.hasRole(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implemented by the identities caching their interned roles.
+     */
+    public interface Provider {
+
+        /**
+         * @return the interned roles of the identity, re-computed if roles have been interned since it was cached
+         */
+        RoleSet getRoleSet();
+    }
+}
@@ -13,9 +13,10 @@
 
 import io.quarkus.security.credential.Credential;
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.spi.runtime.RoleSet;
 import io.smallrye.mutiny.Uni;
 
-public class QuarkusSecurityIdentity implements SecurityIdentity {
+public class QuarkusSecurityIdentity implements SecurityIdentity, RoleSet.Provider {
 
     private final Principal principal;
     private final Set<String> roles;
@@ -23,6 +24,7 @@ public class QuarkusSecurityIdentity implements SecurityIdentity {
     private final Map<String, Object> attributes;
     private final List<Function<Permission, Uni<Boolean>>> permissionCheckers;
     private final boolean anonymous;
+    private volatile RoleSet roleSet;
 
     private QuarkusSecurityIdentity(Builder builder) {
         this.principal = builder.principal;
@@ -53,6 +55,16 @@ public boolean hasRole(String role) {
         return roles.contains(role);
     }
 
+    @Override
+    public RoleSet getRoleSet() {
+        RoleSet current = roleSet;
+        if (current == null || !current.isCurrent()) {
+            current = RoleSet.ofInterned(roles);
+            roleSet = current;
+        }
+        return current;
+    }
+
     @Override
     public <T extends Credential> T getCredential(Class<T> credentialType) {
         for (Credential i : credentials) {
@@ -13,6 +13,7 @@
 import io.quarkus.security.UnauthorizedException;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.spi.runtime.MethodDescription;
+import io.quarkus.security.spi.runtime.RoleSet;
 import io.quarkus.security.spi.runtime.SecurityCheck;
 
 public class RolesAllowedCheck implements SecurityCheck {
@@ -25,10 +26,14 @@ public class RolesAllowedCheck implements SecurityCheck {
      */
     private static final Map<Collection<String>, RolesAllowedCheck> CACHE = new ConcurrentHashMap<>();
 
-    private final String[] allowedRoles;
+    private static final String AUTHENTICATED = "**";
+
+    private final RoleSet allowedRoles;
+    private final boolean allowAuthenticated;
 
     private RolesAllowedCheck(String[] allowedRoles) {
-        this.allowedRoles = allowedRoles;
+        this.allowedRoles = RoleSet.of(allowedRoles);
+        this.allowAuthenticated = Arrays.asList(allowedRoles).contains(AUTHENTICATED);
     }
 
     public static RolesAllowedCheck of(String[] allowedRoles) {
@@ -52,19 +57,17 @@ private static Collection<String> getCollectionForKey(String[] allowedRoles) {
 
     @Override
     public void apply(SecurityIdentity identity, Method method, Object[] parameters) {
-        doApply(identity, allowedRoles);
+        doApply(identity);
     }
 
     @Override
     public void apply(SecurityIdentity identity, MethodDescription method, Object[] parameters) {
-        doApply(identity, allowedRoles);
+        doApply(identity);
     }
 
-    static void doApply(SecurityIdentity identity, String[] allowedRoles) {
-        for (String role : allowedRoles) {
-            if (identity.hasRole(role) || ("**".equals(role) && !identity.isAnonymous())) {
-                return;
-            }
+    void doApply(SecurityIdentity identity) {
+        if ((allowAuthenticated && !identity.isAnonymous()) || allowedRoles.isGrantedTo(identity)) {
+            return;
         }
         if (identity.isAnonymous()) {
             throw new UnauthorizedException();
@@ -11,7 +11,7 @@ public class SupplierRolesAllowedCheck implements SecurityCheck {
 
     private final Supplier<String[]> allowedRolesSupplier;
 
-    private volatile String[] allowedRoles;
+    private volatile RolesAllowedCheck check;
 
     public SupplierRolesAllowedCheck(Supplier<String[]> allowedRolesSupplier) {
         this.allowedRolesSupplier = allowedRolesSupplier;
@@ -28,19 +28,19 @@ public void apply(SecurityIdentity identity, MethodDescription methodDescription
     }
 
     private void doApply(SecurityIdentity identity) {
-        if (allowedRoles == null) {
+        if (check == null) {
             synchronized (this) {
-                if (allowedRoles == null) {
-                    allowedRoles = allowedRolesSupplier.get();
+                if (check == null) {
+                    check = RolesAllowedCheck.of(allowedRolesSupplier.get());
                 }
             }
         }
-        RolesAllowedCheck.doApply(identity, allowedRoles);
+        check.doApply(identity);
     }
 
     public void resolveAllowedRoles() {
-        if (allowedRoles == null) {
-            allowedRoles = allowedRolesSupplier.get();
+        if (check == null) {
+            check = RolesAllowedCheck.of(allowedRolesSupplier.get());
         }
     }
 }
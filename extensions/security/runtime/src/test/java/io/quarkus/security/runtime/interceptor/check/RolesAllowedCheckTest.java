@@ -0,0 +1,141 @@
+package io.quarkus.security.runtime.interceptor.check;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.security.Permission;
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.ForbiddenException;
+import io.quarkus.security.UnauthorizedException;
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.mutiny.Uni;
+
+public class RolesAllowedCheckTest {
+
+    @Test
+    public void testRolesAllowed() {
+        RolesAllowedCheck check = RolesAllowedCheck.of(new String[] { "admin", "user" });
+
+        assertDoesNotThrow(() -> apply(check, identity("user", "guest")));
+        assertThrows(ForbiddenException.class, () -> apply(check, identity("guest")));
+        assertThrows(UnauthorizedException.class, () -> apply(check, anonymous()));
+    }
+
+    @Test
+    public void testAuthenticated() {
+        RolesAllowedCheck check = RolesAllowedCheck.of(new String[] { "**" });
+
+        assertDoesNotThrow(() -> apply(check, identity()));
+        assertThrows(UnauthorizedException.class, () -> apply(check, anonymous()));
+    }
+
+    @Test
+    public void testRoleInternedAfterIdentityChecked() {
+        SecurityIdentity identity = identity("reader", "late-role");
+        RolesAllowedCheck check = RolesAllowedCheck.of(new String[] { "reader" });
+        assertDoesNotThrow(() -> apply(check, identity));
+
+        // the identity must see the roles interned after its roles have been mapped
+        RolesAllowedCheck lateCheck = RolesAllowedCheck.of(new String[] { "late-role" });
+        assertDoesNotThrow(() -> apply(lateCheck, identity));
+    }
+
+    @Test
+    public void testManyRoles() {
+        String[] roles = new String[130];
+        for (int i = 0; i < roles.length; i++) {
+            roles[i] = "many-roles-" + i;
+        }
+        RolesAllowedCheck.of(roles);
+        RolesAllowedCheck last = RolesAllowedCheck.of(new String[] { roles[129] });
+
+        assertDoesNotThrow(() -> apply(last, identity(roles[129])));
+        assertThrows(ForbiddenException.class, () -> apply(last, identity(roles[0], roles[64])));
+    }
+
+    @Test
+    public void testCustomIdentity() {
+        RolesAllowedCheck check = RolesAllowedCheck.of(new String[] { "admin" });
+
+        assertDoesNotThrow(() -> apply(check, new CustomIdentity(Set.of("admin"))));
+        assertThrows(ForbiddenException.class, () -> apply(check, new CustomIdentity(Set.of("user"))));
+    }
+
+    private static void apply(RolesAllowedCheck check, SecurityIdentity identity) {
+        check.apply(identity, (Method) null, null);
+    }
+
+    private static SecurityIdentity identity(String... roles) {
+        return QuarkusSecurityIdentity.builder()
+                .setPrincipal(new QuarkusPrincipal("alice"))
+                .addRoles(Set.of(roles))
+                .build();
+    }
+
+    private static SecurityIdentity anonymous() {
+        return QuarkusSecurityIdentity.builder().setAnonymous(true).build();
+    }
+
+    static class CustomIdentity implements SecurityIdentity {
+
+        private final Set<String> roles;
+
+        CustomIdentity(Set<String> roles) {
+            this.roles = roles;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return new QuarkusPrincipal("bob");
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return roles;
+        }
+
+        @Override
+        public boolean hasRole(String role) {
+            return roles.contains(role);
+        }
+
+        @Override
+        public <T extends Credential> T getCredential(Class<T> credentialType) {
+            return null;
+        }
+
+        @Override
+        public Set<Credential> getCredentials() {
+            return Set.of();
+        }
+
+        @Override
+        public <T> T getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return Map.of();
+        }
+
+        @Override
+        public Uni<Boolean> checkPermission(Permission permission) {
+            return Uni.createFrom().item(false);
+        }
+    }
+}
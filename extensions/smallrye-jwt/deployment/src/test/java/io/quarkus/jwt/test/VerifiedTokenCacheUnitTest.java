@@ -0,0 +1,158 @@
+package io.quarkus.jwt.test;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.jwt.Claims;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.smallrye.jwt.runtime.auth.JsonWebTokenCredential;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.SmallRyeJwtConfig;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.ParseException;
+
+/**
+ * Validate the cache of the verified tokens
+ */
+public class VerifiedTokenCacheUnitTest {
+
+    @Test
+    public void testCachedTokens() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, new CacheConfig(10));
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache");
+        SecurityIdentity first = authenticate(jwtValidator, jwt);
+        SecurityIdentity second = authenticate(jwtValidator, jwt);
+        Assertions.assertEquals("jdoe@example.com", second.getPrincipal().getName());
+        Assertions.assertSame(first.getPrincipal(), second.getPrincipal());
+        Assertions.assertEquals(1, parser.parsed.get());
+
+        String otherJwt = TokenUtils.generateTokenString("/Token2.json", keyPair.getPrivate(), "testTokenCache");
+        authenticate(jwtValidator, otherJwt);
+        Assertions.assertEquals(2, parser.parsed.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTokenEvicted() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, new CacheConfig(2));
+
+        String first = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "first");
+        String second = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "second");
+        String third = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "third");
+        authenticate(jwtValidator, first);
+        authenticate(jwtValidator, second);
+        // the first token becomes the most recently used one
+        authenticate(jwtValidator, first);
+        Assertions.assertEquals(2, parser.parsed.get());
+
+        // caching the third token evicts the second one
+        authenticate(jwtValidator, third);
+        Assertions.assertEquals(3, parser.parsed.get());
+        authenticate(jwtValidator, first);
+        authenticate(jwtValidator, third);
+        Assertions.assertEquals(3, parser.parsed.get());
+        authenticate(jwtValidator, second);
+        Assertions.assertEquals(4, parser.parsed.get());
+    }
+
+    @Test
+    public void testTokenNotCachedBeyondExpiry() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, new CacheConfig(10));
+
+        Map<String, Long> timeClaims = new HashMap<>();
+        timeClaims.put(Claims.exp.name(), TokenUtils.currentTimeInSecs() + 1L);
+        // verified thanks to the default expiry grace period
+        String jwt = TokenUtils.generateTokenString(keyPair.getPrivate(), "testTokenCache", "/Token1.json", null,
+                timeClaims);
+        authenticate(jwtValidator, jwt);
+        Thread.sleep(2000);
+        authenticate(jwtValidator, jwt);
+        Assertions.assertEquals(2, parser.parsed.get());
+    }
+
+    @Test
+    public void testCacheDisabled() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, new CacheConfig(0));
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache");
+        authenticate(jwtValidator, jwt);
+        authenticate(jwtValidator, jwt);
+        Assertions.assertEquals(2, parser.parsed.get());
+    }
+
+    private static SecurityIdentity authenticate(MpJwtValidator jwtValidator, String jwt) {
+        TokenAuthenticationRequest tokenEvidence = new TokenAuthenticationRequest(new JsonWebTokenCredential(jwt));
+        return jwtValidator.authenticate(tokenEvidence, null).await().indefinitely();
+    }
+
+    static class CountingParser extends DefaultJWTParser {
+
+        final AtomicInteger parsed = new AtomicInteger();
+
+        CountingParser(JWTAuthContextInfo contextInfo) {
+            super(contextInfo);
+        }
+
+        @Override
+        public JsonWebToken parse(String token) throws ParseException {
+            parsed.incrementAndGet();
+            return super.parse(token);
+        }
+    }
+
+    static class CacheConfig implements SmallRyeJwtConfig {
+
+        private final int maxSize;
+
+        CacheConfig(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public boolean blockingAuthentication() {
+            return false;
+        }
+
+        @Override
+        public boolean silent() {
+            return false;
+        }
+
+        @Override
+        public TokenCacheConfig tokenCache() {
+            return new TokenCacheConfig() {
+                @Override
+                public int maxSize() {
+                    return maxSize;
+                }
+
+                @Override
+                public Duration timeToLive() {
+                    return Duration.ofMinutes(3);
+                }
+            };
+        }
+    }
+}
@@ -31,16 +31,20 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
     final boolean blockingAuthentication;
+    final VerifiedTokenCache tokenCache;
 
     public MpJwtValidator() {
         this.parser = null;
         this.blockingAuthentication = false;
+        this.tokenCache = null;
     }
 
     @Inject
     public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config) {
         this.parser = parser;
         this.blockingAuthentication = config == null ? false : config.blockingAuthentication();
+        this.tokenCache = config == null || config.tokenCache().maxSize() <= 0 ? null
+                : new VerifiedTokenCache(config.tokenCache().maxSize(), config.tokenCache().timeToLive());
     }
 
     @Override
@@ -54,6 +58,12 @@ public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
         if (!(request.getToken() instanceof JsonWebTokenCredential)) {
             return Uni.createFrom().nullItem();
         }
+        if (tokenCache != null) {
+            JsonWebToken jwtPrincipal = tokenCache.get(request.getToken().getToken());
+            if (jwtPrincipal != null) {
+                return Uni.createFrom().item(createSecurityIdentity(request, jwtPrincipal));
+            }
+        }
         if (!blockingAuthentication) {
             return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
                 @Override
@@ -73,19 +83,27 @@ public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
 
     private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request) {
         try {
-            JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                    .addCredential(request.getToken())
-                    .addRoles(jwtPrincipal.getGroups())
-                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
-            RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
-            if (routingContext != null) {
-                builder.addAttribute(RoutingContext.class.getName(), routingContext);
+            String token = request.getToken().getToken();
+            JsonWebToken jwtPrincipal = parser.parse(token);
+            if (tokenCache != null) {
+                tokenCache.put(token, jwtPrincipal);
             }
-            return builder.build();
+            return createSecurityIdentity(request, jwtPrincipal);
         } catch (ParseException e) {
             log.debug("Authentication failed", e);
             throw new AuthenticationFailedException(e);
         }
     }
+
+    private static SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, JsonWebToken jwtPrincipal) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                .addCredential(request.getToken())
+                .addRoles(jwtPrincipal.getGroups())
+                .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
+        RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
+        if (routingContext != null) {
+            builder.addAttribute(RoutingContext.class.getName(), routingContext);
+        }
+        return builder.build();
+    }
 }
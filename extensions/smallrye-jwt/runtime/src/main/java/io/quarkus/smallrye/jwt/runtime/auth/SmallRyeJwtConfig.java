@@ -1,5 +1,7 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -30,4 +32,27 @@ public interface SmallRyeJwtConfig {
     @WithDefault("false")
     boolean silent();
 
+    /**
+     * Verified token cache configuration.
+     */
+    TokenCacheConfig tokenCache();
+
+    interface TokenCacheConfig {
+
+        /**
+         * Maximum number of verified tokens kept in the cache.
+         * Set it to a positive value to skip the signature verification of the tokens which are presented again
+         * before they expire.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time a verified token is cached for. A token is never cached beyond its expiry time.
+         * <p>
+         * A token verified with a key which is then rotated out remains accepted until its cache entry expires.
+         */
+        @WithDefault("3M")
+        Duration timeToLive();
+    }
 }
@@ -0,0 +1,121 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Bounded cache of the principals of the tokens which have been verified, keyed by a hash of the raw token.
+ * <p>
+ * A cached principal is only returned for the very same raw token, and never after the token expiry time.
+ * When the cache is full, the least recently used token is evicted.
+ */
+class VerifiedTokenCache {
+
+    // guarded by lock, a lookup updates the access order
+    private final Map<Long, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long timeToLive;
+
+    VerifiedTokenCache(int maxSize, Duration timeToLive) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.timeToLive = timeToLive.toMillis();
+    }
+
+    /**
+     * @return the principal of the given token if it has been verified and has not expired, null otherwise
+     */
+    JsonWebToken get(String token) {
+        Long key = hash(token);
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return equals(entry.token, token) ? entry.principal : null;
+    }
+
+    void put(String token, JsonWebToken principal) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + timeToLive;
+        long expirationTime = principal.getExpirationTime();
+        if (expirationTime > 0) {
+            expiresAt = Math.min(expiresAt, expirationTime * 1000);
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        Long key = hash(token);
+        Entry entry = new Entry(token, principal, expiresAt);
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * FNV-1a, the collisions are harmless as the whole token is compared on lookup.
+     */
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Compares in a constant time, so the cached tokens cannot be guessed from the time of a lookup.
+     */
+    private static boolean equals(String cached, String token) {
+        if (cached.length() != token.length()) {
+            return false;
+        }
+        int result = 0;
+        for (int i = 0; i < cached.length(); i++) {
+            result |= cached.charAt(i) ^ token.charAt(i);
+        }
+        return result == 0;
+    }
+
+    private static final class Entry {
+        final String token;
+        final JsonWebToken principal;
+        final long expiresAt;
+
+        Entry(String token, JsonWebToken principal, long expiresAt) {
+            this.token = token;
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
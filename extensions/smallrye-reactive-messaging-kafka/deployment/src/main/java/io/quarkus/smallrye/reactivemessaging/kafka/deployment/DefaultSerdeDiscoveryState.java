@@ -28,6 +28,8 @@ class DefaultSerdeDiscoveryState {
 
     private final Map<String, Boolean> isKafkaConnector = new HashMap<>();
     private final Set<String> alreadyConfigured = new HashSet<>();
+    private final Set<DotName> jacksonSerializedTypes = new HashSet<>();
+    private final Set<DotName> jacksonDeserializedTypes = new HashSet<>();
 
     private Boolean connectorHasKeySerializer;
     private Boolean connectorHasValueSerializer;
@@ -47,6 +49,22 @@ Config getConfig() {
         return ConfigProvider.getConfig();
     }
 
+    void jacksonSerializerGenerated(DotName type) {
+        jacksonSerializedTypes.add(type);
+    }
+
+    void jacksonDeserializerGenerated(DotName type) {
+        jacksonDeserializedTypes.add(type);
+    }
+
+    Set<DotName> getJacksonSerializedTypes() {
+        return jacksonSerializedTypes;
+    }
+
+    Set<DotName> getJacksonDeserializedTypes() {
+        return jacksonDeserializedTypes;
+    }
+
     boolean isKafkaConnector(List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors, boolean incoming,
             String channelName) {
         // First look in the channelsManagedByConnectors list
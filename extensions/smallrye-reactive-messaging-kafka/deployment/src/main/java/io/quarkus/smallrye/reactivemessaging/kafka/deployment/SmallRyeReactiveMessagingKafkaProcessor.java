@@ -32,6 +32,8 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -40,9 +42,12 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
+import io.quarkus.jackson.spi.GeneratedJacksonSerdeTypeBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.CheckpointMetricsRecorder;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
@@ -169,6 +174,18 @@ public void checkpointHibernateOrm(BuildProducer<AdditionalBeanBuildItem> additi
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void checkpointMetrics(CheckpointMetricsRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        Config config = ConfigProvider.getConfig();
+        if (hasStateStoreConfig(REDIS_STATE_STORE, config)
+                || hasStateStoreConfig(HIBERNATE_REACTIVE_STATE_STORE, config)
+                || hasStateStoreConfig(HIBERNATE_ORM_STATE_STORE, config)) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     @BuildStep
     public void additionalJpaModel(BuildProducer<AdditionalJpaModelBuildItem> additionalJpaModel) {
         additionalJpaModel.produce(new AdditionalJpaModelBuildItem(CHECKPOINT_ENTITY_NAME));
@@ -187,12 +204,20 @@ public void defaultChannelConfiguration(
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> defaultConfigProducer,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
-            BuildProducer<ReflectiveClassBuildItem> reflection) {
+            BuildProducer<ReflectiveClassBuildItem> reflection,
+            BuildProducer<GeneratedJacksonSerdeTypeBuildItem> generatedJacksonSerdeTypes) {
 
         DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
         if (buildTimeConfig.serializerAutodetectionEnabled) {
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
                     buildTimeConfig.serializerGenerationEnabled ? generatedClass : null, reflection);
+            // let the reflection-free Jackson serializers generation (if any) cover the message payload types
+            for (DotName type : discoveryState.getJacksonSerializedTypes()) {
+                generatedJacksonSerdeTypes.produce(GeneratedJacksonSerdeTypeBuildItem.serializer(type.toString()));
+            }
+            for (DotName type : discoveryState.getJacksonDeserializedTypes()) {
+                generatedJacksonSerdeTypes.produce(GeneratedJacksonSerdeTypeBuildItem.deserializer(type.toString()));
+            }
         }
 
         if (launchMode.getLaunchMode().isDevOrTest()) {
@@ -874,6 +899,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
             result = alreadyGeneratedDeserializers.get(type.toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
+                discovery.jacksonDeserializerGenerated(type.name());
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
                 // Deserializers are access by reflection.
                 reflection.produce(
@@ -913,6 +939,7 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
             result = alreadyGeneratedSerializers.get(type.toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
+                discovery.jacksonSerializerGenerated(type.name());
                 LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
                 // Serializers are access by reflection.
                 reflection.produce(
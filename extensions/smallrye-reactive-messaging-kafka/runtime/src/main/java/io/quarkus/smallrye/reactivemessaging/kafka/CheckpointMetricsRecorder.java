@@ -0,0 +1,60 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Records the metrics of the checkpoint state flushes performed by the {@link CoalescingStateStore}.
+ */
+@Recorder
+public class CheckpointMetricsRecorder {
+
+    private static final LongAdder FLUSHES = new LongAdder();
+    private static final LongAdder UPDATES = new LongAdder();
+    private static final LongAdder FAILURES = new LongAdder();
+    private static volatile MetricsFactory.TimeRecorder flushDuration;
+    private static volatile MetricsFactory.TimeRecorder flushLag;
+
+    static void flushed(int updates, long durationNanos, long lagNanos, boolean failed) {
+        FLUSHES.increment();
+        UPDATES.add(updates);
+        if (failed) {
+            FAILURES.increment();
+        }
+        MetricsFactory.TimeRecorder duration = flushDuration;
+        if (duration != null) {
+            duration.update(durationNanos, TimeUnit.NANOSECONDS);
+        }
+        MetricsFactory.TimeRecorder lag = flushLag;
+        if (lag != null) {
+            lag.update(lagNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                flushDuration = metricsFactory.builder("kafka.checkpoint.flush")
+                        .description("Duration of the writes of the checkpoint state to the state store")
+                        .buildTimer();
+                flushLag = metricsFactory.builder("kafka.checkpoint.flush.lag")
+                        .description("Time between the first coalesced checkpoint update and the end of its write")
+                        .buildTimer();
+                metricsFactory.builder("kafka.checkpoint.flushes")
+                        .description("Number of writes of the checkpoint state to the state store")
+                        .buildCounter(FLUSHES::sum);
+                metricsFactory.builder("kafka.checkpoint.updates")
+                        .description("Number of checkpoint updates written to the state store")
+                        .buildCounter(UPDATES::sum);
+                metricsFactory.builder("kafka.checkpoint.flush.failures")
+                        .description("Number of failed writes of the checkpoint state to the state store")
+                        .buildCounter(FAILURES::sum);
+            }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * A {@link CheckpointStateStore} coalescing the processing states persisted by the checkpoint commit strategy.
+ * <p>
+ * The states persisted during a configurable window (or until a number of updates is reached) are merged per partition,
+ * keeping the state with the highest offset, and written to the delegate store in a single call.
+ * The {@link Uni} returned by {@link #persistProcessingState(Map)} completes when the batch containing the update is
+ * written, so the acknowledgement semantics of the checkpoint strategy are preserved.
+ * <p>
+ * The window is configured per channel with {@code checkpoint.<state-store>.batch.window.ms} (disabled by default) and the
+ * maximum number of coalesced updates with {@code checkpoint.<state-store>.batch.max-updates}.
+ */
+public class CoalescingStateStore implements CheckpointStateStore {
+
+    static final String BATCH_WINDOW = "batch.window.ms";
+    static final String BATCH_MAX_UPDATES = "batch.max-updates";
+    static final int DEFAULT_BATCH_MAX_UPDATES = 500;
+
+    private final CheckpointStateStore delegate;
+    private final Vertx vertx;
+    private final long window;
+    private final int maxUpdates;
+
+    // guarded by this
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    private List<CompletableFuture<Void>> waiters = new ArrayList<>();
+    private long firstPendingNanos;
+    private long timerId = -1;
+    private boolean closed;
+
+    CoalescingStateStore(CheckpointStateStore delegate, Vertx vertx, long window, int maxUpdates) {
+        this.delegate = delegate;
+        this.vertx = vertx;
+        this.window = window;
+        this.maxUpdates = maxUpdates;
+    }
+
+    /**
+     * Decorates the given state store with the batching configuration of the channel.
+     *
+     * @param store the state store
+     * @param stateStoreName the name of the state store, used as the configuration prefix
+     * @param config the channel configuration
+     * @param vertx the Vert.x instance used to schedule the flushes
+     * @return the decorated state store
+     */
+    static CheckpointStateStore decorate(CheckpointStateStore store, String stateStoreName,
+            KafkaConnectorIncomingConfiguration config, Vertx vertx) {
+        String prefix = KafkaCommitHandler.Strategy.CHECKPOINT + "." + stateStoreName + ".";
+        long window = config.config().getOptionalValue(prefix + BATCH_WINDOW, Long.class).orElse(0L);
+        int maxUpdates = config.config().getOptionalValue(prefix + BATCH_MAX_UPDATES, Integer.class)
+                .orElse(DEFAULT_BATCH_MAX_UPDATES);
+        return new CoalescingStateStore(store, vertx, window, maxUpdates);
+    }
+
+    @Override
+    public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+        // make sure the pending updates are visible
+        return flush().chain(() -> delegate.fetchProcessingState(partitions));
+    }
+
+    @Override
+    public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
+        if (states.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        boolean flushNow;
+        synchronized (this) {
+            if (closed) {
+                return delegate.persistProcessingState(states);
+            }
+            for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+                pending.merge(entry.getKey(), entry.getValue(), CoalescingStateStore::latest);
+            }
+            if (waiters.isEmpty()) {
+                firstPendingNanos = System.nanoTime();
+            }
+            waiters.add(written);
+            flushNow = window <= 0 || waiters.size() >= maxUpdates;
+            if (!flushNow && timerId < 0) {
+                timerId = vertx.setTimer(window, id -> {
+                    synchronized (this) {
+                        if (timerId != id) {
+                            return;
+                        }
+                        timerId = -1;
+                    }
+                    flush().subscribe().with(ignored -> {
+                    }, ignored -> {
+                        // reported to the waiters
+                    });
+                });
+            }
+        }
+        if (flushNow) {
+            flush().subscribe().with(ignored -> {
+            }, ignored -> {
+                // reported to the waiters
+            });
+        }
+        return Uni.createFrom().completionStage(written);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush().subscribe().with(ignored -> delegate.close(), ignored -> delegate.close());
+    }
+
+    Uni<Void> flush() {
+        Map<TopicPartition, ProcessingState<?>> batch;
+        List<CompletableFuture<Void>> batchWaiters;
+        long firstPending;
+        synchronized (this) {
+            if (timerId >= 0) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+            if (waiters.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            batch = pending;
+            batchWaiters = waiters;
+            firstPending = firstPendingNanos;
+            pending = new HashMap<>();
+            waiters = new ArrayList<>();
+        }
+        long start = System.nanoTime();
+        return delegate.persistProcessingState(batch)
+                .onItemOrFailure().invoke((ignored, failure) -> {
+                    long end = System.nanoTime();
+                    CheckpointMetricsRecorder.flushed(batchWaiters.size(), end - start, end - firstPending, failure != null);
+                    for (CompletableFuture<Void> waiter : batchWaiters) {
+                        if (failure == null) {
+                            waiter.complete(null);
+                        } else {
+                            waiter.completeExceptionally(failure);
+                        }
+                    }
+                });
+    }
+
+    private static ProcessingState<?> latest(ProcessingState<?> current, ProcessingState<?> update) {
+        if (current == null || update == null) {
+            return update == null ? current : update;
+        }
+        return update.getOffset() >= current.getOffset() ? update : current;
+    }
+}
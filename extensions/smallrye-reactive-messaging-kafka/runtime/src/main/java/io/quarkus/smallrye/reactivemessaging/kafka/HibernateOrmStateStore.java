@@ -1,6 +1,7 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -62,7 +63,9 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return CoalescingStateStore.decorate(
+                    new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType),
+                    HIBERNATE_ORM_STATE_STORE, config, vertx);
         }
     }
 
@@ -104,15 +107,23 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            CheckpointEntity[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .toArray(CheckpointEntity[]::new);
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            List<CheckpointEntityId> ids = Arrays.stream(entities).map(CheckpointEntity::getId).collect(Collectors.toList());
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
+                    // the writes of the flush are sent as a single JDBC batch
+                    session.setJdbcBatchSize(entities.length);
                     tx = session.beginTransaction();
+                    // load the existing checkpoints with a single query so that merge does not select them one by one
+                    session.byMultipleIds(stateType).multiLoad(ids);
                     for (Object entity : entities) {
                         session.merge(entity);
                     }
@@ -30,6 +30,10 @@
 import io.smallrye.reactive.messaging.kafka.commit.VertxJsonProcessingStateCodec;
 import io.smallrye.reactive.messaging.providers.helpers.CDIUtils;
 import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
 
 public class RedisStateStore implements CheckpointStateStore {
 
@@ -74,7 +78,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return CoalescingStateStore.decorate(new RedisStateStore(rds, consumerGroupId, stateCodec), REDIS_STATE_STORE,
+                    config, vertx);
         }
     }
 
@@ -112,24 +117,46 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
-        String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
-        return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
-            Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
-                String key = getKey(toPersist.getKey());
-                ProcessingState<?> newState = toPersist.getValue();
-                if (!current.containsKey(key)) {
-                    return true;
-                }
-                ProcessingState<?> currentState = stateCodec.decode(current.get(key));
-                return ProcessingState.isEmptyOrNull(currentState) ||
-                        (!ProcessingState.isEmptyOrNull(newState) && newState.getOffset() >= currentState.getOffset());
-            }).collect(Collectors.toMap(e -> getKey(e.getKey()), e -> stateCodec.encode(e.getValue())));
-            if (map.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            } else {
-                return r.value(byte[].class).mset(map);
-            }
-        }, keys).replaceWithVoid();
+        List<String> keys = states.keySet().stream().map(this::getKey).collect(Collectors.toList());
+        Request watch = Request.cmd(Command.WATCH);
+        Request mget = Request.cmd(Command.MGET);
+        for (String key : keys) {
+            watch.arg(key);
+            mget.arg(key);
+        }
+        // WATCH + MGET and MULTI + MSET + EXEC are pipelined on a single connection, i.e. two round trips per write
+        return redis.getRedis().connect()
+                .chain(connection -> connection.batch(List.of(watch, mget))
+                        .chain(responses -> {
+                            Response current = responses.get(1);
+                            Request mset = Request.cmd(Command.MSET);
+                            boolean empty = true;
+                            int i = 0;
+                            for (Map.Entry<TopicPartition, ProcessingState<?>> toPersist : states.entrySet()) {
+                                Response currentValue = current == null ? null : current.get(i);
+                                ProcessingState<?> newState = toPersist.getValue();
+                                if (shouldPersist(currentValue, newState)) {
+                                    mset.arg(keys.get(i)).arg(Buffer.buffer(stateCodec.encode(newState)));
+                                    empty = false;
+                                }
+                                i++;
+                            }
+                            if (empty) {
+                                return connection.send(Request.cmd(Command.UNWATCH)).replaceWithVoid();
+                            }
+                            return connection.batch(List.of(Request.cmd(Command.MULTI), mset, Request.cmd(Command.EXEC)))
+                                    .replaceWithVoid();
+                        })
+                        .onTermination().call(connection::close));
+    }
+
+    private boolean shouldPersist(Response currentValue, ProcessingState<?> newState) {
+        if (currentValue == null) {
+            return true;
+        }
+        ProcessingState<?> currentState = stateCodec.decode(currentValue.toBytes());
+        return ProcessingState.isEmptyOrNull(currentState) ||
+                (!ProcessingState.isEmptyOrNull(newState) && newState.getOffset() >= currentState.getOffset());
     }
 
 }
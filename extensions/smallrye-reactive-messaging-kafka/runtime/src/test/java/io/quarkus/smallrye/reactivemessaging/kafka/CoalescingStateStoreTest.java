@@ -0,0 +1,237 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+class CoalescingStateStoreTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+    private Vertx vertx;
+    private RecordingStateStore delegate;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        delegate = new RecordingStateStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void coalescesUpdatesOfTheSamePartition() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 100);
+
+        List<Uni<Void>> written = new ArrayList<>();
+        written.add(store.persistProcessingState(Map.of(TP0, state(1))));
+        written.add(store.persistProcessingState(Map.of(TP0, state(3), TP1, state(5))));
+        written.add(store.persistProcessingState(Map.of(TP0, state(2))));
+        assertThat(delegate.writes).isEmpty();
+
+        store.flush().await().atMost(TIMEOUT);
+
+        assertThat(delegate.writes).hasSize(1);
+        assertThat(delegate.writes.get(0)).containsOnlyKeys(TP0, TP1);
+        assertThat(delegate.writes.get(0).get(TP0).getOffset()).isEqualTo(3L);
+        assertThat(delegate.writes.get(0).get(TP1).getOffset()).isEqualTo(5L);
+        for (Uni<Void> uni : written) {
+            uni.await().atMost(TIMEOUT);
+        }
+    }
+
+    @Test
+    void flushesWhenTheWindowElapses() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 50, 100);
+
+        Uni<Void> first = store.persistProcessingState(Map.of(TP0, state(1)));
+        Uni<Void> second = store.persistProcessingState(Map.of(TP0, state(2)));
+
+        first.await().atMost(TIMEOUT);
+        second.await().atMost(TIMEOUT);
+        assertThat(delegate.writes).hasSize(1);
+        assertThat(delegate.writes.get(0).get(TP0).getOffset()).isEqualTo(2L);
+    }
+
+    @Test
+    void flushesWhenTheMaxUpdatesIsReached() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 2);
+
+        Uni<Void> first = store.persistProcessingState(Map.of(TP0, state(1)));
+        assertThat(delegate.writes).isEmpty();
+        Uni<Void> second = store.persistProcessingState(Map.of(TP1, state(1)));
+
+        first.await().atMost(TIMEOUT);
+        second.await().atMost(TIMEOUT);
+        assertThat(delegate.writes).hasSize(1);
+        assertThat(delegate.writes.get(0)).containsOnlyKeys(TP0, TP1);
+    }
+
+    @Test
+    void writesRightAwayWithoutWindow() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 0, 100);
+
+        store.persistProcessingState(Map.of(TP0, state(1))).await().atMost(TIMEOUT);
+        store.persistProcessingState(Map.of(TP0, state(2))).await().atMost(TIMEOUT);
+
+        assertThat(delegate.writes).hasSize(2);
+    }
+
+    @Test
+    void flushesOnClose() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 100);
+
+        Uni<Void> written = store.persistProcessingState(Map.of(TP0, state(7)));
+        store.close();
+
+        written.await().atMost(TIMEOUT);
+        assertThat(delegate.writes).hasSize(1);
+        assertThat(delegate.writes.get(0).get(TP0).getOffset()).isEqualTo(7L);
+        assertThat(delegate.closed).isTrue();
+
+        // the updates persisted after the close are not delayed anymore
+        store.persistProcessingState(Map.of(TP0, state(8))).await().atMost(TIMEOUT);
+        assertThat(delegate.writes).hasSize(2);
+    }
+
+    @Test
+    void fetchSeesThePendingUpdates() {
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 100);
+
+        store.persistProcessingState(Map.of(TP0, state(4)));
+        Map<TopicPartition, ProcessingState<?>> fetched = store.fetchProcessingState(List.of(TP0))
+                .await().atMost(TIMEOUT);
+
+        assertThat(fetched.get(TP0).getOffset()).isEqualTo(4L);
+    }
+
+    @Test
+    void flushFailureIsPropagatedToEveryWaiter() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        delegate.failure = failure;
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 100);
+
+        List<Uni<Void>> written = new ArrayList<>();
+        written.add(store.persistProcessingState(Map.of(TP0, state(1))));
+        written.add(store.persistProcessingState(Map.of(TP1, state(1))));
+        written.add(store.persistProcessingState(Map.of(TP0, state(2))));
+
+        assertThatThrownBy(() -> store.flush().await().atMost(TIMEOUT)).isSameAs(failure);
+        for (Uni<Void> uni : written) {
+            assertThatThrownBy(() -> uni.await().atMost(TIMEOUT)).isSameAs(failure);
+        }
+
+        // the next batch is not affected by the failure
+        delegate.failure = null;
+        Uni<Void> next = store.persistProcessingState(Map.of(TP0, state(3)));
+        store.flush().await().atMost(TIMEOUT);
+        next.await().atMost(TIMEOUT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsTheFlushMetrics() {
+        MetricsFactory metricsFactory = mock(MetricsFactory.class);
+        MetricsFactory.MetricBuilder builder = mock(MetricsFactory.MetricBuilder.class);
+        MetricsFactory.TimeRecorder timer = mock(MetricsFactory.TimeRecorder.class);
+        when(metricsFactory.builder(anyString())).thenReturn(builder);
+        when(builder.description(anyString())).thenReturn(builder);
+        when(builder.buildTimer()).thenReturn(timer);
+        new CheckpointMetricsRecorder().registerMetrics().accept(metricsFactory);
+
+        ArgumentCaptor<Supplier<Number>> counters = ArgumentCaptor.forClass(Supplier.class);
+        verify(builder, times(3)).buildCounter(counters.capture());
+        // flushes, updates and failures, in registration order
+        long[] before = counters.getAllValues().stream().mapToLong(s -> s.get().longValue()).toArray();
+
+        delegate.failure = new IllegalStateException("boom");
+        CoalescingStateStore store = new CoalescingStateStore(delegate, vertx, 60_000, 100);
+        Uni<Void> first = store.persistProcessingState(Map.of(TP0, state(1)));
+        Uni<Void> second = store.persistProcessingState(Map.of(TP0, state(2)));
+        assertThatThrownBy(() -> store.flush().await().atMost(TIMEOUT)).isSameAs(delegate.failure);
+        assertThatThrownBy(() -> first.await().atMost(TIMEOUT)).isSameAs(delegate.failure);
+        assertThatThrownBy(() -> second.await().atMost(TIMEOUT)).isSameAs(delegate.failure);
+
+        long[] after = counters.getAllValues().stream().mapToLong(s -> s.get().longValue()).toArray();
+        assertThat(after[0] - before[0]).isEqualTo(1);
+        assertThat(after[1] - before[1]).isEqualTo(2);
+        assertThat(after[2] - before[2]).isEqualTo(1);
+        verify(timer, times(2)).update(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    private static ProcessingState<?> state(long offset) {
+        return new ProcessingState<>("state-" + offset, offset);
+    }
+
+    static class RecordingStateStore implements CheckpointStateStore {
+
+        final List<Map<TopicPartition, ProcessingState<?>>> writes = new CopyOnWriteArrayList<>();
+        final Map<TopicPartition, ProcessingState<?>> stored = new HashMap<>();
+        volatile RuntimeException failure;
+        volatile boolean closed;
+
+        @Override
+        public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+            Map<TopicPartition, ProcessingState<?>> fetched = new HashMap<>();
+            synchronized (stored) {
+                for (TopicPartition partition : partitions) {
+                    if (stored.containsKey(partition)) {
+                        fetched.put(partition, stored.get(partition));
+                    }
+                }
+            }
+            return Uni.createFrom().item(fetched);
+        }
+
+        @Override
+        public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+            RuntimeException failure = this.failure;
+            if (failure != null) {
+                return Uni.createFrom().failure(failure);
+            }
+            writes.add(Map.copyOf(state));
+            synchronized (stored) {
+                stored.putAll(state);
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+class HibernateStateStoreTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+    private Vertx vertx;
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ormLoadsAndWritesInBatch() {
+        SessionFactory sf = mock(SessionFactory.class);
+        Session session = mock(Session.class);
+        Transaction tx = mock(Transaction.class);
+        MultiIdentifierLoadAccess<TestCheckpoint> multiLoad = mock(MultiIdentifierLoadAccess.class);
+        when(sf.openSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(tx);
+        when(session.byMultipleIds(TestCheckpoint.class)).thenReturn(multiLoad);
+        HibernateOrmStateStore store = new HibernateOrmStateStore("group", sf, TestCheckpoint.class);
+
+        onContext(store.persistProcessingState(states(1, 2))).await().atMost(TIMEOUT);
+
+        InOrder inOrder = inOrder(session, multiLoad, tx);
+        inOrder.verify(session).setJdbcBatchSize(2);
+        inOrder.verify(session).beginTransaction();
+        ArgumentCaptor<List<Object>> ids = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(multiLoad).multiLoad(ids.capture());
+        inOrder.verify(session, times(2)).merge(any(TestCheckpoint.class));
+        inOrder.verify(session).flush();
+        inOrder.verify(tx).commit();
+        assertThat(ids.getValue()).containsExactly(new CheckpointEntityId("group", TP0),
+                new CheckpointEntityId("group", TP1));
+        verify(session, never()).find(eq(TestCheckpoint.class), any());
+        verify(session).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ormRollsBackOnFailure() {
+        SessionFactory sf = mock(SessionFactory.class);
+        Session session = mock(Session.class);
+        Transaction tx = mock(Transaction.class);
+        when(sf.openSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(tx);
+        when(session.byMultipleIds(TestCheckpoint.class)).thenReturn(mock(MultiIdentifierLoadAccess.class));
+        IllegalStateException failure = new IllegalStateException("boom");
+        doThrow(failure).when(session).flush();
+        HibernateOrmStateStore store = new HibernateOrmStateStore("group", sf, TestCheckpoint.class);
+
+        assertThatThrownBy(() -> onContext(store.persistProcessingState(states(1, 2))).await().atMost(TIMEOUT))
+                .isSameAs(failure);
+        verify(tx).rollback();
+        verify(tx, never()).commit();
+        verify(session).close();
+    }
+
+    @Test
+    void ormSkipsEmptyStates() {
+        SessionFactory sf = mock(SessionFactory.class);
+        HibernateOrmStateStore store = new HibernateOrmStateStore("group", sf, TestCheckpoint.class);
+
+        onContext(store.persistProcessingState(Map.of(TP0, ProcessingState.EMPTY_STATE))).await().atMost(TIMEOUT);
+
+        verify(sf, never()).openSession();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reactiveLoadsAndWritesInBatch() {
+        Mutiny.SessionFactory sf = mock(Mutiny.SessionFactory.class);
+        Mutiny.Session session = mock(Mutiny.Session.class);
+        when(sf.withTransaction(any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Function<Mutiny.Session, Uni<?>>> getArgument(0).apply(session));
+        when(session.setBatchSize(any())).thenReturn(session);
+        when(session.find(eq(TestCheckpoint.class), any(Object[].class))).thenReturn(Uni.createFrom().item(List.of()));
+        when(session.mergeAll(any(Object[].class))).thenReturn(Uni.createFrom().voidItem());
+        HibernateReactiveStateStore store = new HibernateReactiveStateStore("group", sf, TestCheckpoint.class);
+
+        onContext(store.persistProcessingState(states(1, 2))).await().atMost(TIMEOUT);
+
+        InOrder inOrder = inOrder(sf, session);
+        inOrder.verify(sf).withTransaction(any(Function.class));
+        inOrder.verify(session).setBatchSize(2);
+        ArgumentCaptor<Object[]> ids = ArgumentCaptor.forClass(Object[].class);
+        inOrder.verify(session).find(eq(TestCheckpoint.class), ids.capture());
+        ArgumentCaptor<Object[]> merged = ArgumentCaptor.forClass(Object[].class);
+        inOrder.verify(session).mergeAll(merged.capture());
+        assertThat(ids.getValue()).containsExactly(new CheckpointEntityId("group", TP0),
+                new CheckpointEntityId("group", TP1));
+        assertThat(merged.getValue()).hasSize(2).allMatch(TestCheckpoint.class::isInstance);
+    }
+
+    private <T> Uni<T> onContext(Uni<T> uni) {
+        return uni.runSubscriptionOn(context::runOnContext);
+    }
+
+    private static Map<TopicPartition, ProcessingState<?>> states(long tp0, long tp1) {
+        Map<TopicPartition, ProcessingState<?>> states = new LinkedHashMap<>();
+        states.put(TP0, new ProcessingState<>(new TestCheckpoint(), tp0));
+        states.put(TP1, new ProcessingState<>(new TestCheckpoint(), tp1));
+        return states;
+    }
+
+    public static class TestCheckpoint extends CheckpointEntity {
+    }
+}
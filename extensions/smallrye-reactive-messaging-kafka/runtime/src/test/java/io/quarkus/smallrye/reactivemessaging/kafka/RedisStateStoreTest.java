@@ -0,0 +1,157 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingStateCodec;
+import io.smallrye.reactive.messaging.kafka.commit.VertxJsonProcessingStateCodec;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+class RedisStateStoreTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+    private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+    private final ProcessingStateCodec codec = VertxJsonProcessingStateCodec.INSTANCE;
+    private RedisConnection connection;
+    private RedisStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        ReactiveRedisDataSource dataSource = mock(ReactiveRedisDataSource.class);
+        Redis redis = mock(Redis.class);
+        connection = mock(RedisConnection.class);
+        when(dataSource.getRedis()).thenReturn(redis);
+        when(redis.connect()).thenReturn(Uni.createFrom().item(connection));
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+        store = new RedisStateStore(dataSource, "group", codec);
+    }
+
+    @Test
+    void persistsInTwoPipelinedRoundTrips() {
+        mockCurrentValues(null, null);
+
+        store.persistProcessingState(states(1, 2)).await().atMost(TIMEOUT);
+
+        List<List<Request>> batches = captureBatches(2);
+        assertThat(commands(batches.get(0))).containsExactly(Command.WATCH, Command.MGET);
+        assertThat(batches.get(0).get(0).toString()).contains("group:topic:0", "group:topic:1");
+        assertThat(batches.get(0).get(1).toString()).contains("group:topic:0", "group:topic:1");
+        assertThat(commands(batches.get(1))).containsExactly(Command.MULTI, Command.MSET, Command.EXEC);
+        assertThat(batches.get(1).get(1).toString()).contains("group:topic:0", "group:topic:1");
+        verify(connection, never()).send(any());
+        verify(connection).close();
+    }
+
+    @Test
+    void onlyWritesTheNewerStates() {
+        mockCurrentValues(state(10), state(1));
+
+        store.persistProcessingState(states(5, 2)).await().atMost(TIMEOUT);
+
+        List<List<Request>> batches = captureBatches(2);
+        String mset = batches.get(1).get(1).toString();
+        assertThat(mset).contains("group:topic:1").doesNotContain("group:topic:0");
+        verify(connection).close();
+    }
+
+    @Test
+    void unwatchesWhenNoStateIsNewer() {
+        mockCurrentValues(state(10), state(10));
+        when(connection.send(any())).thenReturn(Uni.createFrom().item(mock(Response.class)));
+
+        store.persistProcessingState(states(5, 2)).await().atMost(TIMEOUT);
+
+        captureBatches(1);
+        ArgumentCaptor<Request> sent = ArgumentCaptor.forClass(Request.class);
+        verify(connection).send(sent.capture());
+        assertThat(sent.getValue().getDelegate().command()).isSameAs(Command.UNWATCH);
+        verify(connection).close();
+    }
+
+    @Test
+    void closesTheConnectionOnFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(connection.batch(anyList())).thenReturn(Uni.createFrom().failure(failure));
+
+        assertThatThrownBy(() -> store.persistProcessingState(states(1, 2)).await().atMost(TIMEOUT))
+                .isSameAs(failure);
+        verify(connection).close();
+    }
+
+    @Test
+    void doesNotConnectWithoutStates() {
+        store.persistProcessingState(Map.of()).await().atMost(TIMEOUT);
+
+        verify(connection, never()).batch(anyList());
+    }
+
+    private void mockCurrentValues(ProcessingState<?> tp0, ProcessingState<?> tp1) {
+        Response current0 = response(tp0);
+        Response current1 = response(tp1);
+        Response mget = mock(Response.class);
+        when(mget.get(0)).thenReturn(current0);
+        when(mget.get(1)).thenReturn(current1);
+        when(connection.batch(anyList())).thenReturn(
+                Uni.createFrom().item(Arrays.asList(mock(Response.class), mget)),
+                Uni.createFrom().item(List.of()));
+    }
+
+    private Response response(ProcessingState<?> state) {
+        if (state == null) {
+            return null;
+        }
+        Response response = mock(Response.class);
+        when(response.toBytes()).thenReturn(codec.encode(state));
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Request>> captureBatches(int count) {
+        ArgumentCaptor<List<Request>> batches = ArgumentCaptor.forClass(List.class);
+        verify(connection, times(count)).batch(batches.capture());
+        return batches.getAllValues();
+    }
+
+    private static List<Command> commands(List<Request> batch) {
+        return batch.stream().map(r -> r.getDelegate().command()).collect(Collectors.toList());
+    }
+
+    private static Map<TopicPartition, ProcessingState<?>> states(long tp0, long tp1) {
+        Map<TopicPartition, ProcessingState<?>> states = new LinkedHashMap<>();
+        states.put(TP0, state(tp0));
+        states.put(TP1, state(tp1));
+        return states;
+    }
+
+    private static ProcessingState<?> state(long offset) {
+        return new ProcessingState<>("state-" + offset, offset);
+    }
+}
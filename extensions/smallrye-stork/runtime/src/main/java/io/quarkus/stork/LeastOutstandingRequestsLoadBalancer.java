@@ -0,0 +1,235 @@
+package io.quarkus.stork;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.Metadata;
+import io.smallrye.stork.api.MetadataKey;
+import io.smallrye.stork.api.NoServiceInstanceFoundException;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * A load balancer picking two service instances at random, and selecting the one with the lowest cost: its number of
+ * outstanding requests weighted by its response time.
+ * <p>
+ * The response time of an instance is a moving average of its response times decaying over {@code decay-time}, which
+ * immediately raises to a slower response time. An instance without any recorded response time is preferred to an
+ * instance with as many outstanding requests, so new instances are probed.
+ * <p>
+ * The outstanding requests are counted with striped counters and the response times are updated without locking, so
+ * the load balancer does not require strict recording and concurrent selections do not contend.
+ */
+public class LeastOutstandingRequestsLoadBalancer implements LoadBalancer {
+
+    private final Map<Long, InstanceStatistics> statistics = new ConcurrentHashMap<>();
+    private final long decayTime;
+
+    public LeastOutstandingRequestsLoadBalancer(Duration decayTime) {
+        this.decayTime = decayTime.toNanos();
+    }
+
+    @Override
+    public ServiceInstance selectServiceInstance(Collection<ServiceInstance> serviceInstances) {
+        int size = serviceInstances.size();
+        if (size == 0) {
+            throw new NoServiceInstanceFoundException("No services found.");
+        }
+        ServiceInstance selected;
+        if (size == 1) {
+            selected = serviceInstances.iterator().next();
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            ServiceInstance a = get(serviceInstances, first);
+            ServiceInstance b = get(serviceInstances, second);
+            selected = statistics(a).isCheaperThan(statistics(b)) ? a : b;
+        }
+        if (statistics.size() > 2 * size) {
+            // forget the instances which are gone
+            statistics.keySet().removeIf(id -> serviceInstances.stream().noneMatch(i -> i.getId() == id));
+        }
+        return new RecordingServiceInstance(selected, statistics(selected));
+    }
+
+    @Override
+    public boolean requiresStrictRecording() {
+        return false;
+    }
+
+    InstanceStatistics statistics(ServiceInstance instance) {
+        return statistics.computeIfAbsent(instance.getId(), id -> new InstanceStatistics(decayTime));
+    }
+
+    private static ServiceInstance get(Collection<ServiceInstance> instances, int index) {
+        if (instances instanceof List) {
+            return ((List<ServiceInstance>) instances).get(index);
+        }
+        Iterator<ServiceInstance> iterator = instances.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    static final class InstanceStatistics {
+
+        private final long decayTime;
+        private final LongAdder outstanding = new LongAdder();
+        private final AtomicReference<ResponseTime> responseTime = new AtomicReference<>();
+
+        InstanceStatistics(long decayTime) {
+            this.decayTime = decayTime;
+        }
+
+        long outstanding() {
+            return outstanding.sum();
+        }
+
+        /**
+         * @return the average response time in nanoseconds, 0 if unknown
+         */
+        double responseTime() {
+            ResponseTime current = responseTime.get();
+            return current == null ? 0 : current.average;
+        }
+
+        boolean isCheaperThan(InstanceStatistics other) {
+            long outstanding = outstanding();
+            long otherOutstanding = other.outstanding();
+            double responseTime = responseTime();
+            double otherResponseTime = other.responseTime();
+            if (responseTime == 0 || otherResponseTime == 0) {
+                if (outstanding != otherOutstanding) {
+                    return outstanding < otherOutstanding;
+                }
+                return responseTime == 0;
+            }
+            return (outstanding + 1) * responseTime <= (otherOutstanding + 1) * otherResponseTime;
+        }
+
+        void recordResponseTime(long sample, long now) {
+            ResponseTime current;
+            ResponseTime updated;
+            do {
+                current = responseTime.get();
+                if (current == null || sample >= current.average) {
+                    updated = new ResponseTime(sample, now);
+                } else {
+                    double weight = Math.exp(-(double) Math.max(0, now - current.timestamp) / decayTime);
+                    updated = new ResponseTime(current.average * weight + sample * (1 - weight), now);
+                }
+            } while (!responseTime.compareAndSet(current, updated));
+        }
+    }
+
+    private static final class ResponseTime {
+        final double average;
+        final long timestamp;
+
+        ResponseTime(double average, long timestamp) {
+            this.average = average;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * The instance returned for a single selection, recording the statistics of the call.
+     */
+    private static final class RecordingServiceInstance implements ServiceInstance {
+
+        private static final int NEW = 0;
+        private static final int STARTED = 1;
+        private static final int ENDED = 2;
+
+        private final ServiceInstance delegate;
+        private final InstanceStatistics statistics;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private volatile long start;
+
+        RecordingServiceInstance(ServiceInstance delegate, InstanceStatistics statistics) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String getHost() {
+            return delegate.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return delegate.getPort();
+        }
+
+        @Override
+        public Optional<String> getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return delegate.isSecure();
+        }
+
+        @Override
+        public Metadata<? extends MetadataKey> getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return delegate.getLabels();
+        }
+
+        @Override
+        public boolean gatherStatistics() {
+            return true;
+        }
+
+        @Override
+        public void recordStart(boolean measureTime) {
+            if (state.compareAndSet(NEW, STARTED)) {
+                statistics.outstanding.increment();
+                if (measureTime) {
+                    start = System.nanoTime();
+                }
+            }
+        }
+
+        @Override
+        public void recordReply() {
+            long started = start;
+            if (started != 0) {
+                start = 0;
+                long now = System.nanoTime();
+                statistics.recordResponseTime(now - started, now);
+            }
+        }
+
+        @Override
+        public void recordEnd(Throwable failure) {
+            if (state.compareAndSet(STARTED, ENDED)) {
+                statistics.outstanding.decrement();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.stork;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.ServiceDiscovery;
+import io.smallrye.stork.api.config.ConfigWithType;
+import io.smallrye.stork.spi.internal.LoadBalancerLoader;
+import io.smallrye.stork.utils.DurationUtils;
+
+/**
+ * Creates the {@link LeastOutstandingRequestsLoadBalancer}s, configured with:
+ * <ul>
+ * <li>{@code decay-time}: the time over which the response times of an instance are averaged, {@code 10s} by
+ * default</li>
+ * </ul>
+ */
+public class LeastOutstandingRequestsLoadBalancerLoader implements LoadBalancerLoader {
+
+    public static final String TYPE = "least-outstanding-requests";
+
+    private static final String DECAY_TIME = "decay-time";
+
+    @Override
+    public LoadBalancer createLoadBalancer(ConfigWithType config, ServiceDiscovery serviceDiscovery) {
+        String decayTime = config.parameters().getOrDefault(DECAY_TIME, "10s");
+        return new LeastOutstandingRequestsLoadBalancer(DurationUtils.parseDuration(decayTime, DECAY_TIME));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -23,7 +23,6 @@
 import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.AuthorizationRequestContext;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
-import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher.PathMatch;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -36,17 +35,25 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private final ImmutablePathMatcher<HttpMatchers> pathMatcher;
+    private final List<ImmutablePathMatcher<HttpMatchers>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
             Map<String, PolicyConfig> rolePolicy, String rootPath, Instance<HttpSecurityPolicy> installedPolicies,
             PolicyMappingConfig.AppliesTo appliesTo) {
+        this(permissions, rolePolicy, rootPath, installedPolicies.handles(), appliesTo);
+    }
+
+    AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
+            Map<String, PolicyConfig> rolePolicy, String rootPath,
+            Iterable<? extends Instance.Handle<HttpSecurityPolicy>> installedPolicies,
+            PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<HttpMatchers>> sharedPermsMatchers = new ArrayList<>();
+        List<HttpMatchers> allMatchers = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                 .rootPath(rootPath);
         for (PolicyMappingConfig policyMappingConfig : permissions.values()) {
             if (appliesTo != policyMappingConfig.appliesTo) {
@@ -56,22 +63,26 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (policyMappingConfig.shared) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+                final var builder1 = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                         .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1, allMatchers);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder, allMatchers);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // permissions of the same path are merged while the matchers are built, now resolve policies per HTTP method
+        for (HttpMatchers matchers : allMatchers) {
+            matchers.compile();
+        }
     }
 
     public String getAuthMechanismName(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
                 String authMechanismName = getAuthMechanismName(routingContext, matcher);
                 if (authMechanismName != null) {
                     return authMechanismName;
@@ -92,9 +103,11 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
-        final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
-                : getHttpSecurityPolicies(routingContext);
+        List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? List.of()
+                : getHttpSecurityPolicies(routingContext.normalizedPath(), routingContext.request().method().name());
         if (additionalPolicies.length > 0) {
+            // the path matching policies are shared between requests
+            permissionCheckers = new ArrayList<>(permissionCheckers);
             if (additionalPolicies.length == 1) {
                 permissionCheckers.add(additionalPolicies[0]);
             } else {
@@ -104,17 +117,18 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
         return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
     }
 
-    private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
+    /**
+     * @return policies that must be applied for the request path and HTTP method; the list must not be modified
+     */
+    List<HttpSecurityPolicy> getHttpSecurityPolicies(String path, String method) {
         if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
-        } else {
-            permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
-            }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
+            return findPermissionCheckers(path, method, pathMatcher);
         }
+        final List<HttpSecurityPolicy> permissionCheckers = new ArrayList<>();
+        for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
+            permissionCheckers.addAll(findPermissionCheckers(path, method, matcher));
+        }
+        permissionCheckers.addAll(findPermissionCheckers(path, method, pathMatcher));
         return permissionCheckers;
     }
 
@@ -160,22 +174,14 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static String getAuthMechanismName(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+            ImmutablePathMatcher<HttpMatchers> pathMatcher) {
+        HttpMatchers toCheck = pathMatcher.match(routingContext.normalizedPath()).getValue();
+        return toCheck == null ? null : toCheck.authMechanism;
     }
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             PolicyMappingConfig policyMappingConfig,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<HttpMatchers> builder, List<HttpMatchers> allMatchers) {
         HttpSecurityPolicy checker = permissionCheckers.get(policyMappingConfig.policy);
         if (checker == null) {
             throw new RuntimeException("Unable to find HTTP security policy " + policyMappingConfig.policy);
@@ -185,39 +191,20 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
             for (String path : policyMappingConfig.paths.orElse(Collections.emptyList())) {
                 HttpMatcher m = new HttpMatcher(policyMappingConfig.authMechanism.orElse(null),
                         new HashSet<>(policyMappingConfig.methods.orElse(Collections.emptyList())), checker);
-                List<HttpMatcher> perms = new ArrayList<>();
-                perms.add(m);
+                HttpMatchers perms = new HttpMatchers(m);
+                allMatchers.add(perms);
                 builder.addPath(path, perms);
             }
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        var result = new ArrayList<HttpSecurityPolicy>();
-
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return result;
-        }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i.checker);
-            }
+    private static List<HttpSecurityPolicy> findPermissionCheckers(String path, String method,
+            ImmutablePathMatcher<HttpMatchers> pathMatcher) {
+        HttpMatchers toCheck = pathMatcher.match(path).getValue();
+        if (toCheck == null) {
+            return List.of();
         }
-        if (!methodMatch.isEmpty()) {
-            result.addAll(methodMatch);
-        } else if (!noMethod.isEmpty()) {
-            result.addAll(noMethod);
-        } else {
-            //we deny if we did not match due to method filtering
-            result.add(DenySecurityPolicy.INSTANCE);
-        }
-        return result;
+        return toCheck.getPolicies(method);
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -225,9 +212,9 @@ static boolean policyApplied(RoutingContext routingContext) {
     }
 
     private static Map<String, HttpSecurityPolicy> toNamedHttpSecPolicies(Map<String, PolicyConfig> rolePolicies,
-            Instance<HttpSecurityPolicy> installedPolicies) {
+            Iterable<? extends Instance.Handle<HttpSecurityPolicy>> installedPolicies) {
         Map<String, HttpSecurityPolicy> namedPolicies = new HashMap<>();
-        for (Instance.Handle<HttpSecurityPolicy> handle : installedPolicies.handles()) {
+        for (Instance.Handle<HttpSecurityPolicy> handle : installedPolicies) {
             if (handle.getBean().getBeanClass().getSuperclass() == AbstractPathMatchingHttpSecurityPolicy.class) {
                 continue;
             }
@@ -386,6 +373,64 @@ private void addAction(String action) {
         }
     }
 
+    /**
+     * Permissions of one path pattern. Once all the permissions are added, the policies are resolved for every
+     * HTTP method, so that a request only needs the path match and one lookup by its method.
+     */
+    static final class HttpMatchers {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private Map<String, List<HttpSecurityPolicy>> methodToPolicies;
+        private List<HttpSecurityPolicy> otherMethodPolicies;
+        private String authMechanism;
+
+        HttpMatchers(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        void addAll(HttpMatchers other) {
+            matchers.addAll(other.matchers);
+        }
+
+        void compile() {
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    methods.addAll(i.methods);
+                }
+            }
+            // method specific permissions take precedence over permissions without methods
+            Map<String, List<HttpSecurityPolicy>> methodToPolicies = new HashMap<>();
+            for (String method : methods) {
+                List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i.checker);
+                    }
+                }
+                methodToPolicies.put(method, List.copyOf(methodMatch));
+            }
+            this.methodToPolicies = Map.copyOf(methodToPolicies);
+            if (noMethod.isEmpty()) {
+                //we deny if we did not match due to method filtering
+                this.otherMethodPolicies = List.of(DenySecurityPolicy.INSTANCE);
+            } else {
+                this.otherMethodPolicies = List.copyOf(noMethod);
+            }
+        }
+
+        List<HttpSecurityPolicy> getPolicies(String method) {
+            List<HttpSecurityPolicy> policies = methodToPolicies.get(method);
+            return policies == null ? otherMethodPolicies : policies;
+        }
+    }
+
     static class HttpMatcher {
 
         final String authMechanism;
@@ -7,6 +7,7 @@
 import java.util.function.Function;
 
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.spi.runtime.RoleSet;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -15,12 +16,14 @@
  */
 public class RolesAllowedHttpSecurityPolicy extends RolesMapping implements HttpSecurityPolicy {
     private static final String AUTHENTICATED = "**";
-    private final String[] rolesAllowed;
+    private final RoleSet rolesAllowed;
+    private final boolean allowAuthenticated;
 
     public RolesAllowedHttpSecurityPolicy(List<String> rolesAllowed, Map<String, Set<Permission>> roleToPermissions,
             Map<String, List<String>> roleToRoles) {
         super(roleToPermissions, roleToRoles);
-        this.rolesAllowed = rolesAllowed.toArray(String[]::new);
+        this.rolesAllowed = RoleSet.of(rolesAllowed.toArray(String[]::new));
+        this.allowAuthenticated = rolesAllowed.contains(AUTHENTICATED);
     }
 
     @Override
@@ -32,21 +35,15 @@ public CheckResult apply(SecurityIdentity securityIdentity) {
                 if (grantPermissions || grantRoles) {
                     SecurityIdentity augmented = augmentIdentity(securityIdentity);
                     if (augmented != null) {
-                        for (String i : rolesAllowed) {
-                            if (augmented.hasRole(i) || (AUTHENTICATED.equals(i) && !augmented.isAnonymous())) {
-                                return new CheckResult(true, augmented);
-                            }
-                        }
-                        return new CheckResult(false, augmented);
+                        return new CheckResult(isAllowed(augmented), augmented);
                     }
                 }
-                for (String i : rolesAllowed) {
-                    if (securityIdentity.hasRole(i) || (AUTHENTICATED.equals(i) && !securityIdentity.isAnonymous())) {
-                        return CheckResult.PERMIT;
-                    }
-                }
-                return CheckResult.DENY;
+                return isAllowed(securityIdentity) ? CheckResult.PERMIT : CheckResult.DENY;
             }
         });
     }
+
+    private boolean isAllowed(SecurityIdentity identity) {
+        return (allowAuthenticated && !identity.isAnonymous()) || rolesAllowed.isGrantedTo(identity);
+    }
 }
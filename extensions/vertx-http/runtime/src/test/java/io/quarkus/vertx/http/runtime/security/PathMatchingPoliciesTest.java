@@ -0,0 +1,83 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.PolicyConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+
+public class PathMatchingPoliciesTest {
+
+    private final Map<String, PolicyMappingConfig> permissions = new LinkedHashMap<>();
+
+    @Test
+    public void testMethodSpecificPermissions() {
+        permission("get", "permit", "/api/*", "GET");
+        permission("post", "authenticated", "/api/*", "POST", "PUT");
+        permission("admin", "deny", "/api/admin");
+        var policy = policy();
+
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "GET"), PermitSecurityPolicy.class);
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "PUT"), AuthenticatedHttpSecurityPolicy.class);
+        // denied as no permission has been declared for the method
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "DELETE"), DenySecurityPolicy.class);
+        assertPolicies(policy.getHttpSecurityPolicies("/api/admin", "GET"), DenySecurityPolicy.class);
+        assertTrue(policy.getHttpSecurityPolicies("/public", "GET").isEmpty());
+    }
+
+    @Test
+    public void testPermissionsWithAndWithoutMethods() {
+        permission("any", "authenticated", "/api/*");
+        permission("get", "permit", "/api/*", "GET");
+        permission("also-get", "deny", "/api/*", "GET");
+        var policy = policy();
+
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "GET"), PermitSecurityPolicy.class,
+                DenySecurityPolicy.class);
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "POST"), AuthenticatedHttpSecurityPolicy.class);
+    }
+
+    @Test
+    public void testSharedPermissions() {
+        permission("shared", "authenticated", "/*").shared = true;
+        permission("get", "permit", "/api/*", "GET");
+        var policy = policy();
+
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "GET"), AuthenticatedHttpSecurityPolicy.class,
+                PermitSecurityPolicy.class);
+        assertPolicies(policy.getHttpSecurityPolicies("/api/orders", "POST"), AuthenticatedHttpSecurityPolicy.class,
+                DenySecurityPolicy.class);
+    }
+
+    private PolicyMappingConfig permission(String name, String policy, String path, String... methods) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.paths = Optional.of(List.of(path));
+        config.methods = methods.length == 0 ? Optional.empty() : Optional.of(List.of(methods));
+        config.authMechanism = Optional.empty();
+        config.appliesTo = PolicyMappingConfig.AppliesTo.ALL;
+        permissions.put(name, config);
+        return config;
+    }
+
+    private AbstractPathMatchingHttpSecurityPolicy policy() {
+        return new AbstractPathMatchingHttpSecurityPolicy(permissions, Map.<String, PolicyConfig> of(), "/",
+                List.of(), PolicyMappingConfig.AppliesTo.ALL);
+    }
+
+    private static void assertPolicies(List<HttpSecurityPolicy> policies, Class<?>... expected) {
+        assertEquals(expected.length, policies.size(), policies::toString);
+        for (int i = 0; i < expected.length; i++) {
+            assertInstanceOf(expected[i], policies.get(i));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.virtual.threads;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Supplier that can be used to only run build steps if the virtual thread pinning monitor is enabled.
+ */
+public class PinningMonitorEnabled implements BooleanSupplier {
+
+    private final VirtualThreadsConfig config;
+
+    PinningMonitorEnabled(VirtualThreadsConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return config.enabled && config.pinningMonitor.enabled;
+    }
+}
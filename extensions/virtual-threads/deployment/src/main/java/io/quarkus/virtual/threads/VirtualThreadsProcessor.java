@@ -14,6 +14,8 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.runtime.RuntimeValue;
 
 public class VirtualThreadsProcessor {
 
@@ -36,4 +38,19 @@ public void setup(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
                         .done());
     }
 
+    @BuildStep(onlyIf = PinningMonitorEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void setupPinningMonitor(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
+            ShutdownContextBuildItem shutdownContextBuildItem,
+            BuildProducer<SyntheticBeanBuildItem> producer,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        RuntimeValue<VirtualThreadPinningMonitor> monitor = recorder.startPinningMonitor(config, shutdownContextBuildItem);
+        producer.produce(
+                SyntheticBeanBuildItem.configure(VirtualThreadPinningMonitor.class)
+                        .scope(BuiltinScope.SINGLETON.getInfo())
+                        .setRuntimeInit()
+                        .runtimeValue(monitor)
+                        .done());
+        metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerPinningMetrics(monitor)));
+    }
 }
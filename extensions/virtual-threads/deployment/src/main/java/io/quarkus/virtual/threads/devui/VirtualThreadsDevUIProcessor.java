@@ -0,0 +1,24 @@
+package io.quarkus.virtual.threads.devui;
+
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.devui.spi.JsonRPCProvidersBuildItem;
+import io.quarkus.devui.spi.page.CardPageBuildItem;
+import io.quarkus.devui.spi.page.Page;
+import io.quarkus.virtual.threads.PinningMonitorEnabled;
+
+public class VirtualThreadsDevUIProcessor {
+
+    @BuildStep(onlyIf = { IsDevelopment.class, PinningMonitorEnabled.class })
+    void createCard(BuildProducer<CardPageBuildItem> cardPages,
+            BuildProducer<JsonRPCProvidersBuildItem> jsonRPCProviders) {
+        CardPageBuildItem pageBuildItem = new CardPageBuildItem();
+        pageBuildItem.addPage(Page.webComponentPageBuilder()
+                .title("Pinned virtual threads")
+                .icon("font-awesome-solid:thumbtack")
+                .componentLink("qwc-virtual-threads-pinning.js"));
+        cardPages.produce(pageBuildItem);
+        jsonRPCProviders.produce(new JsonRPCProvidersBuildItem(VirtualThreadsJsonRPCService.class));
+    }
+}
@@ -0,0 +1,108 @@
+import { LitElement, html, css} from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/icon';
+import '@vaadin/button';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+
+export class QwcVirtualThreadsPinning extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    // Component style
+    static styles = css`
+        .button {
+            background-color: transparent;
+            cursor: pointer;
+        }
+        .frames {
+            font-family: monospace;
+            font-size: small;
+            white-space: pre;
+        }
+        `;
+
+    // Component properties
+    static properties = {
+        _stacks: {state: true}
+    }
+
+    // Components callbacks
+
+    /**
+     * Called when displayed
+     */
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    /**
+     * Called when it needs to render the components
+     * @returns {*}
+     */
+    render() {
+        if (this._stacks) {
+            return this._renderStacks();
+        } else {
+            return html`<span>Loading pinned virtual threads...</span>`;
+        }
+    }
+
+    // View / Templates
+
+    _renderStacks() {
+        return html`
+                <vaadin-button theme="small" @click=${() => this._refresh()} class="button">
+                    <vaadin-icon icon="font-awesome-solid:rotate"></vaadin-icon> Refresh
+                </vaadin-button>
+                <vaadin-button theme="small" @click=${() => this._reset()} class="button">
+                    <vaadin-icon icon="font-awesome-solid:broom"></vaadin-icon> Reset
+                </vaadin-button>
+                <vaadin-grid .items="${this._stacks}" class="datatable" theme="no-border">
+                    <vaadin-grid-sort-column auto-width
+                                        header="Endpoint"
+                                        path="endpoint">
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                                        header="Pinned"
+                                        path="pinnedCount">
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                                        header="Total (ms)"
+                                        path="totalMillis">
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                                        header="Max (ms)"
+                                        path="maxMillis">
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width
+                                        header="Submit failed"
+                                        path="submitFailedCount">
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-column auto-width
+                                        header="Stack"
+                                        ${columnBodyRenderer(this._framesRenderer, [])}
+                                        resizable>
+                    </vaadin-grid-column>
+                </vaadin-grid>`;
+    }
+
+    _framesRenderer(stack) {
+        return html`<div class="frames">${stack.frames.join('\n')}</div>`;
+    }
+
+    _refresh() {
+        this.jsonRpc.getPinnedStacks().then(jsonRpcResponse => {
+            this._stacks = jsonRpcResponse.result;
+        });
+    }
+
+    _reset() {
+        this.jsonRpc.reset().then(jsonRpcResponse => {
+            this._stacks = jsonRpcResponse.result;
+        });
+    }
+}
+customElements.define('qwc-virtual-threads-pinning', QwcVirtualThreadsPinning);
@@ -0,0 +1,87 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A snapshot of the pinning events recorded for a given stack trace and endpoint.
+ *
+ * @see VirtualThreadPinningMonitor#getPinnedStacks()
+ */
+public final class PinnedStack {
+
+    private final String endpoint;
+    private final List<String> frames;
+    private final long pinnedCount;
+    private final Duration totalDuration;
+    private final Duration maxDuration;
+    private final long submitFailedCount;
+    private final Instant lastSeen;
+
+    PinnedStack(String endpoint, List<String> frames, long pinnedCount, Duration totalDuration, Duration maxDuration,
+            long submitFailedCount, Instant lastSeen) {
+        this.endpoint = endpoint;
+        this.frames = frames;
+        this.pinnedCount = pinnedCount;
+        this.totalDuration = totalDuration;
+        this.maxDuration = maxDuration;
+        this.submitFailedCount = submitFailedCount;
+        this.lastSeen = lastSeen;
+    }
+
+    /**
+     * @return the outermost application frame of the stack, used to identify the endpoint that triggered the pinning
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the top frames of the stack trace, the first element being the frame where the carrier was pinned
+     */
+    public List<String> getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return the number of {@code jdk.VirtualThreadPinned} events recorded for this stack
+     */
+    public long getPinnedCount() {
+        return pinnedCount;
+    }
+
+    /**
+     * @return the accumulated time the carrier threads were pinned
+     */
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @return the longest pinning recorded for this stack
+     */
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    /**
+     * @return the number of {@code jdk.VirtualThreadSubmitFailed} events recorded for this stack
+     */
+    public long getSubmitFailedCount() {
+        return submitFailedCount;
+    }
+
+    /**
+     * @return the time of the last recorded event
+     */
+    public Instant getLastSeen() {
+        return lastSeen;
+    }
+
+    @Override
+    public String toString() {
+        return "PinnedStack [endpoint=" + endpoint + ", pinnedCount=" + pinnedCount + ", totalDuration=" + totalDuration
+                + ", maxDuration=" + maxDuration + ", submitFailedCount=" + submitFailedCount + "]";
+    }
+}
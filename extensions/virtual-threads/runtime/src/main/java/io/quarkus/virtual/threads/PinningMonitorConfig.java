@@ -0,0 +1,39 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class PinningMonitorConfig {
+
+    /**
+     * Whether the virtual thread pinning monitor is enabled.
+     * <p>
+     * When enabled, the {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed} JFR events are consumed
+     * in-process and aggregated per stack trace and endpoint. The aggregated data is exposed through metrics (if a metrics
+     * extension is present), the Dev UI and the injectable {@link VirtualThreadPinningMonitor} bean.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The minimal duration a carrier thread must be pinned for the event to be recorded.
+     */
+    @ConfigItem(defaultValue = "20ms")
+    public Duration threshold;
+
+    /**
+     * The maximum number of distinct stack traces tracked by the monitor.
+     * Once reached, events with a new stack trace are accounted in a single overflow entry.
+     */
+    @ConfigItem(defaultValue = "256")
+    public int maxStacks;
+
+    /**
+     * The number of top stack frames used to identify a pinning location.
+     */
+    @ConfigItem(defaultValue = "10")
+    public int stackDepth;
+}
@@ -0,0 +1,45 @@
+package io.quarkus.virtual.threads;
+
+import java.util.function.Supplier;
+
+/**
+ * A subtask forked in a {@link VirtualThreadScope}.
+ *
+ * @param <T> the type of the result
+ * @see VirtualThreadScope#fork(java.util.concurrent.Callable)
+ */
+public interface Subtask<T> extends Supplier<T> {
+
+    enum State {
+        /**
+         * The subtask has not completed yet, or it was cancelled.
+         */
+        UNAVAILABLE,
+        /**
+         * The subtask completed successfully.
+         */
+        SUCCESS,
+        /**
+         * The subtask failed.
+         */
+        FAILED
+    }
+
+    /**
+     * @return the state of the subtask
+     */
+    State state();
+
+    /**
+     * @return the result of the subtask
+     * @throws IllegalStateException if the subtask did not complete successfully
+     */
+    @Override
+    T get();
+
+    /**
+     * @return the exception thrown by the subtask
+     * @throws IllegalStateException if the subtask did not fail
+     */
+    Throwable exception();
+}
@@ -0,0 +1,279 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Consumes the {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed} JFR events in-process and
+ * aggregates them per stack trace and endpoint.
+ * <p>
+ * The number of tracked stacks is bounded, also under concurrent events; once the limit is reached, events with a new
+ * stack trace are accounted in a single overflow entry, on top of the tracked stacks.
+ */
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    static final String OVERFLOW_ENDPOINT = "<other>";
+    static final String UNKNOWN_ENDPOINT = "<unknown>";
+
+    // frames from these packages are never considered as the endpoint triggering the pinning
+    private static final String[] FRAMEWORK_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "io.quarkus.", "io.vertx.",
+            "io.netty.", "io.smallrye.", "org.jboss.", "jakarta." };
+
+    private final int maxStacks;
+    private final int stackDepth;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // the number of stacks in the entries, the overflow entry excluded, plus the slots reserved for a new stack
+    private final AtomicInteger stacks = new AtomicInteger();
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final LongAdder submitFailedCount = new LongAdder();
+    private volatile RecordingStream stream;
+
+    VirtualThreadPinningMonitor(int maxStacks, int stackDepth) {
+        this.maxStacks = maxStacks;
+        this.stackDepth = stackDepth;
+    }
+
+    void start(Duration threshold) {
+        RecordingStream rs = new RecordingStream();
+        try {
+            rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            rs.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+            rs.onEvent(PINNED_EVENT, this::onPinned);
+            rs.onEvent(SUBMIT_FAILED_EVENT, this::onSubmitFailed);
+            rs.startAsync();
+        } catch (RuntimeException e) {
+            rs.close();
+            throw e;
+        }
+        stream = rs;
+        LOGGER.debugf("Virtual thread pinning monitor started with threshold %s", threshold);
+    }
+
+    void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    /**
+     * @return {@code true} if the underlying JFR recording stream is running
+     */
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return the total number of recorded {@code jdk.VirtualThreadPinned} events
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * @return the accumulated time the carrier threads were pinned
+     */
+    public Duration getPinnedDuration() {
+        return Duration.ofNanos(pinnedNanos.sum());
+    }
+
+    /**
+     * @return the total number of recorded {@code jdk.VirtualThreadSubmitFailed} events
+     */
+    public long getSubmitFailedCount() {
+        return submitFailedCount.sum();
+    }
+
+    /**
+     * @return the number of distinct stacks currently tracked
+     */
+    public int getTrackedStacks() {
+        return entries.size();
+    }
+
+    /**
+     * @return a snapshot of the aggregated stacks, sorted by total pinned time in descending order
+     */
+    public List<PinnedStack> getPinnedStacks() {
+        List<PinnedStack> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            result.add(entry.snapshot());
+        }
+        result.sort(Comparator.comparing(PinnedStack::getTotalDuration).reversed()
+                .thenComparing(Comparator.comparingLong(PinnedStack::getSubmitFailedCount).reversed()));
+        return result;
+    }
+
+    /**
+     * Discards all the aggregated data.
+     */
+    public void reset() {
+        for (String key : entries.keySet()) {
+            if (entries.remove(key) != null && !key.equals(OVERFLOW_ENDPOINT)) {
+                stacks.decrementAndGet();
+            }
+        }
+        pinnedCount.reset();
+        pinnedNanos.reset();
+        submitFailedCount.reset();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        recordPinned(event.getStackTrace(), event.getDuration().toNanos());
+    }
+
+    private void onSubmitFailed(RecordedEvent event) {
+        recordSubmitFailed(event.getStackTrace());
+    }
+
+    void recordPinned(RecordedStackTrace stackTrace, long nanos) {
+        recordPinned(frames(stackTrace), nanos);
+    }
+
+    void recordSubmitFailed(RecordedStackTrace stackTrace) {
+        recordSubmitFailed(frames(stackTrace));
+    }
+
+    void recordPinned(List<String> frames, long nanos) {
+        pinnedCount.increment();
+        pinnedNanos.add(nanos);
+        entry(frames).pinned(nanos);
+    }
+
+    void recordSubmitFailed(List<String> frames) {
+        submitFailedCount.increment();
+        entry(frames).submitFailed();
+    }
+
+    private Entry entry(List<String> frames) {
+        String endpoint = endpoint(frames);
+        List<String> top = frames.size() > stackDepth ? List.copyOf(frames.subList(0, stackDepth)) : List.copyOf(frames);
+        String key = endpoint + '\n' + String.join("\n", top);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (!reserveStack()) {
+            return entries.computeIfAbsent(OVERFLOW_ENDPOINT,
+                    k -> new Entry(OVERFLOW_ENDPOINT, Collections.emptyList()));
+        }
+        Entry created = new Entry(endpoint, top);
+        entry = entries.putIfAbsent(key, created);
+        if (entry != null) {
+            // the same stack was tracked concurrently
+            stacks.decrementAndGet();
+            return entry;
+        }
+        return created;
+    }
+
+    private boolean reserveStack() {
+        int current;
+        do {
+            current = stacks.get();
+            if (current >= maxStacks) {
+                return false;
+            }
+        } while (!stacks.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return Collections.emptyList();
+        }
+        List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+        List<String> frames = new ArrayList<>(recordedFrames.size());
+        for (RecordedFrame frame : recordedFrames) {
+            RecordedMethod method = frame.getMethod();
+            if (method == null) {
+                continue;
+            }
+            String className = method.getType() != null ? method.getType().getName() : "<unknown>";
+            int line = frame.getLineNumber();
+            frames.add(line > 0 ? className + "." + method.getName() + ":" + line : className + "." + method.getName());
+        }
+        return frames;
+    }
+
+    /**
+     * The endpoint is the outermost frame that does not belong to the JDK or to the framework, i.e. the application
+     * method invoked by Quarkus on the virtual thread.
+     */
+    static String endpoint(List<String> frames) {
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            String frame = frames.get(i);
+            if (!isFrameworkFrame(frame)) {
+                int idx = frame.lastIndexOf(':');
+                return idx > 0 ? frame.substring(0, idx) : frame;
+            }
+        }
+        return UNKNOWN_ENDPOINT;
+    }
+
+    private static boolean isFrameworkFrame(String frame) {
+        for (String pkg : FRAMEWORK_PACKAGES) {
+            if (frame.startsWith(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+
+        private final String endpoint;
+        private final List<String> frames;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder submitFailed = new LongAdder();
+        private volatile long lastSeen;
+
+        Entry(String endpoint, List<String> frames) {
+            this.endpoint = endpoint;
+            this.frames = frames;
+        }
+
+        void pinned(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeen = System.currentTimeMillis();
+        }
+
+        void submitFailed() {
+            submitFailed.increment();
+            lastSeen = System.currentTimeMillis();
+        }
+
+        PinnedStack snapshot() {
+            return new PinnedStack(endpoint, frames, count.sum(), Duration.ofNanos(totalNanos.sum()),
+                    Duration.ofNanos(maxNanos.get()), submitFailed.sum(), Instant.ofEpochMilli(lastSeen));
+        }
+    }
+}
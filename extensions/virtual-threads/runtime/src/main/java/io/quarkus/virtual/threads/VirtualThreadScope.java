@@ -0,0 +1,344 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * A scope used to fan out blocking calls to virtual threads and to join their results.
+ * <p>
+ * The scope is opened by the caller thread (the owner), typically from a method annotated with {@code @RunOnVirtualThread}.
+ * Each forked subtask runs on a new virtual thread and:
+ * <ul>
+ * <li>runs on a new Vert.x duplicated context holding a copy of the caller's context locals, so that the OpenTelemetry
+ * context and the other context-local values are visible but not shared between siblings,</li>
+ * <li>sees the CDI request context of the owner, if it was active when the scope was opened.</li>
+ * </ul>
+ * If a subtask fails, the remaining subtasks are cancelled and {@link #join()} throws an {@link ExecutionException}.
+ * If the deadline of the scope expires before all the subtasks complete, the remaining subtasks are cancelled and
+ * {@link #join()} throws a {@link TimeoutException}. Closing the scope cancels all the subtasks which are still running.
+ * Subtasks are cancelled by interrupting their thread; {@link #join()} and {@link #close()} always wait for the
+ * cancelled subtasks to terminate, so that no subtask outlives the scope.
+ *
+ * <pre>
+ * try (VirtualThreadScope scope = VirtualThreadScope.open(Duration.ofSeconds(2))) {
+ *     Subtask&lt;User&gt; user = scope.fork(() -&gt; users.find(id));
+ *     Subtask&lt;List&lt;Order&gt;&gt; orders = scope.fork(() -&gt; orders.findByUser(id));
+ *     scope.join();
+ *     return new Dashboard(user.get(), orders.get());
+ * }
+ * </pre>
+ *
+ * A scope is not thread-safe; it must only be used by its owner thread.
+ */
+public final class VirtualThreadScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final long deadline;
+    private final Thread owner;
+    private final ContextInternal parentContext;
+    private final ContextState requestContextState;
+    private final List<SubtaskImpl<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> failed = new CompletableFuture<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private boolean closed;
+
+    /**
+     * Opens a scope without deadline, forking subtasks on the Quarkus virtual threads executor.
+     *
+     * @return a new scope
+     */
+    public static VirtualThreadScope open() {
+        return new VirtualThreadScope(VirtualThreadsRecorder.getCurrent(), null);
+    }
+
+    /**
+     * Opens a scope forking subtasks on the Quarkus virtual threads executor.
+     *
+     * @param timeout the maximum duration to wait for the subtasks in {@link #join()}
+     * @return a new scope
+     */
+    public static VirtualThreadScope open(Duration timeout) {
+        return new VirtualThreadScope(VirtualThreadsRecorder.getCurrent(), Objects.requireNonNull(timeout));
+    }
+
+    VirtualThreadScope(ExecutorService executor, Duration timeout) {
+        this.executor = executor;
+        this.deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : Long.MAX_VALUE;
+        this.owner = Thread.currentThread();
+        Context context = Vertx.currentContext();
+        this.parentContext = context instanceof ContextInternal ? (ContextInternal) context : null;
+        ArcContainer container = Arc.container();
+        this.requestContextState = container != null ? container.requestContext().getStateIfActive() : null;
+    }
+
+    /**
+     * Forks a new subtask.
+     *
+     * @param task the task to execute
+     * @return the subtask
+     * @throws IllegalStateException if the scope was joined or closed, or if not called by the owner thread
+     */
+    public <T> Subtask<T> fork(Callable<T> task) {
+        Objects.requireNonNull(task);
+        checkOwner();
+        if (closed) {
+            throw new IllegalStateException("The scope is closed");
+        }
+        SubtaskImpl<T> subtask = new SubtaskImpl<>(task, newChildContext());
+        subtasks.add(subtask);
+        if (failure.get() != null) {
+            // a sibling already failed
+            subtask.skip();
+            return subtask;
+        }
+        try {
+            executor.execute(subtask);
+        } catch (RuntimeException e) {
+            subtask.skip();
+            throw e;
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits until all the subtasks complete, a subtask fails or the deadline expires.
+     *
+     * @throws ExecutionException if a subtask failed; the cause is the exception thrown by the first failing subtask
+     * @throws TimeoutException if the deadline expired before all the subtasks completed
+     * @throws InterruptedException if the owner thread was interrupted while waiting
+     */
+    public void join() throws InterruptedException, ExecutionException, TimeoutException {
+        checkOwner();
+        CompletableFuture<?>[] results = new CompletableFuture<?>[subtasks.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = subtasks.get(i).result;
+        }
+        CompletableFuture<Object> completion = CompletableFuture.anyOf(CompletableFuture.allOf(results), failed);
+        try {
+            if (deadline == Long.MAX_VALUE) {
+                completion.get();
+            } else {
+                completion.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException | CancellationException ignored) {
+            // handled below
+        } catch (TimeoutException e) {
+            cancelAll();
+            awaitTermination();
+            throw new TimeoutException("Subtasks did not complete before the deadline of the scope");
+        } catch (InterruptedException e) {
+            cancelAll();
+            awaitTermination();
+            throw e;
+        }
+        // the siblings of a failed subtask were cancelled, the other subtasks are completing
+        awaitTermination();
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new ExecutionException(t);
+        }
+    }
+
+    /**
+     * Cancels the subtasks which are still running and waits for them to terminate. Further calls to
+     * {@link #fork(Callable)} fail.
+     */
+    @Override
+    public void close() {
+        checkOwner();
+        closed = true;
+        cancelAll();
+        awaitTermination();
+    }
+
+    private void fail(Throwable t) {
+        if (failure.compareAndSet(null, t)) {
+            cancelAll();
+            failed.complete(null);
+        }
+    }
+
+    private void cancelAll() {
+        // may be called concurrently by a failing subtask while the owner forks
+        for (SubtaskImpl<?> subtask : subtasks) {
+            subtask.cancel();
+        }
+    }
+
+    /**
+     * Waits for all the subtasks to terminate, even if the owner is interrupted: the interrupt status is restored.
+     */
+    private void awaitTermination() {
+        boolean interrupted = false;
+        for (SubtaskImpl<?> subtask : subtasks) {
+            while (true) {
+                try {
+                    subtask.terminated.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("The scope can only be used by the thread that opened it: " + owner);
+        }
+    }
+
+    private ContextInternal newChildContext() {
+        if (parentContext == null) {
+            return null;
+        }
+        ContextInternal child = parentContext.unwrap().duplicate();
+        if (parentContext.isDuplicate()) {
+            child.localContextData().putAll(parentContext.localContextData());
+        }
+        return child;
+    }
+
+    private final class SubtaskImpl<T> implements Subtask<T>, Runnable {
+
+        private final Callable<T> task;
+        private final ContextInternal context;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        // not synchronized, to avoid pinning the virtual threads
+        private final ReentrantLock runnerLock = new ReentrantLock();
+        // the thread running the task, guarded by runnerLock
+        private Thread runner;
+
+        SubtaskImpl(Callable<T> task, ContextInternal context) {
+            this.task = task;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            setRunner(Thread.currentThread());
+            try {
+                // checked after publishing the runner: either this sees the cancellation, or cancel() sees the runner
+                if (!result.isDone()) {
+                    runTask();
+                }
+            } finally {
+                setRunner(null);
+                // no cancellation can interrupt this thread anymore, clear the interrupt it may have sent
+                Thread.interrupted();
+                terminated.countDown();
+            }
+        }
+
+        private void setRunner(Thread thread) {
+            runnerLock.lock();
+            try {
+                runner = thread;
+            } finally {
+                runnerLock.unlock();
+            }
+        }
+
+        private void runTask() {
+            ContextInternal previous = context != null ? context.beginDispatch() : null;
+            ManagedContext requestContext = null;
+            if (requestContextState != null) {
+                ManagedContext rc = Arc.container().requestContext();
+                if (!rc.isActive()) {
+                    rc.activate(requestContextState);
+                    requestContext = rc;
+                }
+            }
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                if (result.completeExceptionally(t)) {
+                    fail(t);
+                }
+            } finally {
+                if (requestContext != null) {
+                    // the owner is responsible for the termination of the request context
+                    requestContext.deactivate();
+                }
+                if (context != null) {
+                    context.endDispatch(previous);
+                }
+            }
+        }
+
+        void cancel() {
+            if (result.cancel(false)) {
+                runnerLock.lock();
+                try {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                } finally {
+                    runnerLock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Cancels a subtask which is never executed.
+         */
+        void skip() {
+            result.cancel(false);
+            terminated.countDown();
+        }
+
+        @Override
+        public State state() {
+            if (!result.isDone() || result.isCancelled()) {
+                return State.UNAVAILABLE;
+            }
+            return result.isCompletedExceptionally() ? State.FAILED : State.SUCCESS;
+        }
+
+        @Override
+        public T get() {
+            if (state() != State.SUCCESS) {
+                throw new IllegalStateException("The subtask did not complete successfully: " + state());
+            }
+            return result.join();
+        }
+
+        @Override
+        public Throwable exception() {
+            if (state() != State.FAILED) {
+                throw new IllegalStateException("The subtask did not fail: " + state());
+            }
+            try {
+                result.join();
+            } catch (CompletionException e) {
+                return e.getCause();
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -39,4 +39,10 @@ public class VirtualThreadsConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
+
+    /**
+     * The virtual thread pinning monitor configuration.
+     */
+    @ConfigItem
+    public PinningMonitorConfig pinningMonitor;
 }
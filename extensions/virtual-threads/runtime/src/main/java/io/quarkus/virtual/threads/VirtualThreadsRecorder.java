@@ -7,13 +7,16 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class VirtualThreadsRecorder {
@@ -88,6 +91,47 @@ public Supplier<ExecutorService> getCurrentSupplier() {
         return VIRTUAL_THREADS_EXECUTOR_SUPPLIER;
     }
 
+    public RuntimeValue<VirtualThreadPinningMonitor> startPinningMonitor(VirtualThreadsConfig c,
+            ShutdownContext shutdownContext) {
+        PinningMonitorConfig monitorConfig = c.pinningMonitor;
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(monitorConfig.maxStacks,
+                monitorConfig.stackDepth);
+        try {
+            monitor.start(monitorConfig.threshold);
+            shutdownContext.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    monitor.stop();
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Unable to start the virtual thread pinning monitor, pinning events will not be reported", e);
+        }
+        return new RuntimeValue<>(monitor);
+    }
+
+    public Consumer<MetricsFactory> registerPinningMetrics(RuntimeValue<VirtualThreadPinningMonitor> value) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                VirtualThreadPinningMonitor monitor = value.getValue();
+                metricsFactory.builder("virtual-threads.pinned")
+                        .description("Number of times a carrier thread was pinned by a virtual thread")
+                        .buildCounter(monitor, VirtualThreadPinningMonitor::getPinnedCount);
+                metricsFactory.builder("virtual-threads.pinned.time")
+                        .description("Accumulated time carrier threads were pinned by virtual threads")
+                        .unit("nanoseconds")
+                        .buildCounter(monitor, m -> m.getPinnedDuration().toNanos());
+                metricsFactory.builder("virtual-threads.submit.failed")
+                        .description("Number of times a virtual thread could not be scheduled on a carrier thread")
+                        .buildCounter(monitor, VirtualThreadPinningMonitor::getSubmitFailedCount);
+                metricsFactory.builder("virtual-threads.pinned.stacks")
+                        .description("Number of distinct stacks tracked by the pinning monitor")
+                        .buildGauge(monitor, VirtualThreadPinningMonitor::getTrackedStacks);
+            }
+        };
+    }
+
     public static ExecutorService getCurrent() {
         ExecutorService executor = current;
         if (executor != null) {
@@ -0,0 +1,49 @@
+package io.quarkus.virtual.threads.devui;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.virtual.threads.PinnedStack;
+import io.quarkus.virtual.threads.VirtualThreadPinningMonitor;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@ApplicationScoped
+public class VirtualThreadsJsonRPCService {
+
+    @Inject
+    VirtualThreadPinningMonitor monitor;
+
+    @NonBlocking
+    public JsonObject getSummary() {
+        return new JsonObject()
+                .put("running", monitor.isRunning())
+                .put("pinnedCount", monitor.getPinnedCount())
+                .put("pinnedMillis", monitor.getPinnedDuration().toMillis())
+                .put("submitFailedCount", monitor.getSubmitFailedCount())
+                .put("trackedStacks", monitor.getTrackedStacks());
+    }
+
+    @NonBlocking
+    public JsonArray getPinnedStacks() {
+        JsonArray array = new JsonArray();
+        for (PinnedStack stack : monitor.getPinnedStacks()) {
+            array.add(new JsonObject()
+                    .put("endpoint", stack.getEndpoint())
+                    .put("frames", new JsonArray(stack.getFrames()))
+                    .put("pinnedCount", stack.getPinnedCount())
+                    .put("totalMillis", stack.getTotalDuration().toMillis())
+                    .put("maxMillis", stack.getMaxDuration().toMillis())
+                    .put("submitFailedCount", stack.getSubmitFailedCount())
+                    .put("lastSeen", stack.getLastSeen().toString()));
+        }
+        return array;
+    }
+
+    @NonBlocking
+    public JsonArray reset() {
+        monitor.reset();
+        return getPinnedStacks();
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> STACK = List.of(
+            "java.lang.Object.wait0",
+            "org.acme.Inventory.reserve:42",
+            "org.acme.InventoryResource.reserve:17",
+            "io.quarkus.resteasy.reactive.server.runtime.QuarkusResteasyReactiveRequestContext.invokeHandler:141",
+            "java.lang.VirtualThread.run:309");
+
+    @Test
+    void aggregatesPerStackAndEndpoint() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(10, 8);
+        monitor.recordPinned(STACK, Duration.ofMillis(30).toNanos());
+        monitor.recordPinned(STACK, Duration.ofMillis(50).toNanos());
+        monitor.recordSubmitFailed(STACK);
+
+        assertThat(monitor.getPinnedCount()).isEqualTo(2);
+        assertThat(monitor.getPinnedDuration()).isEqualTo(Duration.ofMillis(80));
+        assertThat(monitor.getSubmitFailedCount()).isEqualTo(1);
+
+        List<PinnedStack> stacks = monitor.getPinnedStacks();
+        assertThat(stacks).hasSize(1);
+        PinnedStack stack = stacks.get(0);
+        assertThat(stack.getEndpoint()).isEqualTo("org.acme.InventoryResource.reserve");
+        assertThat(stack.getFrames()).isEqualTo(STACK);
+        assertThat(stack.getPinnedCount()).isEqualTo(2);
+        assertThat(stack.getMaxDuration()).isEqualTo(Duration.ofMillis(50));
+        assertThat(stack.getSubmitFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void stackDepthIsLimited() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(10, 2);
+        monitor.recordPinned(STACK, 1);
+        assertThat(monitor.getPinnedStacks().get(0).getFrames()).containsExactly(STACK.get(0), STACK.get(1));
+        // the endpoint is computed from the full stack
+        assertThat(monitor.getPinnedStacks().get(0).getEndpoint()).isEqualTo("org.acme.InventoryResource.reserve");
+    }
+
+    @Test
+    void trackedStacksAreBounded() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(2, 8);
+        for (int i = 0; i < 5; i++) {
+            monitor.recordPinned(List.of("org.acme.Service.method" + i), 1);
+        }
+        assertThat(monitor.getTrackedStacks()).isEqualTo(3);
+        assertThat(monitor.getPinnedCount()).isEqualTo(5);
+        assertThat(monitor.getPinnedStacks())
+                .filteredOn(s -> s.getEndpoint().equals(VirtualThreadPinningMonitor.OVERFLOW_ENDPOINT))
+                .singleElement().extracting(PinnedStack::getPinnedCount).isEqualTo(3L);
+
+        monitor.reset();
+        assertThat(monitor.getTrackedStacks()).isZero();
+        assertThat(monitor.getPinnedCount()).isZero();
+    }
+
+    @Test
+    void trackedStacksAreBoundedUnderConcurrentEvents() throws Exception {
+        int threads = 8;
+        int stacksPerThread = 500;
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(16, 8);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < stacksPerThread; i++) {
+                        // every thread also records the stacks of the others
+                        monitor.recordPinned(List.of("org.acme.Service.method" + (i + thread) % stacksPerThread), 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the tracked stacks and the overflow entry
+        assertThat(monitor.getTrackedStacks()).isEqualTo(17);
+        assertThat(monitor.getPinnedCount()).isEqualTo(threads * stacksPerThread);
+        assertThat(monitor.getPinnedStacks().stream().mapToLong(PinnedStack::getPinnedCount).sum())
+                .isEqualTo(threads * stacksPerThread);
+
+        // the slots are released by the reset
+        monitor.reset();
+        for (int i = 0; i < 16; i++) {
+            monitor.recordPinned(List.of("org.acme.Other.method" + i), 1);
+        }
+        assertThat(monitor.getTrackedStacks()).isEqualTo(16);
+    }
+
+    @Test
+    void unknownEndpoint() {
+        assertThat(VirtualThreadPinningMonitor.endpoint(List.of("java.lang.Object.wait0", "jdk.internal.misc.Unsafe.park")))
+                .isEqualTo(VirtualThreadPinningMonitor.UNKNOWN_ENDPOINT);
+    }
+}
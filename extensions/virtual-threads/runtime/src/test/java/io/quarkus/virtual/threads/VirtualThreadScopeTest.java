@@ -0,0 +1,193 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+class VirtualThreadScopeTest {
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void joinAllSubtasks() throws Exception {
+        try (VirtualThreadScope scope = new VirtualThreadScope(executor, Duration.ofSeconds(5))) {
+            Subtask<String> hello = scope.fork(() -> "hello");
+            Subtask<Integer> answer = scope.fork(() -> {
+                Thread.sleep(50);
+                return 42;
+            });
+            scope.join();
+            assertThat(hello.state()).isEqualTo(Subtask.State.SUCCESS);
+            assertThat(hello.get()).isEqualTo("hello");
+            assertThat(answer.get()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    void failureCancelsSiblings() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (VirtualThreadScope scope = new VirtualThreadScope(executor, null)) {
+            Subtask<String> slow = scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Subtask<String> failing = scope.fork(() -> {
+                throw new IllegalArgumentException("boom");
+            });
+            assertThatThrownBy(scope::join).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(failing.state()).isEqualTo(Subtask.State.FAILED);
+            assertThat(failing.exception()).hasMessage("boom");
+            assertThat(slow.state()).isEqualTo(Subtask.State.UNAVAILABLE);
+            assertThatThrownBy(slow::get).isInstanceOf(IllegalStateException.class);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void deadlineCancelsSubtasks() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (VirtualThreadScope scope = new VirtualThreadScope(executor, Duration.ofMillis(100))) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(scope::join).isInstanceOf(TimeoutException.class);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void closeWaitsForCancelledSubtasks() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean();
+        VirtualThreadScope scope = new VirtualThreadScope(executor, null);
+        Subtask<String> slow = scope.fork(() -> {
+            running.set(true);
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                // keep running for a while after the cancellation
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                while (System.nanoTime() < end) {
+                    Thread.onSpinWait();
+                }
+            } finally {
+                running.set(false);
+            }
+            return "slow";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        scope.close();
+        // the subtask terminated before close() returned
+        assertThat(running).isFalse();
+        assertThat(slow.state()).isEqualTo(Subtask.State.UNAVAILABLE);
+    }
+
+    @Test
+    void failureWaitsForCancelledSiblings() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean();
+        try (VirtualThreadScope scope = new VirtualThreadScope(executor, null)) {
+            scope.fork(() -> {
+                running.set(true);
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.sleep(200);
+                } finally {
+                    running.set(false);
+                }
+                return "slow";
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            scope.fork(() -> {
+                throw new IllegalArgumentException("boom");
+            });
+            assertThatThrownBy(scope::join).isInstanceOf(ExecutionException.class);
+            assertThat(running).isFalse();
+        }
+    }
+
+    @Test
+    void subtasksSeeTheVertxContext() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            ContextInternal parentInternal = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+            Context parent = parentInternal;
+            parent.putLocal("key", "parent");
+            ContextInternal previous = parentInternal.beginDispatch();
+            try (VirtualThreadScope scope = new VirtualThreadScope(executor, Duration.ofSeconds(5))) {
+                Subtask<Context> first = scope.fork(() -> {
+                    Context context = Vertx.currentContext();
+                    // visible, but not shared with the siblings or the owner
+                    assertThat(context.<String> getLocal("key")).isEqualTo("parent");
+                    context.putLocal("key", "first");
+                    return context;
+                });
+                Subtask<Context> second = scope.fork(Vertx::currentContext);
+                scope.join();
+                assertThat(((ContextInternal) first.get()).isDuplicate()).isTrue();
+                assertThat(first.get()).isNotSameAs(parent).isNotSameAs(second.get());
+                assertThat(first.get().<String> getLocal("key")).isEqualTo("first");
+                assertThat(second.get().<String> getLocal("key")).isEqualTo("parent");
+                assertThat(parent.<String> getLocal("key")).isEqualTo("parent");
+            } finally {
+                parentInternal.endDispatch(previous);
+            }
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void forkAfterClose() {
+        VirtualThreadScope scope = new VirtualThreadScope(executor, null);
+        scope.close();
+        assertThatThrownBy(() -> scope.fork(() -> "late")).isInstanceOf(IllegalStateException.class);
+    }
+}
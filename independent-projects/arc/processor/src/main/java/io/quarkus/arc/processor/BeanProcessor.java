@@ -18,6 +18,7 @@
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -85,7 +86,7 @@ public static Builder builder() {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
-    private final Predicate<BeanDeployment> optimizeContexts;
+    private final BiPredicate<BeanDeployment, DotName> optimizeContexts;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -196,7 +197,16 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
-        boolean optimizeContextsValue = optimizeContexts != null ? optimizeContexts.test(beanDeployment) : false;
+        // The contexts are optimized per scope, e.g. the request context can be optimized even if the application context
+        // is not because there are too many application scoped beans
+        List<DotName> optimizedScopes = new ArrayList<>(2);
+        if (optimizeContexts != null) {
+            for (BuiltinScope scope : List.of(BuiltinScope.APPLICATION, BuiltinScope.REQUEST)) {
+                if (optimizeContexts.test(beanDeployment, scope.getName())) {
+                    optimizedScopes.add(scope.getName());
+                }
+            }
+        }
 
         // These maps are precomputed and then used in the ComponentsProviderGenerator which is generated first
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
@@ -249,9 +259,8 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
                 refReg, beanDeployment, scopeToGeneratedName);
-        if (optimizeContextsValue) {
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
+        for (DotName scope : optimizedScopes) {
+            contextInstancesGenerator.precomputeGeneratedName(scope);
         }
 
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
@@ -411,15 +420,16 @@ public Collection<Resource> call() throws Exception {
                 }));
             }
 
-            if (optimizeContextsValue) {
+            if (!optimizedScopes.isEmpty()) {
                 // Generate _ContextInstances
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        for (DotName scope : optimizedScopes) {
+                            resources.addAll(contextInstancesGenerator.generate(scope));
+                        }
                         return resources;
                     }
                 }));
@@ -512,10 +522,9 @@ public Collection<Resource> call() throws Exception {
                             observerToGeneratedName,
                             scopeToGeneratedName));
 
-            if (optimizeContextsValue) {
-                // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+            // Generate _ContextInstances
+            for (DotName scope : optimizedScopes) {
+                resources.addAll(contextInstancesGenerator.generate(scope));
             }
         }
 
@@ -628,7 +637,7 @@ public static class Builder {
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
         boolean strictCompatibility;
-        Predicate<BeanDeployment> optimizeContexts;
+        BiPredicate<BeanDeployment, DotName> optimizeContexts;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -929,6 +938,22 @@ public boolean test(BeanDeployment t) {
          * @return self
          */
         public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
+            return setOptimizeContexts(new BiPredicate<BeanDeployment, DotName>() {
+                @Override
+                public boolean test(BeanDeployment deployment, DotName scope) {
+                    return fun.test(deployment);
+                }
+            });
+        }
+
+        /**
+         * The function is tested for each scope with a context that can be optimized, i.e.
+         * {@link jakarta.enterprise.context.ApplicationScoped} and {@link jakarta.enterprise.context.RequestScoped}.
+         *
+         * @param fun
+         * @return self
+         */
+        public Builder setOptimizeContexts(BiPredicate<BeanDeployment, DotName> fun) {
             this.optimizeContexts = fun;
             return this;
         }
@@ -1039,6 +1039,9 @@ private static final class Resolvable {
 
         final Annotation[] qualifiers;
 
+        // Resolvables are used as cache keys, computing the hash of the qualifiers is not cheap
+        private final int hashCode;
+
         Resolvable(Type requiredType, Annotation[] qualifiers) {
             // if the type is Event, Instance or InjectionPoint (the built-in types), the resolution simplifies
             // type to raw type and ignores qualifiers
@@ -1051,15 +1054,16 @@ private static final class Resolvable {
                 this.requiredType = requiredType;
                 this.qualifiers = qualifiers;
             }
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + Arrays.hashCode(this.qualifiers);
+            result = prime * result + (this.requiredType == null ? 0 : this.requiredType.hashCode());
+            this.hashCode = result;
         }
 
         @Override
         public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + Arrays.hashCode(qualifiers);
-            result = prime * result + (requiredType == null ? 0 : requiredType.hashCode());
-            return result;
+            return hashCode;
         }
 
         @Override
@@ -1074,6 +1078,9 @@ public boolean equals(Object obj) {
                 return false;
             }
             Resolvable other = (Resolvable) obj;
+            if (hashCode != other.hashCode) {
+                return false;
+            }
             if (requiredType == null) {
                 if (other.requiredType != null) {
                     return false;
@@ -36,8 +36,13 @@ public Set<ContextInstanceHandle<?>> getAllPresent() {
 
     @Override
     public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        if (instances.isEmpty()) {
+            // Typically a request that did not use any request scoped bean
+            return;
+        }
         if (action != null) {
-            instances.getPresentValues().forEach(action);
+            // No need to collect the present values in a new set first
+            instances.forEachExistingValue(action);
         }
         instances.clear();
     }
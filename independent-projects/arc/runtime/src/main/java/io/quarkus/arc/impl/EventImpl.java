@@ -247,6 +247,9 @@ private void handleExceptions(ObserverExceptionHandler handler) {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // Observers partitioned once so that no predicate is needed when none of the observers is transactional
+        private final ObserverMethod<? super T>[] syncObserverMethods;
+        private final ObserverMethod<? super T>[] asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -259,17 +262,50 @@ private void handleExceptions(ObserverExceptionHandler handler) {
                 boolean activateRequestContext) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            this.syncObserverMethods = observerMethods(observerMethods, false);
+            this.asyncObserverMethods = observerMethods(observerMethods, true);
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
         }
 
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] observerMethods(List<ObserverMethod<? super T>> observerMethods,
+                boolean async) {
+            // The priority order is kept
+            return observerMethods.stream().filter(om -> om.isAsync() == async).toArray(ObserverMethod[]::new);
+        }
+
         void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
+            ObserverMethod<? super T>[] observers = async ? asyncObserverMethods : syncObserverMethods;
+            if (observers.length == 0) {
+                // No need to activate the request context
+                return;
+            }
+            if (async || !hasTxObservers) {
+                // Fast path - notify the observers in the priority order, no filtering is needed
+                if (activateRequestContext) {
+                    ManagedContext requestContext = Arc.container().requestContext();
+                    if (requestContext.isActive()) {
+                        notifyObservers(event, exceptionHandler, observers);
+                    } else {
+                        try {
+                            requestContext.activate();
+                            notifyObservers(event, exceptionHandler, observers);
+                        } finally {
+                            requestContext.terminate();
+                        }
+                    }
+                } else {
+                    notifyObservers(event, exceptionHandler, observers);
+                }
+                return;
+            }
             if (!isEmpty()) {
 
                 Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
@@ -356,6 +392,19 @@ private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
             }
         }
 
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                ObserverMethod<? super T>[] observers) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                try {
+                    observerMethod.notify(eventContext);
+                } catch (Throwable t) {
+                    exceptionHandler.handle(t, observerMethod, eventContext);
+                }
+            }
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
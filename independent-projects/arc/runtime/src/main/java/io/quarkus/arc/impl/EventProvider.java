@@ -20,6 +20,10 @@
     private final Set<Annotation> eventQualifiers;
     private final InjectionPoint injectionPoint;
 
+    // The event is stateless apart from the cached notifiers, so a single instance is shared by all the beans injected
+    // with this injection point; notifiers are not resolved again for each new instance of a dependent or request scoped bean
+    private volatile EventImpl<T> event;
+
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
@@ -28,7 +32,13 @@ public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionP
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return new EventImpl<>(eventType, eventQualifiers, injectionPoint);
+        EventImpl<T> event = this.event;
+        if (event == null) {
+            // It's not a problem if multiple threads create the event concurrently
+            event = new EventImpl<>(eventType, eventQualifiers, injectionPoint);
+            this.event = event;
+        }
+        return event;
     }
 
 }
@@ -42,7 +42,7 @@
 
     public static Instance<Object> forSynthesis(CreationalContextImpl<?> creationalContext, boolean allowInjectionPointLookup) {
         InstanceImpl<Object> result = new InstanceImpl<>(creationalContext, Object.class, Collections.emptySet(),
-                null, null, Collections.emptySet(), null, -1, false, false);
+                null, null, Collections.emptySet(), null, -1, false, false, null);
         if (allowInjectionPointLookup) {
             return result;
         }
@@ -121,20 +121,32 @@ public T get() {
 
     public static <T> InstanceImpl<T> forGlobalEntrypoint(Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(new CreationalContextImpl<>(null), requiredType, requiredQualifiers,
-                null, null, Collections.emptySet(), null, -1, false, true);
+                null, null, Collections.emptySet(), null, -1, false, true, null);
     }
 
     static <T> InstanceImpl<T> forInjection(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
             boolean isTransient) {
+        return forInjection(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, isTransient,
+                null);
+    }
+
+    static <T> InstanceImpl<T> forInjection(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            boolean isTransient, InstanceResolution resolution) {
         return new InstanceImpl<>(creationalContext, getRequiredType(type), qualifiers,
-                type, targetBean, annotations, javaMember, position, isTransient, true);
+                type, targetBean, annotations, javaMember, position, isTransient, true, resolution);
     }
 
-    private static <T> InstanceImpl<T> child(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
+    static InstanceResolution resolutionForInjection(Type type, Set<Annotation> qualifiers) {
+        return new InstanceResolution(getRequiredType(type), qualifiers);
+    }
+
+    private static <T> InstanceImpl<T> child(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers,
+            InstanceResolution resolution) {
         return new InstanceImpl<>(parent.creationalContext, requiredType, requiredQualifiers, parent.injectionPointType,
                 parent.targetBean, parent.annotations, parent.javaMember, parent.position, parent.isTransient,
-                parent.resetCurrentInjectionPoint);
+                parent.resetCurrentInjectionPoint, resolution);
     }
 
     private final CreationalContextImpl<?> creationalContext;
@@ -155,16 +167,22 @@ private static <T> InstanceImpl<T> child(InstanceImpl<?> parent, Type requiredTy
 
     private final LazyValue<T> cachedGetResult;
 
+    // Shared by all instances created for the same injection point; null if not created for an injection point
+    private final InstanceResolution resolution;
+
     private InstanceImpl(CreationalContextImpl<?> creationalContext, Type requiredType, Set<Annotation> requiredQualifiers,
             Type injectionPointType, InjectableBean<?> targetBean, Set<Annotation> annotations, Member javaMember,
-            int position, boolean isTransient, boolean resetCurrentInjectionPoint) {
+            int position, boolean isTransient, boolean resetCurrentInjectionPoint, InstanceResolution resolution) {
         this.creationalContext = creationalContext;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
+        this.resolution = resolution;
 
         if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
+        } else if (resolution != null) {
+            this.resolvedBeans = resolution.beans();
         } else {
             this.resolvedBeans = resolve();
         }
@@ -192,23 +210,30 @@ public T get() {
 
     @Override
     public InjectableInstance<T> select(Annotation... qualifiers) {
+        if (resolution != null && qualifiers.length == 0) {
+            return InstanceImpl.child(this, requiredType, requiredQualifiers, resolution);
+        }
         Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
         Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, requiredType, newQualifiers);
+        return InstanceImpl.child(this, requiredType, newQualifiers, null);
     }
 
     @Override
     public <U extends T> InjectableInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
+        if (resolution != null && qualifiers.length == 0) {
+            // The beans resolved for the subtype are reused by all instances created for the injection point
+            return InstanceImpl.child(this, subtype, requiredQualifiers, resolution.subtype(subtype));
+        }
         Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
         Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, subtype, newQualifiers);
+        return InstanceImpl.child(this, subtype, newQualifiers, null);
     }
 
     @Override
     public <U extends T> InjectableInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
         Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, subtype.getType(), newQualifiers);
+        return InstanceImpl.child(this, subtype.getType(), newQualifiers, null);
     }
 
     @Override
@@ -24,6 +24,7 @@
     private final Member javaMember;
     private final int position;
     private final boolean isTransient;
+    private final InstanceResolution resolution;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position, boolean isTransient) {
@@ -34,6 +35,7 @@ public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?>
         this.javaMember = javaMember;
         this.position = position;
         this.isTransient = isTransient;
+        this.resolution = InstanceImpl.resolutionForInjection(type, qualifiers);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -41,7 +43,7 @@ public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?>
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = InstanceImpl.forInjection(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position, isTransient);
+                annotations, javaMember, position, isTransient, resolution);
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
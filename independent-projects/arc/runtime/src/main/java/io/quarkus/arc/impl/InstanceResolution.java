@@ -0,0 +1,69 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.Instance;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * The beans resolved for the required type and qualifiers of an {@link Instance} injection point.
+ * <p>
+ * The required type and qualifiers of an injection point are generated at build time and never change. Therefore, the
+ * beans are resolved once per injection point instead of being looked up in the container cache for each
+ * {@link Instance} created for the injection point. The same applies to the subtypes selected with
+ * {@link Instance#select(Class, Annotation...)} without additional qualifiers, which are kept in a map keyed by class.
+ */
+final class InstanceResolution {
+
+    private final Type requiredType;
+    private final Annotation[] requiredQualifiers;
+    private final ConcurrentMap<Class<?>, InstanceResolution> subtypes;
+    private final Function<Class<?>, InstanceResolution> subtypeFunction;
+
+    // Sorted by priority, suppressed beans included
+    private volatile List<InjectableBean<?>> beans;
+
+    InstanceResolution(Type requiredType, Set<Annotation> requiredQualifiers) {
+        this.requiredType = requiredType;
+        this.requiredQualifiers = requiredQualifiers.toArray(Instances.EMPTY_ANNOTATION_ARRAY);
+        this.subtypes = new ConcurrentHashMap<>();
+        this.subtypeFunction = new Function<>() {
+            @Override
+            public InstanceResolution apply(Class<?> subtype) {
+                return new InstanceResolution(subtype, requiredQualifiers);
+            }
+        };
+    }
+
+    /**
+     *
+     * @return the resolved beans that are not suppressed, sorted by priority
+     */
+    List<InjectableBean<?>> beans() {
+        List<InjectableBean<?>> sorted = beans;
+        if (sorted == null) {
+            // The resolution is idempotent so it's not a problem if multiple threads resolve the beans concurrently
+            sorted = Instances.resolveSortedBeans(requiredType, requiredQualifiers);
+            beans = sorted;
+        }
+        return Instances.withoutSuppressed(sorted);
+    }
+
+    /**
+     *
+     * @param subtype
+     * @return the resolution for the given subtype and the required qualifiers of this resolution
+     */
+    InstanceResolution subtype(Class<?> subtype) {
+        InstanceResolution resolution = subtypes.get(subtype);
+        return resolution != null ? resolution : subtypes.computeIfAbsent(subtype, subtypeFunction);
+    }
+
+}
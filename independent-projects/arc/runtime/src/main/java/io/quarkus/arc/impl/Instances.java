@@ -37,16 +37,37 @@ public static List<InjectableBean<?>> resolveBeans(Type requiredType, Set<Annota
     }
 
     public static List<InjectableBean<?>> resolveBeans(Type requiredType, Annotation... requiredQualifiers) {
+        return withoutSuppressed(resolveSortedBeans(requiredType, requiredQualifiers));
+    }
+
+    /**
+     * The returned list includes the suppressed beans because a bean can be suppressed or not depending on the runtime
+     * configuration.
+     *
+     * @return the resolved beans sorted by priority
+     */
+    static List<InjectableBean<?>> resolveSortedBeans(Type requiredType, Annotation... requiredQualifiers) {
         Set<InjectableBean<?>> resolvedBeans = ArcContainerImpl.instance()
                 .getResolvedBeans(requiredType, requiredQualifiers);
-        List<InjectableBean<?>> nonSuppressed = new ArrayList<>(resolvedBeans.size());
-        for (InjectableBean<?> injectableBean : resolvedBeans) {
-            if (!injectableBean.isSuppressed()) {
-                nonSuppressed.add(injectableBean);
+        List<InjectableBean<?>> sorted = new ArrayList<>(resolvedBeans);
+        sorted.sort(PRIORITY_COMPARATOR);
+        return List.copyOf(sorted);
+    }
+
+    static List<InjectableBean<?>> withoutSuppressed(List<InjectableBean<?>> beans) {
+        for (int i = 0; i < beans.size(); i++) {
+            if (beans.get(i).isSuppressed()) {
+                List<InjectableBean<?>> nonSuppressed = new ArrayList<>(beans.size() - 1);
+                for (InjectableBean<?> injectableBean : beans) {
+                    if (!injectableBean.isSuppressed()) {
+                        nonSuppressed.add(injectableBean);
+                    }
+                }
+                return List.copyOf(nonSuppressed);
             }
         }
-        nonSuppressed.sort(PRIORITY_COMPARATOR);
-        return List.copyOf(nonSuppressed);
+        // Most of the time no bean is suppressed and the list can be shared
+        return beans;
     }
 
     private static List<InjectableBean<?>> resolveAllBeans(Type requiredType, Set<Annotation> requiredQualifiers) {
@@ -14,6 +14,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,7 @@
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanDeployment;
 import io.quarkus.arc.processor.BeanDeploymentValidator;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BeanProcessor;
@@ -94,7 +96,7 @@ public static class Builder {
         private AlternativePriorities alternativePriorities;
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
-        private boolean optimizeContexts = false;
+        private BiPredicate<BeanDeployment, DotName> optimizeContexts = null;
         private final List<Predicate<ClassInfo>> excludeTypes;
 
         public Builder() {
@@ -228,7 +230,12 @@ public Builder strictCompatibility(boolean strictCompatibility) {
         }
 
         public Builder optimizeContexts(boolean value) {
-            this.optimizeContexts = value;
+            this.optimizeContexts = value ? (deployment, scope) -> true : null;
+            return this;
+        }
+
+        public Builder optimizeContexts(BiPredicate<BeanDeployment, DotName> predicate) {
+            this.optimizeContexts = predicate;
             return this;
         }
 
@@ -273,7 +280,7 @@ public ArcTestContainer build() {
     private final List<BuildCompatibleExtension> buildCompatibleExtensions;
 
     private final boolean strictCompatibility;
-    private final boolean optimizeContexts;
+    private final BiPredicate<BeanDeployment, DotName> optimizeContexts;
 
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
@@ -297,7 +304,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.alternativePriorities = null;
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
-        this.optimizeContexts = false;
+        this.optimizeContexts = null;
         this.excludeTypes = Collections.emptyList();
     }
 
@@ -441,8 +448,10 @@ private ClassLoader init(ExtensionContext context) {
                             new ConcurrentHashMap<>(), immutableBeanArchiveIndex))
                     .setApplicationIndex(applicationIndex)
                     .setBuildCompatibleExtensions(buildCompatibleExtensions)
-                    .setStrictCompatibility(strictCompatibility)
-                    .setOptimizeContexts(optimizeContexts);
+                    .setStrictCompatibility(strictCompatibility);
+            if (optimizeContexts != null) {
+                builder.setOptimizeContexts(optimizeContexts);
+            }
             if (!resourceAnnotations.isEmpty()) {
                 builder.addResourceAnnotations(resourceAnnotations.stream()
                         .map(c -> DotName.createSimple(c.getName()))
@@ -504,7 +513,7 @@ public void writeResource(Resource resource) throws IOException {
             // Now we are ready to initialize Arc
             ArcInitConfig.Builder initConfigBuilder = ArcInitConfig.builder();
             initConfigBuilder.setStrictCompatibility(strictCompatibility);
-            initConfigBuilder.setOptimizeContexts(optimizeContexts);
+            initConfigBuilder.setOptimizeContexts(optimizeContexts != null);
             Arc.initialize(initConfigBuilder.build());
 
         } catch (Throwable e) {
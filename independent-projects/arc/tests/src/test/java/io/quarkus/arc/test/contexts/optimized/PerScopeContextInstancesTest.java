@@ -0,0 +1,93 @@
+package io.quarkus.arc.test.contexts.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ComputingCacheContextInstances;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class PerScopeContextInstancesTest {
+
+    private static final String GENERATED_PREFIX = "io.quarkus.arc.generator."
+            + PerScopeContextInstancesTest.class.getName().replace('.', '_') + "_";
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class, Bim.class)
+            // only the request context is optimized
+            .optimizeContexts((deployment, scope) -> scope.equals(BuiltinScope.REQUEST.getName()))
+            .build();
+
+    @Test
+    public void testRequestContextOptimized() throws Exception {
+        ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            assertEquals("bam", container.instance(Boom.class).get().ping());
+
+            Object state = container.getActiveContext(RequestScoped.class).getState();
+            assertEquals(generatedName(RequestScoped.class), readField(state, "contextInstances").getClass().getName());
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    @Test
+    public void testApplicationContextNotOptimized() throws Exception {
+        ArcContainer container = Arc.container();
+        assertEquals("bam", container.instance(Bim.class).get().bam());
+
+        InjectableContext appContext = container.getActiveContext(ApplicationScoped.class);
+        assertEquals(ComputingCacheContextInstances.class,
+                readField(appContext, "instances").getClass());
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        assertThrows(ClassNotFoundException.class, () -> cl.loadClass(generatedName(ApplicationScoped.class)));
+    }
+
+    private static String generatedName(Class<?> scope) {
+        return GENERATED_PREFIX + scope.getName().replace('.', '_') + "_ContextInstances";
+    }
+
+    private static Object readField(Object target, String name) throws ReflectiveOperationException {
+        for (Class<?> clazz = target.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                Field field = clazz.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(target);
+            } catch (NoSuchFieldException e) {
+                // try the superclass
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    @RequestScoped
+    public static class Boom {
+
+        String ping() {
+            return "bam";
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Bim {
+
+        String bam() {
+            return "bam";
+        }
+
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.arc.test.event.fire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InjectedEventFireTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Publisher.class, Observers.class);
+
+    @Test
+    public void testFire() throws Exception {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        // Each publisher is a new dependent instance
+        for (int i = 0; i < 3; i++) {
+            observers.events.clear();
+            Arc.container().instance(Publisher.class).get().orders.fire(new Order("o" + i));
+            // The request context is activated for the sync observers
+            assertEquals(List.of("request", "first:o" + i, "second:o" + i + ":" + Order.class.getName()),
+                    observers.events);
+        }
+
+        observers.events.clear();
+        Publisher publisher = Arc.container().instance(Publisher.class).get();
+        publisher.payments.fire(new Payment());
+        // The only observer is async, the request context is not activated for the sync notification
+        assertTrue(observers.events.isEmpty());
+        assertFalse(Arc.container().requestContext().isActive());
+
+        publisher.payments.fireAsync(new Payment()).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertEquals(List.of("request", "payment"), observers.events);
+    }
+
+    @Dependent
+    static class Publisher {
+
+        @Inject
+        Event<Order> orders;
+
+        @Inject
+        Event<Payment> payments;
+
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void second(@Observes @Priority(2) Order order, EventMetadata metadata) {
+            events.add("second:" + order.id + ":" + metadata.getType().getTypeName());
+        }
+
+        void first(@Observes @Priority(1) Order order) {
+            events.add("first:" + order.id);
+        }
+
+        void payment(@ObservesAsync Payment payment) {
+            events.add("payment");
+        }
+
+        void requestInitialized(@Observes @Initialized(RequestScoped.class) Object event) {
+            events.add("request");
+        }
+
+    }
+
+    static class Order {
+
+        final String id;
+
+        Order(String id) {
+            this.id = id;
+        }
+
+    }
+
+    static class Payment {
+
+    }
+
+}
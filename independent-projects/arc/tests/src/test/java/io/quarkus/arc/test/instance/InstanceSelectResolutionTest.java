@@ -0,0 +1,120 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InstanceSelectResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, AlphaService.class, BravoService.class,
+            CharlieService.class, Special.class, Client.class);
+
+    @Test
+    public void testSelectFromInjectedInstance() {
+        // Repeated selections reuse the beans resolved for the injection point
+        for (int i = 0; i < 3; i++) {
+            Client client = Arc.container().instance(Client.class).get();
+            assertEquals("alpha", client.services.select(AlphaService.class).get().ping());
+            assertEquals("bravo", client.services.select(BravoService.class).get().ping());
+            assertEquals("charlie", client.services.select(Special.Literal.INSTANCE).get().ping());
+            assertEquals("charlie", client.services.select(CharlieService.class, Special.Literal.INSTANCE).get().ping());
+            assertEquals("charlie", client.services.select(CharlieService.class).get().ping());
+            assertTrue(client.services.select().isAmbiguous());
+            assertEquals("alpha", client.services.select().select(AlphaService.class).get().ping());
+            assertFalse(client.special.isUnsatisfied());
+            assertEquals("charlie", client.special.get().ping());
+            assertTrue(client.special.select(AlphaService.class).isUnsatisfied());
+            StringBuilder order = new StringBuilder();
+            for (Service service : client.services) {
+                order.append(service.ping()).append(':');
+            }
+            assertEquals("bravo:charlie:alpha:", order.toString());
+        }
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class AlphaService implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Priority(5)
+    @Singleton
+    static class BravoService implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Priority(1)
+    @Special
+    @Singleton
+    static class CharlieService implements Service {
+
+        @Override
+        public String ping() {
+            return "charlie";
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Special {
+
+        final class Literal extends AnnotationLiteral<Special> implements Special {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+    @Dependent
+    static class Client {
+
+        @Any
+        @Inject
+        Instance<Service> services;
+
+        @Special
+        @Inject
+        Instance<Service> special;
+
+    }
+
+}
@@ -80,6 +80,16 @@ public class QuarkusRestClientProperties {
      */
     public static final String ALPN = "io.quarkus.rest.client.alpn";
 
+    /**
+     * The maximum number of concurrent streams opened by the client on a single HTTP/2 connection.
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "io.quarkus.rest.client.http2-max-concurrent-streams";
+
+    /**
+     * Set to false to open clear text HTTP/2 connections with prior knowledge instead of an HTTP/1.1 upgrade.
+     */
+    public static final String HTTP2_CLEAR_TEXT_UPGRADE = "io.quarkus.rest.client.http2-clear-text-upgrade";
+
     /**
      * If set to true, the stacktrace of the invocation of the REST Client method is captured
      */
@@ -416,7 +416,9 @@ private boolean isResponseMultipart(RestClientRequestContext requestContext) {
     private void reportFinish(Throwable throwable, RestClientRequestContext requestContext) {
         ServiceInstance serviceInstance = requestContext.getCallStatsCollector();
         if (serviceInstance != null) {
-            serviceInstance.recordReply();
+            if (requestContext.isCallReplyRecorded()) {
+                serviceInstance.recordReply();
+            }
             serviceInstance.recordEnd(throwable);
         }
     }
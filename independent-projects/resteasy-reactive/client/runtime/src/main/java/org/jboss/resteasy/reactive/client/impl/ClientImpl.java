@@ -4,6 +4,8 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
@@ -90,6 +92,7 @@ public class ClientImpl implements Client {
 
     private static final int DEFAULT_CONNECT_TIMEOUT = 15000;
     private static final int DEFAULT_CONNECTION_POOL_SIZE = 20;
+    private static final String METRICS_TYPE = "rest-client";
 
     final ClientContext clientContext;
     final boolean closeVertx;
@@ -176,6 +179,16 @@ public Vertx get() {
             }
         }
 
+        Object maxConcurrentStreams = configuration.getProperty(HTTP2_MAX_CONCURRENT_STREAMS);
+        if (maxConcurrentStreams != null) {
+            options.setHttp2MultiplexingLimit((int) maxConcurrentStreams);
+        }
+
+        Object clearTextUpgrade = configuration.getProperty(HTTP2_CLEAR_TEXT_UPGRADE);
+        if (clearTextUpgrade != null) {
+            options.setHttp2ClearTextUpgrade((boolean) clearTextUpgrade);
+        }
+
         if (loggingScope == LoggingScope.ALL) {
             options.setLogActivity(true);
         }
@@ -192,6 +205,11 @@ public Vertx get() {
             options.setShared(true);
         }
 
+        if (options.getMetricsName() == null) {
+            // the connection pools are monitored by name, the requests are monitored by the REST Client itself
+            options.setMetricsName(METRICS_TYPE + "|" + options.getName());
+        }
+
         var httpClientBuilder = this.vertx.httpClientBuilder().with(options).with(options.getPoolOptions());
         AdvancedRedirectHandler advancedRedirectHandler = configuration.getFromContext(AdvancedRedirectHandler.class);
         if (advancedRedirectHandler != null) {
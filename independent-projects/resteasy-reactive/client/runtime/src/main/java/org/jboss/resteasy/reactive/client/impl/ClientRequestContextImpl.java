@@ -96,6 +96,11 @@ public void setCallStatsCollector(ServiceInstance statCollectingServiceInstance)
         restClientRequestContext.setCallStatsCollector(statCollectingServiceInstance);
     }
 
+    @Override
+    public void setCallStatsCollector(ServiceInstance statCollectingServiceInstance, boolean recordReply) {
+        restClientRequestContext.setCallStatsCollector(statCollectingServiceInstance, recordReply);
+    }
+
     @Override
     public Object getProperty(String name) {
         return restClientRequestContext.properties.get(name);
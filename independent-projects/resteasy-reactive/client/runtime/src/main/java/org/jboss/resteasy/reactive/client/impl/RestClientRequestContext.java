@@ -104,6 +104,7 @@ public class RestClientRequestContext extends AbstractResteasyReactiveContext<Re
     private List<InterfaceHttpData> responseMultiParts;
     private Response abortedWith;
     private ServiceInstance callStatsCollector;
+    private boolean callReplyRecorded;
     private Map<Class<?>, MultipartResponseData> multipartResponsesData;
     private StackTraceElement[] callerStackTrace;
 
@@ -559,13 +560,22 @@ public ClientRestHandler[] getAbortHandlerChainWithoutResponseFilters() {
     }
 
     public void setCallStatsCollector(ServiceInstance serviceInstance) {
+        setCallStatsCollector(serviceInstance, true);
+    }
+
+    public void setCallStatsCollector(ServiceInstance serviceInstance, boolean recordReply) {
         this.callStatsCollector = serviceInstance;
+        this.callReplyRecorded = recordReply;
     }
 
     public ServiceInstance getCallStatsCollector() {
         return callStatsCollector;
     }
 
+    public boolean isCallReplyRecorded() {
+        return callReplyRecorded;
+    }
+
     public Map<Class<?>, MultipartResponseData> getMultipartResponsesData() {
         return multipartResponsesData;
     }
@@ -77,8 +77,10 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
                                         null, uri.getQuery(), uri.getFragment());
                                 URI build = UriBuilder.fromUri(newUri).path(actualPath).build();
                                 requestContext.setUri(build);
-                                if (measureTime && instance.gatherStatistics()) {
-                                    requestContext.setCallStatsCollector(instance);
+                                if (instance.gatherStatistics()) {
+                                    // the end of the call is recorded even when its time is not measured,
+                                    // so the load balancer knows the outstanding requests
+                                    requestContext.setCallStatsCollector(instance, measureTime);
                                 }
                                 requestContext.resume();
                             } catch (URISyntaxException e) {
@@ -45,4 +45,15 @@ public interface ResteasyReactiveClientRequestContext extends ClientRequestConte
      * @param instance
      */
     void setCallStatsCollector(ServiceInstance instance);
+
+    /***
+     * Same as {@link #setCallStatsCollector(ServiceInstance)}, for calls whose response time is not necessarily measured.
+     * The default implementation ignores {@code recordReply} and records the reply as well.
+     *
+     * @param instance
+     * @param recordReply whether the reply of the call should be recorded, only its end is recorded otherwise
+     */
+    default void setCallStatsCollector(ServiceInstance instance, boolean recordReply) {
+        setCallStatsCollector(instance);
+    }
 }